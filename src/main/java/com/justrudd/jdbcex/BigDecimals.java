@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds {@link BigDecimal}s without going through their string form where the result
+ * is known to be identical, sharing instances for the small values that dominate money
+ * and quantity columns: 0 through 100 at scales 0 through 4 ({@code 0}, {@code 1.0},
+ * {@code 0.00}, {@code 100.00}, ...).
+ */
+final class BigDecimals {
+
+    /**
+     * @return {@code unscaled} &times; 10<sup>-{@code scale}</sup>, equal to (and with the
+     *          same scale as) {@link BigDecimal#valueOf(long, int)}
+     */
+    static BigDecimal valueOf(final long unscaled, final int scale) {
+        if (scale >= 0 && scale < CACHED_SCALES && unscaled >= 0 && unscaled <= MAX_CACHED_UNSCALED[scale]) {
+            final long power = POWERS_OF_TEN[scale];
+            if (unscaled % power == 0) {
+                return CACHE[scale][(int) (unscaled / power)];
+            }
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * @return {@code new BigDecimal(Double.toString(d))} if {@code d} is a whole number
+     *          rendered without an exponent, otherwise {@code null}
+     */
+    static BigDecimal fromWholeDouble(final double d) {
+        // Double.toString renders these as digits followed by ".0", so the scale is 1
+        if (d == (long) d && Math.abs(d) < PLAIN_NOTATION_LIMIT) {
+            return valueOf((long) d * 10, 1);
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code new BigDecimal(Float.toString(f))} if {@code f} is a whole number
+     *          rendered without an exponent, otherwise {@code null}
+     */
+    static BigDecimal fromWholeFloat(final float f) {
+        return fromWholeDouble(f);
+    }
+
+    /** Double.toString and Float.toString switch to computerized scientific notation from here. */
+    private static final double PLAIN_NOTATION_LIMIT = 1e7;
+
+    private static final int CACHED_SCALES = 5;
+    private static final int MAX_CACHED_VALUE = 100;
+
+    private static final long[] POWERS_OF_TEN = new long[CACHED_SCALES];
+    private static final long[] MAX_CACHED_UNSCALED = new long[CACHED_SCALES];
+    private static final BigDecimal[][] CACHE = new BigDecimal[CACHED_SCALES][MAX_CACHED_VALUE + 1];
+    static {
+        long power = 1;
+        for (int scale = 0; scale < CACHED_SCALES; scale++) {
+            POWERS_OF_TEN[scale] = power;
+            MAX_CACHED_UNSCALED[scale] = MAX_CACHED_VALUE * power;
+            for (int value = 0; value <= MAX_CACHED_VALUE; value++) {
+                CACHE[scale][value] = BigDecimal.valueOf(value * power, scale);
+            }
+            power *= 10;
+        }
+    }
+
+    private BigDecimals() { }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+/**
+ * Decodes the spellings of a boolean flag column: {@code true}/{@code false},
+ * {@code yes}/{@code no}, {@code on}/{@code off}, their initials and single digits,
+ * all compared ignoring ASCII case. Every text is matched in place, so decoding a
+ * {@link CharSequence} allocates nothing.
+ * <p>
+ * Ignoring case applies to the initials too, single characters included: {@code "Y"},
+ * {@code "T"}, {@code 'Y'} and {@code 'T'} decode as {@code true} and {@code "N"},
+ * {@code "F"}, {@code 'N'} and {@code 'F'} as {@code false}. Coercions used to recognise
+ * only lower case initials, and coerce upper case ones to empty.
+ * </p>
+ */
+final class BooleanParsers {
+
+    /**
+     * @return {@code true} or {@code false}, {@code false} for an empty text, or
+     *          {@code null} if {@code s} is none of the spellings
+     */
+    static Boolean parseBoolean(final CharSequence s) {
+        switch (s.length()) {
+            case 0:
+                return false;
+            case 1:
+                return parseBoolean(s.charAt(0));
+            case 2:
+                if (matches(s, "on")) {
+                    return true;
+                }
+                return matches(s, "no") ? Boolean.FALSE : null;
+            case 3:
+                if (matches(s, "yes")) {
+                    return true;
+                }
+                return matches(s, "off") ? Boolean.FALSE : null;
+            case 4:
+                return matches(s, "true") ? Boolean.TRUE : null;
+            case 5:
+                return matches(s, "false") ? Boolean.FALSE : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return {@code true} or {@code false}, or {@code null} if {@code c} is none of the
+     *          initials or digits
+     */
+    static Boolean parseBoolean(final char c) {
+        switch (c | CASE_BIT) {
+            case 't':
+            case 'y':
+                return true;
+            case 'f':
+            case 'n':
+                return false;
+            default:
+                if (Character.isDigit(c)) {
+                    return Character.digit(c, 10) != 0;
+                }
+                return null;
+        }
+    }
+
+    /**
+     * @param lowerCase
+     *          ASCII letters in lower case, of the same length as {@code s}
+     */
+    private static boolean matches(final CharSequence s, final String lowerCase) {
+        for (int i = 0; i < lowerCase.length(); i++) {
+            // setting the case bit of anything but an ASCII letter cannot produce one
+            if ((s.charAt(i) | CASE_BIT) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The bit which differs between an upper and a lower case ASCII letter. */
+    private static final int CASE_BIT = 0x20;
+
+    private BooleanParsers() { }
+}
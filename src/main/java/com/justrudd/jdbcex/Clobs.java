@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Reads the text of a {@link Clob} in one pass over {@link Clob#getCharacterStream()}, rather than
+ * asking for its {@link Clob#length() length} and then a {@link Clob#getSubString(long, int) copy}
+ * of it.
+ * <p>
+ * Characters are moved through a per thread chunk, or straight into the array behind a heap
+ * {@link CharBuffer}, so reading into a caller's buffer allocates nothing but what the driver does.
+ * Every LOB is {@link Clob#free() freed} once read, even if reading fails.
+ * </p>
+ */
+final class Clobs {
+
+    static String toString(final Clob clob) throws SQLException {
+        if (clob == null) {
+            return null;
+        }
+        final StringBuilder text = new StringBuilder(INITIAL_CHARS);
+        append(clob, text);
+        return text.toString();
+    }
+
+    /**
+     * @return the number of characters appended to {@code text}, or {@code -1} if {@code clob}
+     *          is {@code null}
+     */
+    static int readInto(final Clob clob, final StringBuilder text) throws SQLException {
+        if (clob == null) {
+            return -1;
+        }
+        return append(clob, text);
+    }
+
+    /**
+     * @return the number of characters read into {@code buffer}, at most its remaining space;
+     *          {@code -1} if {@code clob} is {@code null}, or {@link #TRUNCATED} if the text did not
+     *          fit and {@code buffer} was filled with as much of it as did
+     */
+    static int readInto(final Clob clob, final CharBuffer buffer) throws SQLException {
+        if (clob == null) {
+            return -1;
+        }
+        try (Reader reader = clob.getCharacterStream()) {
+            final int start = buffer.position();
+            if (buffer.hasArray()) {
+                final char[] array = buffer.array();
+                final int offset = buffer.arrayOffset();
+                int n;
+                while (buffer.hasRemaining()
+                        && (n = reader.read(array, offset + buffer.position(), buffer.remaining())) != -1) {
+                    buffer.position(buffer.position() + n);
+                }
+            }
+            else {
+                final char[] chunk = CHUNK.get();
+                int n;
+                while (buffer.hasRemaining()
+                        && (n = reader.read(chunk, 0, Math.min(chunk.length, buffer.remaining()))) != -1) {
+                    buffer.put(chunk, 0, n);
+                }
+            }
+            return buffer.hasRemaining() || reader.read() == -1
+                    ? buffer.position() - start
+                    : TRUNCATED;
+        }
+        catch (IOException ex) {
+            throw new SQLException("could not read the CLOB", ex);
+        }
+        finally {
+            free(clob);
+        }
+    }
+
+    private static int append(final Clob clob, final StringBuilder text) throws SQLException {
+        try (Reader reader = clob.getCharacterStream()) {
+            final char[] chunk = CHUNK.get();
+            int count = 0;
+            int n;
+            while ((n = reader.read(chunk)) != -1) {
+                text.append(chunk, 0, n);
+                count += n;
+            }
+            return count;
+        }
+        catch (IOException ex) {
+            throw new SQLException("could not read the CLOB", ex);
+        }
+        finally {
+            free(clob);
+        }
+    }
+
+    /** Releases {@code clob}; drivers older than JDBC 4.0 have nothing to release. */
+    private static void free(final Clob clob) throws SQLException {
+        try {
+            clob.free();
+        }
+        catch (SQLFeatureNotSupportedException | AbstractMethodError ignored) {
+            // the driver holds no resources it lets us release
+        }
+    }
+
+    /** What {@link #readInto(Clob, CharBuffer)} returns when the text is longer than the buffer. */
+    static final int TRUNCATED = -2;
+
+    private static final int CHUNK_CHARS = 8192;
+    private static final int INITIAL_CHARS = 256;
+
+    private static final ThreadLocal<char[]> CHUNK = ThreadLocal.withInitial(() -> new char[CHUNK_CHARS]);
+
+    private Clobs() { }
+}
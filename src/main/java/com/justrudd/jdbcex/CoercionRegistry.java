@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+import com.justrudd.jdbcex.typeof.TypeSwitch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Converters from the objects a driver returns to the types an application wants,
+ * used by {@link ResultSetEx#getCoerced(int, Class)} and its overloads.
+ * <p>
+ * A value is coerced into a target type by the first of the following which applies
+ * to its runtime class:
+ * </p>
+ * <ol>
+ *     <li>the value is already an instance of the target type and is returned as is</li>
+ *     <li>the most recently registered converter for the target type whose source type
+ *         the value is an instance of</li>
+ *     <li>the built in coercion for the target type, as done by the {@code getCoercedX}
+ *         methods of {@link ResultSetEx}</li>
+ * </ol>
+ * <p>
+ * If none applies, or the converter returns {@code null}, the coercion is
+ * {@link Optional#empty() empty}. Which of the above applies is resolved once per
+ * runtime class and target type and cached, so a steady state coercion costs two
+ * hash lookups plus the converter itself. Registering a converter
+ * discards the cache, so registrations are meant to happen at start up.
+ * </p>
+ * <p>
+ * Registries are thread-safe.
+ * </p>
+ */
+public final class CoercionRegistry {
+
+    /**
+     * @return the registry used by {@link ResultSetEx#getCoerced(int, Class)}; converters
+     *          registered with it are visible to every result set
+     */
+    public static CoercionRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return a new registry with only the built in coercions
+     */
+    public static CoercionRegistry create() {
+        return new CoercionRegistry();
+    }
+
+    /**
+     * Registers a converter from values of {@code sourceType}, including subtypes, into
+     * {@code targetType}. It takes precedence over the built in coercions and over every
+     * converter registered before it.
+     * @param sourceType
+     *          the type of the values the converter accepts
+     * @param targetType
+     *          the type the converter produces; primitive types are registered as their wrapper
+     * @param converter
+     *          the conversion, which returns {@code null} for values it cannot convert
+     * @return
+     *          this registry
+     */
+    public <S, T> CoercionRegistry register(final Class<S> sourceType,
+                                            final Class<T> targetType,
+                                            final Function<? super S, ? extends T> converter) {
+        final Rule rule = new Rule(requireNonNull(sourceType, "sourceType"),
+                                   wrap(requireNonNull(targetType, "targetType")),
+                                   requireNonNull(converter, "converter"));
+        synchronized (this) {
+            final List<Rule> newRules = new ArrayList<>(rules.size() + 1);
+            newRules.add(rule);
+            newRules.addAll(rules);
+            rules = Collections.unmodifiableList(newRules);
+            cache = new Cache(rules);
+        }
+        return this;
+    }
+
+    /**
+     * @param value
+     *          the value to coerce; may be {@code null}
+     * @param targetType
+     *          the type to coerce it into
+     * @return
+     *          the coerced value, or {@link Optional#empty() empty} if {@code value} is
+     *          {@code null} or cannot be coerced into {@code targetType}
+     */
+    public <T> Optional<T> coerce(final Object value, final Class<T> targetType) {
+        if (value == null) {
+            return empty();
+        }
+        return ofNullable(coerceOrNull(value, wrap(targetType)));
+    }
+
+    /**
+     * {@link #coerce(Object, Class)} without the {@link Optional}, for callers which read
+     * many values.
+     * @param targetType
+     *          the type to coerce into, already {@link #wrap(Class) wrapped}
+     * @return
+     *          the coerced value, or {@code null} if {@code value} is {@code null} or cannot
+     *          be coerced
+     */
+    <T> T coerceOrNull(final Object value, final Class<T> targetType) {
+        if (value == null) {
+            return null;
+        }
+
+        final Function<Object, ?> converter = cache.get(value.getClass(), targetType);
+        if (!CoercionTelemetry.isEnabled()) {
+            return targetType.cast(converter.apply(value));
+        }
+        final long start = System.nanoTime();
+        final T coerced = targetType.cast(converter.apply(value));
+        CoercionTelemetry.record(value.getClass(), targetType, coerced != null, System.nanoTime() - start);
+        return coerced;
+    }
+
+    /**
+     * @param targetType
+     *          the type to coerce into, already {@link #wrap(Class) wrapped}
+     * @return
+     *          {@code true} if a registered converter, rather than a built in coercion,
+     *          coerces values of {@code sourceType} into {@code targetType}
+     */
+    boolean isRegistered(final Class<?> sourceType, final Class<?> targetType) {
+        if (targetType.isAssignableFrom(sourceType)) {
+            return false;
+        }
+        for (final Rule rule : cache.rules) {
+            if (rule.targetType == targetType && rule.sourceType.isAssignableFrom(sourceType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** A registered converter, erased to what the cache hands values of the source type. */
+    private static final class Rule {
+        @SuppressWarnings("unchecked")
+        Rule(final Class<?> sourceType, final Class<?> targetType, final Function<?, ?> converter) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = (Function<Object, ?>) converter;
+        }
+
+        final Class<?> sourceType;
+        final Class<?> targetType;
+        final Function<Object, ?> converter;
+    }
+
+    /**
+     * The resolved converters of one generation of rules, by target type and then source
+     * type. Plain maps owned by the cache let a discarded generation be collected with its
+     * rules; a class value here would be kept by the class it is computed for, which for
+     * the JDK types coerced is never unloaded.
+     */
+    private static final class Cache {
+        Cache(final List<Rule> rules) {
+            this.rules = rules;
+        }
+
+        Function<Object, ?> get(final Class<?> sourceType, final Class<?> targetType) {
+            ConcurrentMap<Class<?>, Function<Object, ?>> bySource = byTarget.get(targetType);
+            if (bySource == null) {
+                bySource = byTarget.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+            }
+            final Function<Object, ?> converter = bySource.get(sourceType);
+            return converter != null
+                    ? converter
+                    : bySource.computeIfAbsent(sourceType, type -> resolve(sourceType, targetType));
+        }
+
+        private Function<Object, ?> resolve(final Class<?> sourceType, final Class<?> targetType) {
+            if (targetType.isAssignableFrom(sourceType)) {
+                return Function.identity();
+            }
+            for (final Rule rule : rules) {
+                if (rule.targetType == targetType && rule.sourceType.isAssignableFrom(sourceType)) {
+                    return rule.converter;
+                }
+            }
+            final TypeSwitch<Object, ?> builtIn = Coercions.coercionTo(targetType);
+            if (builtIn != null && builtIn.handles(sourceType)) {
+                // the case itself, so a hit skips the switch's own lookup too
+                return builtIn.resolve(sourceType);
+            }
+            if (targetType.isEnum()) {
+                return enumLookup(targetType)::get;
+            }
+            return NONE;
+        }
+
+        private final List<Rule> rules;
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Function<Object, ?>>> byTarget =
+                new ConcurrentHashMap<>();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static EnumLookup<?> enumLookup(final Class<?> enumType) {
+        return EnumLookup.of((Class<Enum>) enumType);
+    }
+
+    /** @return the wrapper of a primitive {@code type}, or {@code type} itself */
+    @SuppressWarnings("unchecked")
+    static <T> Class<T> wrap(final Class<T> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return (Class<T>) Integer.class;
+        }
+        if (type == long.class) {
+            return (Class<T>) Long.class;
+        }
+        if (type == double.class) {
+            return (Class<T>) Double.class;
+        }
+        if (type == float.class) {
+            return (Class<T>) Float.class;
+        }
+        if (type == boolean.class) {
+            return (Class<T>) Boolean.class;
+        }
+        if (type == short.class) {
+            return (Class<T>) Short.class;
+        }
+        if (type == byte.class) {
+            return (Class<T>) Byte.class;
+        }
+        if (type == char.class) {
+            return (Class<T>) Character.class;
+        }
+        return (Class<T>) Void.class;
+    }
+
+    private static final Function<Object, ?> NONE = v -> null;
+    private static final CoercionRegistry DEFAULT = new CoercionRegistry();
+
+    private CoercionRegistry() { }
+
+    private List<Rule> rules = Collections.emptyList();
+    private volatile Cache cache = new Cache(rules);
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * The outcome of one {@code tryCoerceX} call on a {@link ResultSetEx}, which tells a
+ * column that was SQL <code>NULL</code> apart from one whose value could not be coerced,
+ * and why, without reading the column twice.
+ * <p>
+ * A result is mutable and meant to be reused: the caller creates one per column, or per
+ * target type, and passes it to every call, which overwrites it and returns it. Reusing
+ * it that way allocates nothing beyond the coerced value itself. It is not thread-safe.
+ * </p>
+ * <pre>
+ *     final CoercionResult&lt;Long&gt; quantity = new CoercionResult&lt;&gt;();
+ *     while (rs.next()) {
+ *         if (rs.tryCoerceLong("quantity", quantity).isFailed()) {
+ *             log.warn("bad quantity {} in {}", quantity.getFailure(), quantity.getSourceType());
+ *         }
+ *         ...
+ *     }
+ * </pre>
+ * @param <T>
+ *          the type coerced into
+ */
+public final class CoercionResult<T> {
+
+    /** Why a value that was not SQL <code>NULL</code> could not be coerced. */
+    public enum Failure {
+        /** The coercion did not fail. */
+        NONE,
+        /** Nothing coerces values of the column's runtime class into the target type. */
+        UNSUPPORTED_TYPE,
+        /** Values of the column's runtime class can be coerced, but not this one; a malformed string, say. */
+        INVALID_VALUE
+    }
+
+    /**
+     * Creates a result which, until it is first passed to a {@code tryCoerceX} call,
+     * reports SQL <code>NULL</code>.
+     */
+    public CoercionResult() {
+        setNull();
+    }
+
+    /**
+     * @return {@code true} if the value was coerced
+     */
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * @return {@code true} if the column was SQL <code>NULL</code>
+     */
+    public boolean isNull() {
+        return sourceType == null;
+    }
+
+    /**
+     * @return {@code true} if the column had a value which could not be coerced
+     */
+    public boolean isFailed() {
+        return failure != Failure.NONE;
+    }
+
+    /**
+     * @return the coerced value
+     * @throws NoSuchElementException
+     *          if the column was SQL <code>NULL</code> or could not be coerced
+     */
+    public T get() {
+        if (value == null) {
+            throw new NoSuchElementException(isNull() ? "SQL NULL" : "coercion failed: " + failure);
+        }
+        return value;
+    }
+
+    /**
+     * @return the coerced value, or {@code other} if the column was SQL <code>NULL</code>
+     *          or could not be coerced
+     */
+    public T orElse(final T other) {
+        return value != null ? value : other;
+    }
+
+    /**
+     * @return why the value could not be coerced, or {@link Failure#NONE} if it was
+     *          coerced or SQL <code>NULL</code>
+     */
+    public Failure getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return the runtime class of the column value, or {@code null} if it was SQL
+     *          <code>NULL</code>
+     */
+    public Class<?> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * @return the coerced value, or {@link Optional#empty() empty} if the column was SQL
+     *          <code>NULL</code> or could not be coerced
+     */
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public String toString() {
+        if (value != null) {
+            return "CoercionResult[" + value + "]";
+        }
+        return isNull() ? "CoercionResult[NULL]" : "CoercionResult[" + failure + " " + sourceType.getName() + "]";
+    }
+
+    CoercionResult<T> setValue(final T value, final Class<?> sourceType) {
+        this.value = value;
+        this.sourceType = sourceType;
+        this.failure = Failure.NONE;
+        return this;
+    }
+
+    CoercionResult<T> setNull() {
+        this.value = null;
+        this.sourceType = null;
+        this.failure = Failure.NONE;
+        return this;
+    }
+
+    CoercionResult<T> setFailure(final Failure failure, final Class<?> sourceType) {
+        this.value = null;
+        this.sourceType = sourceType;
+        this.failure = failure;
+        return this;
+    }
+
+    private T value;
+    private Class<?> sourceType;
+    private Failure failure;
+}
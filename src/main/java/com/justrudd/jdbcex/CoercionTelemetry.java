@@ -0,0 +1,259 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters of the coercions done by the {@code getCoercedX} methods of
+ * {@link ResultSetEx} and by {@link CoercionRegistry}, kept per runtime class of the
+ * value coerced and type coerced into. They show which columns are coerced from
+ * strings, say, and how often a coercion comes back empty for a value that was not
+ * {@code null}. Columns which the {@code getCoercedX} methods read with a typed getter, such
+ * as {@code getLong}, are counted as coercions of the class {@code getObject} would have
+ * returned, timed around the getter.
+ * <p>
+ * Telemetry is off until {@link #enable() enabled}; while it is off a coercion costs
+ * one extra read of a flag. While it is on, each coercion of a non-{@code null} value
+ * adds a success or a failure and the nanoseconds it took to {@link LongAdder}s, which
+ * spread concurrent updates over cells instead of contending on one counter. Counters
+ * are created on first use and kept until {@link #reset()}.
+ * </p>
+ */
+public final class CoercionTelemetry {
+
+    /**
+     * Starts counting coercions, which are added to any counts kept so far.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops counting coercions; the counts kept so far remain available.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return {@code true} if coercions are being counted
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Discards every count. Coercions in flight on other threads may still be added to
+     * the discarded counters.
+     */
+    public static void reset() {
+        synchronized (CoercionTelemetry.class) {
+            counters = new Counters();
+        }
+    }
+
+    /**
+     * @return the counts of every pair of source and target type coerced since the last
+     *          {@link #reset()}. The counts of a pair are read one after the other while
+     *          coercions may continue, so they are not an atomic snapshot of each other
+     */
+    public static List<Counts> snapshot() {
+        final List<Counts> snapshot = new ArrayList<>();
+        for (final Counter counter : counters.all()) {
+            snapshot.add(new Counts(counter.sourceType, counter.targetType,
+                                    counter.successes.sum(), counter.failures.sum(), counter.nanos.sum()));
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * Adds one coercion of a value of {@code sourceType} into {@code targetType}.
+     * @param succeeded
+     *          {@code false} if the coercion had no result
+     */
+    static void record(final Class<?> sourceType, final Class<?> targetType, final boolean succeeded,
+                       final long nanos) {
+        final Counter counter = counters.get(sourceType, targetType);
+        (succeeded ? counter.successes : counter.failures).increment();
+        counter.nanos.add(nanos);
+    }
+
+    /**
+     * Starts timing a coercion which reads a column with a typed getter instead of going
+     * through {@link Coercions}.
+     * @return the start to pass to {@link #recordTyped(long, Class, Class, boolean)}, or
+     *          {@link #NOT_TIMED} while telemetry is off
+     */
+    static long startTyped() {
+        return enabled ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Adds the typed read started at {@code start} as a successful coercion of a value of
+     * {@code sourceType}, the class {@code getObject} would have returned. Nothing is added
+     * for SQL <code>NULL</code> or if telemetry was off when the read started.
+     */
+    static void recordTyped(final long start, final Class<?> sourceType, final Class<?> targetType,
+                            final boolean isNull) {
+        if (start != NOT_TIMED && !isNull) {
+            record(sourceType, targetType, true, System.nanoTime() - start);
+        }
+    }
+
+    /** The counts of coercions of one source type into one target type. */
+    public static final class Counts {
+        Counts(final Class<?> sourceType, final Class<?> targetType,
+               final long successes, final long failures, final long nanos) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.successes = successes;
+            this.failures = failures;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return the runtime class of the values coerced
+         */
+        public Class<?> getSourceType() {
+            return sourceType;
+        }
+
+        /**
+         * @return the type the values were coerced into
+         */
+        public Class<?> getTargetType() {
+            return targetType;
+        }
+
+        /**
+         * @return the number of coercions which had a result
+         */
+        public long getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * @return the number of coercions which had no result although the value was not
+         *          {@code null}
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the nanoseconds spent in all of the coercions, successful or not
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the fraction of coercions which failed, or 0 if there were none
+         */
+        public double getFailureRate() {
+            final long total = successes + failures;
+            return total == 0 ? 0.0d : (double) failures / total;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Counts)) {
+                return false;
+            }
+            final Counts other = (Counts) o;
+            return sourceType == other.sourceType && targetType == other.targetType
+                    && successes == other.successes && failures == other.failures && nanos == other.nanos;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceType, targetType, successes, failures, nanos);
+        }
+
+        @Override
+        public String toString() {
+            return sourceType.getName() + " -> " + targetType.getName()
+                    + ": " + successes + " succeeded, " + failures + " failed, " + nanos + "ns";
+        }
+
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        private final long successes;
+        private final long failures;
+        private final long nanos;
+    }
+
+    private static final class Counter {
+        Counter(final Class<?> sourceType, final Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        final Class<?> sourceType;
+        final Class<?> targetType;
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    /**
+     * One generation of counters, by target type and then source type. Plain maps owned
+     * by the generation find a counter without allocating and let a discarded generation
+     * be collected with everything in it; a class value here would be kept by the class
+     * it is computed for, which for the JDK types coerced is never unloaded.
+     */
+    private static final class Counters {
+        Counter get(final Class<?> sourceType, final Class<?> targetType) {
+            ConcurrentMap<Class<?>, Counter> bySource = byTarget.get(targetType);
+            if (bySource == null) {
+                bySource = byTarget.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+            }
+            final Counter counter = bySource.get(sourceType);
+            return counter != null
+                    ? counter
+                    : bySource.computeIfAbsent(sourceType, type -> new Counter(sourceType, targetType));
+        }
+
+        List<Counter> all() {
+            final List<Counter> all = new ArrayList<>();
+            for (final ConcurrentMap<Class<?>, Counter> bySource : byTarget.values()) {
+                all.addAll(bySource.values());
+            }
+            return all;
+        }
+
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Counter>> byTarget =
+                new ConcurrentHashMap<>();
+    }
+
+    /** What {@link #startTyped()} returns while telemetry is off. */
+    static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private CoercionTelemetry() { }
+
+    private static volatile boolean enabled;
+    private static volatile Counters counters = new Counters();
+}
@@ -14,11 +14,11 @@
 
 package com.justrudd.jdbcex;
 
-import static com.justrudd.jdbcex.typeof.TypeOf.whenTypeOf;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 import static java.util.function.Function.identity;
 
+import com.justrudd.jdbcex.typeof.TypeSwitch;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -28,8 +28,14 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 final class Coercions {
@@ -39,21 +45,7 @@ final class Coercions {
             return empty();
         }
 
-        final BigDecimal result =
-                whenTypeOf(o)
-                    .is(BigDecimal.class).thenReturn(identity())
-                    .is(BigInteger.class).thenReturn(BigDecimal::new)
-                    .is(Byte.class).thenReturn(v -> new BigDecimal(v.longValue()))
-                    .is(Short.class).thenReturn(v -> new BigDecimal(v.longValue()))
-                    .is(Integer.class).thenReturn(v -> new BigDecimal(v.longValue()))
-                    .is(Long.class).thenReturn(v -> new BigDecimal(v.longValue()))
-                    .is(Number.class).thenReturn(v -> Conv.stringToBigDecimal(v.toString()))
-                    .is(Boolean.class).thenReturn(v -> v ? BigDecimal.ONE : BigDecimal.ZERO)
-                    .is(Character.class).thenReturn(Conv::characterToBigDecimal)
-                    .is(String.class).thenReturn(Conv::stringToBigDecimal)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_BIG_DECIMAL, BigDecimal.class, o));
     }
 
     static Optional<BigInteger> coerceToBigInteger(final Object o) {
@@ -61,17 +53,7 @@ final class Coercions {
             return empty();
         }
 
-        final BigInteger result =
-                whenTypeOf(o)
-                    .is(BigInteger.class).thenReturn(identity())
-                    .is(BigDecimal.class).thenReturn(BigDecimal::toBigInteger)
-                    .is(Number.class).thenReturn(v -> BigInteger.valueOf(v.longValue()))
-                    .is(Boolean.class).thenReturn(v -> v ? BigInteger.ONE : BigInteger.ZERO)
-                    .is(Character.class).thenReturn(Conv::characterToBigInteger)
-                    .is(String.class).thenReturn(Conv::stringToBigInteger)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_BIG_INTEGER, BigInteger.class, o));
     }
 
     static Optional<Boolean> coerceToBoolean(final Object o) {
@@ -79,15 +61,11 @@ final class Coercions {
             return empty();
         }
 
-        final Boolean result =
-                whenTypeOf(o)
-                    .is(Boolean.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(v -> v.intValue() != 0)
-                    .is(Character.class).thenReturn(Conv::characterToBoolean)
-                    .is(String.class).thenReturn(Conv::stringToBoolean)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        final Boolean b = coerce(TO_BOOLEAN, Boolean.class, o);
+        if (b == null) {
+            return empty();
+        }
+        return b ? OPTIONAL_TRUE : OPTIONAL_FALSE;
     }
 
     static Optional<Byte> coerceToByte(final Object o) {
@@ -95,16 +73,7 @@ final class Coercions {
             return empty();
         }
 
-        final Byte result =
-                whenTypeOf(o)
-                    .is(Byte.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::byteValue)
-                    .is(Boolean.class).thenReturn(v -> v ? (byte)1 : 0)
-                    .is(Character.class).thenReturn(Conv::characterToByte)
-                    .is(String.class).thenReturn(Conv::stringToByte)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_BYTE, Byte.class, o));
     }
 
     static Optional<Character> coerceToCharacter(final Object o) {
@@ -112,14 +81,7 @@ final class Coercions {
             return empty();
         }
 
-        final Character result =
-                whenTypeOf(o)
-                    .is(Character.class).thenReturn(identity())
-                    .is(String.class).thenReturn(v -> v.length() == 1 ? v.charAt(0) : null)
-                    .is(Boolean.class).thenReturn(v -> v ? 't' : 'f')
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_CHARACTER, Character.class, o));
     }
 
     static Optional<Double> coerceToDouble(final Object o) {
@@ -127,16 +89,22 @@ final class Coercions {
             return empty();
         }
 
-        final Double result =
-                whenTypeOf(o)
-                    .is(Double.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::doubleValue)
-                    .is(Boolean.class).thenReturn(v -> v ? 1.0d : 0.0d)
-                    .is(Character.class).thenReturn(Conv::characterToDouble)
-                    .is(String.class).thenReturn(Conv::stringToDouble)
-                    .orElse(Conv::nullValue);
+        return ofNullable(coerce(TO_DOUBLE, Double.class, o));
+    }
+
+    /**
+     * Primitive counterpart of {@link #coerceToDouble(Object)}; {@link Number} values are
+     * converted without boxing.
+     */
+    static double coerceToDouble(final Object o, final double defaultValue) {
+        // while telemetry is on, numbers are counted by going through the switch, which
+        // converts them the same way
+        if (o instanceof Number && !CoercionTelemetry.isEnabled()) {
+            return ((Number) o).doubleValue();
+        }
 
-        return ofNullable(result);
+        final Double value = o == null ? null : coerce(TO_DOUBLE, Double.class, o);
+        return value == null ? defaultValue : value;
     }
 
     static Optional<Float> coerceToFloat(final Object o) {
@@ -144,16 +112,7 @@ final class Coercions {
             return empty();
         }
 
-        final Float result =
-                whenTypeOf(o)
-                    .is(Float.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::floatValue)
-                    .is(Boolean.class).thenReturn(v -> v ? 1.0f : 0.0f)
-                    .is(Character.class).thenReturn(Conv::characterToFloat)
-                    .is(String.class).thenReturn(Conv::stringToFloat)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_FLOAT, Float.class, o));
     }
 
     static Optional<Instant> coerceToInstant(final Object o) {
@@ -161,16 +120,7 @@ final class Coercions {
             return empty();
         }
 
-        final Instant result =
-                whenTypeOf(o)
-                    .is(Instant.class).thenReturn(identity())
-                    .is(Timestamp.class).thenReturn(Timestamp::toInstant)
-                    .is(Integer.class).thenReturn(i -> Instant.ofEpochSecond(i.longValue()))
-                    .is(Long.class).thenReturn(Instant::ofEpochMilli)
-                    .is(String.class).thenReturn(Conv::stringToInstant)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_INSTANT, Instant.class, o));
     }
 
     static Optional<Integer> coerceToInteger(final Object o) {
@@ -178,16 +128,22 @@ final class Coercions {
             return empty();
         }
 
-        final Integer result =
-                whenTypeOf(o)
-                    .is(Integer.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::intValue)
-                    .is(Boolean.class).thenReturn(v -> v ? 1 : 0)
-                    .is(Character.class).thenReturn(Conv::characterToInteger)
-                    .is(String.class).thenReturn(Conv::stringToInteger)
-                    .orElse(Conv::nullValue);
+        return ofNullable(coerce(TO_INTEGER, Integer.class, o));
+    }
+
+    /**
+     * Primitive counterpart of {@link #coerceToInteger(Object)}; {@link Number} values are
+     * converted without boxing.
+     */
+    static int coerceToInteger(final Object o, final int defaultValue) {
+        // while telemetry is on, numbers are counted by going through the switch, which
+        // converts them the same way
+        if (o instanceof Number && !CoercionTelemetry.isEnabled()) {
+            return ((Number) o).intValue();
+        }
 
-        return ofNullable(result);
+        final Integer value = o == null ? null : coerce(TO_INTEGER, Integer.class, o);
+        return value == null ? defaultValue : value;
     }
 
     static Optional<LocalDate> coerceToLocalDate(final Object o) {
@@ -195,15 +151,7 @@ final class Coercions {
             return empty();
         }
 
-        final LocalDate result =
-                whenTypeOf(o)
-                    .is(LocalDate.class).thenReturn(identity())
-                    .is(Date.class).thenReturn(Date::toLocalDate)
-                    .is(Timestamp.class).thenReturn(ts -> ts.toLocalDateTime().toLocalDate())
-                    .is(String.class).thenReturn(Conv::stringToLocalDate)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_LOCAL_DATE, LocalDate.class, o));
     }
 
     static Optional<LocalDateTime> coerceToLocalDateTime(final Object o) {
@@ -211,15 +159,7 @@ final class Coercions {
             return empty();
         }
 
-        final LocalDateTime result =
-                whenTypeOf(o)
-                    .is(LocalDateTime.class).thenReturn(identity())
-                    .is(Timestamp.class).thenReturn(Timestamp::toLocalDateTime)
-                    .is(Date.class).thenReturn(d -> LocalDateTime.of(d.toLocalDate(), LocalTime.MIDNIGHT))
-                    .is(String.class).thenReturn(Conv::stringToLocalDateTime)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_LOCAL_DATE_TIME, LocalDateTime.class, o));
     }
 
     static Optional<LocalTime> coerceToLocalTime(final Object o) {
@@ -227,15 +167,7 @@ final class Coercions {
             return empty();
         }
 
-        final LocalTime result =
-                whenTypeOf(o)
-                    .is(LocalTime.class).thenReturn(identity())
-                    .is(Time.class).thenReturn(Time::toLocalTime)
-                    .is(Timestamp.class).thenReturn(ts -> ts.toLocalDateTime().toLocalTime())
-                    .is(String.class).thenReturn(Conv::stringToLocalTime)
-                    .orElse(Conv::nullValue);
-
-        return ofNullable(result);
+        return ofNullable(coerce(TO_LOCAL_TIME, LocalTime.class, o));
     }
 
     static Optional<Long> coerceToLong(final Object o) {
@@ -243,16 +175,30 @@ final class Coercions {
             return empty();
         }
 
-        final Long result =
-                whenTypeOf(o)
-                    .is(Long.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::longValue)
-                    .is(Boolean.class).thenReturn(v -> v ? (long) 1 : 0)
-                    .is(Character.class).thenReturn(Conv::characterToLong)
-                    .is(String.class).thenReturn(Conv::stringToLong)
-                    .orElse(Conv::nullValue);
+        return ofNullable(coerce(TO_LONG, Long.class, o));
+    }
+
+    /**
+     * Primitive counterpart of {@link #coerceToLong(Object)}; {@link Number} values are
+     * converted without boxing.
+     */
+    static long coerceToLong(final Object o, final long defaultValue) {
+        // while telemetry is on, numbers are counted by going through the switch, which
+        // converts them the same way
+        if (o instanceof Number && !CoercionTelemetry.isEnabled()) {
+            return ((Number) o).longValue();
+        }
+
+        final Long value = o == null ? null : coerce(TO_LONG, Long.class, o);
+        return value == null ? defaultValue : value;
+    }
 
-        return ofNullable(result);
+    static Optional<OffsetDateTime> coerceToOffsetDateTime(final Object o) {
+        if (o == null) {
+            return empty();
+        }
+
+        return ofNullable(coerce(TO_OFFSET_DATE_TIME, OffsetDateTime.class, o));
     }
 
     static Optional<Short> coerceToShort(final Object o) {
@@ -260,22 +206,165 @@ final class Coercions {
             return empty();
         }
 
-        final Short result =
-                whenTypeOf(o)
-                    .is(Short.class).thenReturn(identity())
-                    .is(Number.class).thenReturn(Number::shortValue)
-                    .is(Boolean.class).thenReturn(v -> v ? (short) 1 : 0)
-                    .is(Character.class).thenReturn(Conv::characterToShort)
-                    .is(String.class).thenReturn(Conv::stringToShort)
-                    .orElse(Conv::nullValue);
+        return ofNullable(coerce(TO_SHORT, Short.class, o));
+    }
+
+    static Optional<UUID> coerceToUUID(final Object o) {
+        if (o == null) {
+            return empty();
+        }
+
+        return ofNullable(coerce(TO_UUID, UUID.class, o));
+    }
+
+    static Optional<ZonedDateTime> coerceToZonedDateTime(final Object o) {
+        if (o == null) {
+            return empty();
+        }
+
+        return ofNullable(coerce(TO_ZONED_DATE_TIME, ZonedDateTime.class, o));
+    }
+
+    static CoercionResult<BigDecimal> tryCoerceToBigDecimal(final Object o, final CoercionResult<BigDecimal> result) {
+        return tryCoerce(TO_BIG_DECIMAL, BigDecimal.class, o, result);
+    }
+
+    static CoercionResult<BigInteger> tryCoerceToBigInteger(final Object o, final CoercionResult<BigInteger> result) {
+        return tryCoerce(TO_BIG_INTEGER, BigInteger.class, o, result);
+    }
+
+    static CoercionResult<Boolean> tryCoerceToBoolean(final Object o, final CoercionResult<Boolean> result) {
+        return tryCoerce(TO_BOOLEAN, Boolean.class, o, result);
+    }
+
+    static CoercionResult<Byte> tryCoerceToByte(final Object o, final CoercionResult<Byte> result) {
+        return tryCoerce(TO_BYTE, Byte.class, o, result);
+    }
+
+    static CoercionResult<Character> tryCoerceToCharacter(final Object o, final CoercionResult<Character> result) {
+        return tryCoerce(TO_CHARACTER, Character.class, o, result);
+    }
+
+    static CoercionResult<Double> tryCoerceToDouble(final Object o, final CoercionResult<Double> result) {
+        return tryCoerce(TO_DOUBLE, Double.class, o, result);
+    }
+
+    static CoercionResult<Float> tryCoerceToFloat(final Object o, final CoercionResult<Float> result) {
+        return tryCoerce(TO_FLOAT, Float.class, o, result);
+    }
+
+    static CoercionResult<Instant> tryCoerceToInstant(final Object o, final CoercionResult<Instant> result) {
+        return tryCoerce(TO_INSTANT, Instant.class, o, result);
+    }
+
+    static CoercionResult<Integer> tryCoerceToInteger(final Object o, final CoercionResult<Integer> result) {
+        return tryCoerce(TO_INTEGER, Integer.class, o, result);
+    }
+
+    static CoercionResult<LocalDate> tryCoerceToLocalDate(final Object o, final CoercionResult<LocalDate> result) {
+        return tryCoerce(TO_LOCAL_DATE, LocalDate.class, o, result);
+    }
+
+    static CoercionResult<LocalDateTime> tryCoerceToLocalDateTime(final Object o, final CoercionResult<LocalDateTime> result) {
+        return tryCoerce(TO_LOCAL_DATE_TIME, LocalDateTime.class, o, result);
+    }
+
+    static CoercionResult<LocalTime> tryCoerceToLocalTime(final Object o, final CoercionResult<LocalTime> result) {
+        return tryCoerce(TO_LOCAL_TIME, LocalTime.class, o, result);
+    }
+
+    static CoercionResult<Long> tryCoerceToLong(final Object o, final CoercionResult<Long> result) {
+        return tryCoerce(TO_LONG, Long.class, o, result);
+    }
+
+    static CoercionResult<OffsetDateTime> tryCoerceToOffsetDateTime(final Object o,
+                                                                    final CoercionResult<OffsetDateTime> result) {
+        return tryCoerce(TO_OFFSET_DATE_TIME, OffsetDateTime.class, o, result);
+    }
+
+    static CoercionResult<Short> tryCoerceToShort(final Object o, final CoercionResult<Short> result) {
+        return tryCoerce(TO_SHORT, Short.class, o, result);
+    }
+
+    static CoercionResult<UUID> tryCoerceToUUID(final Object o, final CoercionResult<UUID> result) {
+        return tryCoerce(TO_UUID, UUID.class, o, result);
+    }
+
+    static CoercionResult<ZonedDateTime> tryCoerceToZonedDateTime(final Object o,
+                                                                  final CoercionResult<ZonedDateTime> result) {
+        return tryCoerce(TO_ZONED_DATE_TIME, ZonedDateTime.class, o, result);
+    }
+
+    /**
+     * Coerces {@code o} into {@code result}, telling a {@code null} value, a value no case
+     * of {@code coercion} handles and a value the handling case rejects apart.
+     */
+    private static <T> CoercionResult<T> tryCoerce(final TypeSwitch<Object, T> coercion, final Class<T> targetType,
+                                                  final Object o, final CoercionResult<T> result) {
+        if (o == null) {
+            return result.setNull();
+        }
+
+        final T value = coerce(coercion, targetType, o);
+        if (value != null) {
+            return result.setValue(value, o.getClass());
+        }
+        final CoercionResult.Failure failure = coercion.handles(o.getClass())
+                ? CoercionResult.Failure.INVALID_VALUE
+                : CoercionResult.Failure.UNSUPPORTED_TYPE;
+        return result.setFailure(failure, o.getClass());
+    }
+
+    /**
+     * @return {@code coercion} applied to the non-{@code null} {@code o}, counted by
+     *          {@link CoercionTelemetry} when it is enabled
+     */
+    private static <T> T coerce(final TypeSwitch<Object, T> coercion, final Class<T> targetType, final Object o) {
+        if (!CoercionTelemetry.isEnabled()) {
+            return coercion.apply(o);
+        }
+        final long start = System.nanoTime();
+        final T value = coercion.apply(o);
+        CoercionTelemetry.record(o.getClass(), targetType, value != null, System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * @return the coercion of non-null values of {@code type} into a double, which answers
+     *          {@code null} for values it cannot coerce
+     */
+    static Function<Object, Double> doubleCoercionOf(final Class<?> type) {
+        return TO_DOUBLE.resolve(type);
+    }
+
+    /**
+     * @return the coercion of non-null values of {@code type} into an int, which answers
+     *          {@code null} for values it cannot coerce
+     */
+    static Function<Object, Integer> integerCoercionOf(final Class<?> type) {
+        return TO_INTEGER.resolve(type);
+    }
+
+    /**
+     * @return the coercion of non-null values of {@code type} into a long, which answers
+     *          {@code null} for values it cannot coerce
+     */
+    static Function<Object, Long> longCoercionOf(final Class<?> type) {
+        return TO_LONG.resolve(type);
+    }
 
-        return ofNullable(result);
+    /**
+     * @return the coercion into {@code type}, which answers {@code null} for values it cannot
+     *          coerce, or {@code null} if {@code type} is not one of the built in targets
+     */
+    static TypeSwitch<Object, ?> coercionTo(final Class<?> type) {
+        return BY_TARGET.get(type);
     }
 
     private static final class Conv {
         static BigDecimal characterToBigDecimal(final Character c) {
             if (Character.isDigit(c)) {
-                return new BigDecimal(Character.digit(c, 10));
+                return BigDecimals.valueOf(Character.digit(c, 10), 0);
             }
             return null;
         }
@@ -288,16 +377,7 @@ final class Coercions {
         }
 
         static Boolean characterToBoolean(final Character c) {
-            if (c == 't' || c == 'y') {
-                return true;
-            }
-            if (c == 'f' || c == 'n') {
-                return false;
-            }
-            if (Character.isDigit(c)) {
-                return Character.digit(c, 10) != 0;
-            }
-            return null;
+            return BooleanParsers.parseBoolean(c.charValue());
         }
 
         static Byte characterToByte(final Character c) {
@@ -342,97 +422,262 @@ final class Coercions {
             return null;
         }
 
+        static BigDecimal doubleToBigDecimal(final Double d) {
+            final BigDecimal whole = BigDecimals.fromWholeDouble(d);
+            return whole != null ? whole : stringToBigDecimal(d.toString());
+        }
+
+        static BigDecimal floatToBigDecimal(final Float f) {
+            final BigDecimal whole = BigDecimals.fromWholeFloat(f);
+            return whole != null ? whole : stringToBigDecimal(f.toString());
+        }
+
         static <T, R> R nullValue(final T t)  {
             return null;
         }
 
         static BigDecimal stringToBigDecimal(final String s) {
-            return stringToNumericT(s, BigDecimal::new);
+            return NumberParsers.parseBigDecimal(s);
         }
 
         static BigInteger stringToBigInteger(final String s) {
-            return stringToNumericT(s, BigInteger::new);
-        }
-
-        static Boolean stringToBoolean(final String s) {
-            final String sl = s.toLowerCase();
-            if (sl.isEmpty()) {
-                return false;
-            }
-            if (sl.length() == 1) {
-                return characterToBoolean(s.charAt(0));
-            }
-            if (sl.equals("true") || sl.equals("yes") || sl.equals("on")) {
-                return true;
-            }
-            if (sl.equals("false") || sl.equals("no") || sl.equals("off")) {
-                return false;
-            }
-            return null;
+            return NumberParsers.parseBigInteger(s);
         }
 
         static Byte stringToByte(final String s) {
-            return stringToNumericT(s, Byte::parseByte);
+            return NumberParsers.parseByte(s);
         }
 
         static Double stringToDouble(final String s) {
-            return stringToNumericT(s, Double::parseDouble);
+            return NumberParsers.parseDouble(s);
         }
 
         static Float stringToFloat(final String s) {
-            return stringToNumericT(s, Float::parseFloat);
+            return NumberParsers.parseFloat(s);
         }
 
         static Instant stringToInstant(final String s) {
-            return stringToTimeT(s, Instant::parse);
+            return TemporalParsers.parseInstant(s);
         }
 
         static Integer stringToInteger(final String s) {
-            return stringToNumericT(s, Integer::parseInt);
+            return NumberParsers.parseInt(s);
         }
 
         static LocalDate stringToLocalDate(final String s) {
-            return stringToTimeT(s, LocalDate::parse);
+            return TemporalParsers.parseLocalDate(s);
         }
 
         static LocalDateTime stringToLocalDateTime(final String s) {
-            return stringToTimeT(s, LocalDateTime::parse);
+            return TemporalParsers.parseLocalDateTime(s);
         }
 
         static LocalTime stringToLocalTime(final String s) {
-            return stringToTimeT(s, LocalTime::parse);
+            return TemporalParsers.parseLocalTime(s);
         }
 
         static Long stringToLong(final String s) {
-            return stringToNumericT(s, Long::parseLong);
+            return NumberParsers.parseLong(s);
+        }
+
+        static OffsetDateTime stringToOffsetDateTime(final String s) {
+            return TemporalParsers.parseOffsetDateTime(s);
         }
 
         static Short stringToShort(final String s) {
-            return stringToNumericT(s, Short::parseShort);
+            return NumberParsers.parseShort(s);
         }
 
-        private static <T> T stringToTimeT(final String s, final Function<String, T> toT) {
-            T temp;
-            try {
-                temp = toT.apply(s);
-            }
-            catch (DateTimeParseException ex) {
-                temp = null;
-            }
-            return temp;
+        static UUID stringToUUID(final String s) {
+            return UuidParsers.parseUUID(s);
         }
 
-        private static <T> T stringToNumericT(final String s, final Function<String, T> toT) {
-            T temp;
-            try {
-                temp = toT.apply(s);
-            }
-            catch (ArithmeticException | NumberFormatException expected) {
-                temp = null;
-            }
-            return temp;
+        static ZonedDateTime stringToZonedDateTime(final String s) {
+            return TemporalParsers.parseZonedDateTime(s);
         }
     }
 
+    private static final TypeSwitch<Object, BigDecimal> TO_BIG_DECIMAL =
+        TypeSwitch.<Object, BigDecimal>builder()
+            .is(BigDecimal.class, identity())
+            .is(BigInteger.class, BigDecimal::new)
+            .is(Byte.class, v -> BigDecimals.valueOf(v.longValue(), 0))
+            .is(Short.class, v -> BigDecimals.valueOf(v.longValue(), 0))
+            .is(Integer.class, v -> BigDecimals.valueOf(v.longValue(), 0))
+            .is(Long.class, v -> BigDecimals.valueOf(v.longValue(), 0))
+            .is(Double.class, Conv::doubleToBigDecimal)
+            .is(Float.class, Conv::floatToBigDecimal)
+            .is(Number.class, v -> Conv.stringToBigDecimal(v.toString()))
+            .is(Boolean.class, v -> v ? BigDecimal.ONE : BigDecimal.ZERO)
+            .is(Character.class, Conv::characterToBigDecimal)
+            .is(String.class, Conv::stringToBigDecimal)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, BigInteger> TO_BIG_INTEGER =
+        TypeSwitch.<Object, BigInteger>builder()
+            .is(BigInteger.class, identity())
+            .is(BigDecimal.class, BigDecimal::toBigInteger)
+            .is(Number.class, v -> BigInteger.valueOf(v.longValue()))
+            .is(Boolean.class, v -> v ? BigInteger.ONE : BigInteger.ZERO)
+            .is(Character.class, Conv::characterToBigInteger)
+            .is(String.class, Conv::stringToBigInteger)
+            .orElse(Conv::nullValue);
+
+    /** Shared so that coercing a flag allocates nothing. */
+    private static final Optional<Boolean> OPTIONAL_TRUE = Optional.of(true);
+    private static final Optional<Boolean> OPTIONAL_FALSE = Optional.of(false);
+
+    private static final TypeSwitch<Object, Boolean> TO_BOOLEAN =
+        TypeSwitch.<Object, Boolean>builder()
+            .is(Boolean.class, identity())
+            .is(Number.class, v -> v.intValue() != 0)
+            .is(Character.class, Conv::characterToBoolean)
+            .is(CharSequence.class, BooleanParsers::parseBoolean)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Byte> TO_BYTE =
+        TypeSwitch.<Object, Byte>builder()
+            .is(Byte.class, identity())
+            .is(Number.class, Number::byteValue)
+            .is(Boolean.class, v -> v ? (byte)1 : 0)
+            .is(Character.class, Conv::characterToByte)
+            .is(String.class, Conv::stringToByte)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Character> TO_CHARACTER =
+        TypeSwitch.<Object, Character>builder()
+            .is(Character.class, identity())
+            .is(String.class, v -> v.length() == 1 ? v.charAt(0) : null)
+            .is(Boolean.class, v -> v ? 't' : 'f')
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Double> TO_DOUBLE =
+        TypeSwitch.<Object, Double>builder()
+            .is(Double.class, identity())
+            .is(Number.class, Number::doubleValue)
+            .is(Boolean.class, v -> v ? 1.0d : 0.0d)
+            .is(Character.class, Conv::characterToDouble)
+            .is(String.class, Conv::stringToDouble)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Float> TO_FLOAT =
+        TypeSwitch.<Object, Float>builder()
+            .is(Float.class, identity())
+            .is(Number.class, Number::floatValue)
+            .is(Boolean.class, v -> v ? 1.0f : 0.0f)
+            .is(Character.class, Conv::characterToFloat)
+            .is(String.class, Conv::stringToFloat)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Instant> TO_INSTANT =
+        TypeSwitch.<Object, Instant>builder()
+            .is(Instant.class, identity())
+            .is(Timestamp.class, Timestamp::toInstant)
+            .is(Integer.class, i -> Instant.ofEpochSecond(i.longValue()))
+            .is(Long.class, Instant::ofEpochMilli)
+            .is(String.class, Conv::stringToInstant)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Integer> TO_INTEGER =
+        TypeSwitch.<Object, Integer>builder()
+            .is(Integer.class, identity())
+            .is(Number.class, Number::intValue)
+            .is(Boolean.class, v -> v ? 1 : 0)
+            .is(Character.class, Conv::characterToInteger)
+            .is(String.class, Conv::stringToInteger)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, LocalDate> TO_LOCAL_DATE =
+        TypeSwitch.<Object, LocalDate>builder()
+            .is(LocalDate.class, identity())
+            .is(Date.class, Date::toLocalDate)
+            .is(Timestamp.class, ts -> ts.toLocalDateTime().toLocalDate())
+            .is(String.class, Conv::stringToLocalDate)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, LocalDateTime> TO_LOCAL_DATE_TIME =
+        TypeSwitch.<Object, LocalDateTime>builder()
+            .is(LocalDateTime.class, identity())
+            .is(Timestamp.class, Timestamp::toLocalDateTime)
+            .is(Date.class, d -> LocalDateTime.of(d.toLocalDate(), LocalTime.MIDNIGHT))
+            .is(String.class, Conv::stringToLocalDateTime)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, LocalTime> TO_LOCAL_TIME =
+        TypeSwitch.<Object, LocalTime>builder()
+            .is(LocalTime.class, identity())
+            .is(Time.class, Time::toLocalTime)
+            .is(Timestamp.class, ts -> ts.toLocalDateTime().toLocalTime())
+            .is(String.class, Conv::stringToLocalTime)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Long> TO_LONG =
+        TypeSwitch.<Object, Long>builder()
+            .is(Long.class, identity())
+            .is(Number.class, Number::longValue)
+            .is(Boolean.class, v -> v ? (long) 1 : 0)
+            .is(Character.class, Conv::characterToLong)
+            .is(String.class, Conv::stringToLong)
+            .orElse(Conv::nullValue);
+
+    // instants without a zone are placed in the default one, where Timestamp.toLocalDateTime
+    // puts them too
+    private static final TypeSwitch<Object, OffsetDateTime> TO_OFFSET_DATE_TIME =
+        TypeSwitch.<Object, OffsetDateTime>builder()
+            .is(OffsetDateTime.class, identity())
+            .is(ZonedDateTime.class, ZonedDateTime::toOffsetDateTime)
+            .is(Instant.class, i -> Zones.offsetDateTime(i, ZoneId.systemDefault()))
+            .is(Timestamp.class, ts -> Zones.offsetDateTime(ts, ZoneId.systemDefault()))
+            .is(String.class, Conv::stringToOffsetDateTime)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, Short> TO_SHORT =
+        TypeSwitch.<Object, Short>builder()
+            .is(Short.class, identity())
+            .is(Number.class, Number::shortValue)
+            .is(Boolean.class, v -> v ? (short) 1 : 0)
+            .is(Character.class, Conv::characterToShort)
+            .is(String.class, Conv::stringToShort)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, UUID> TO_UUID =
+        TypeSwitch.<Object, UUID>builder()
+            .is(UUID.class, identity())
+            .is(String.class, Conv::stringToUUID)
+            .is(byte[].class, UuidParsers::fromBytes)
+            .orElse(Conv::nullValue);
+
+    private static final TypeSwitch<Object, ZonedDateTime> TO_ZONED_DATE_TIME =
+        TypeSwitch.<Object, ZonedDateTime>builder()
+            .is(ZonedDateTime.class, identity())
+            .is(OffsetDateTime.class, OffsetDateTime::toZonedDateTime)
+            .is(Instant.class, i -> Zones.zonedDateTime(i, ZoneId.systemDefault()))
+            .is(Timestamp.class, ts -> Zones.zonedDateTime(ts.toInstant(), ZoneId.systemDefault()))
+            .is(String.class, Conv::stringToZonedDateTime)
+            .orElse(Conv::nullValue);
+
+    private static final Map<Class<?>, TypeSwitch<Object, ?>> BY_TARGET;
+    static {
+        final Map<Class<?>, TypeSwitch<Object, ?>> byTarget = new HashMap<>();
+        byTarget.put(BigDecimal.class, TO_BIG_DECIMAL);
+        byTarget.put(BigInteger.class, TO_BIG_INTEGER);
+        byTarget.put(Boolean.class, TO_BOOLEAN);
+        byTarget.put(Byte.class, TO_BYTE);
+        byTarget.put(Character.class, TO_CHARACTER);
+        byTarget.put(Double.class, TO_DOUBLE);
+        byTarget.put(Float.class, TO_FLOAT);
+        byTarget.put(Instant.class, TO_INSTANT);
+        byTarget.put(Integer.class, TO_INTEGER);
+        byTarget.put(LocalDate.class, TO_LOCAL_DATE);
+        byTarget.put(LocalDateTime.class, TO_LOCAL_DATE_TIME);
+        byTarget.put(LocalTime.class, TO_LOCAL_TIME);
+        byTarget.put(Long.class, TO_LONG);
+        byTarget.put(OffsetDateTime.class, TO_OFFSET_DATE_TIME);
+        byTarget.put(Short.class, TO_SHORT);
+        byTarget.put(UUID.class, TO_UUID);
+        byTarget.put(ZonedDateTime.class, TO_ZONED_DATE_TIME);
+        BY_TARGET = Collections.unmodifiableMap(byTarget);
+    }
+
     private Coercions() { }
 }
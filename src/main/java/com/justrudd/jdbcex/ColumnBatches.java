@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * Coerces one column of many rows into a primitive array, for the {@code fetchCoercedX}
+ * methods of {@link ResultSetEx}.
+ * <p>
+ * Each value is coerced as the matching {@code getCoercedX} method would, but the coercion
+ * is only looked up again when the runtime class of the values changes, which for a driver
+ * is rarely more than once per column, and no {@link java.util.Optional} is created per row.
+ * Numbers are unboxed straight into the array, as the coercions would convert them, so a
+ * numeric column allocates nothing beyond what the driver does.
+ * Values which are SQL {@code NULL} or cannot be coerced are stored as {@code 0} and flagged
+ * in the null bitmap.
+ * </p>
+ */
+final class ColumnBatches {
+
+    static int fetchInts(final ResultSet resultSet, final int columnIndex,
+                         final int[] out, final BitSet nulls, final int maxRows) throws SQLException {
+        checkBatch(out.length, maxRows);
+        if (nulls != null) {
+            nulls.clear(0, maxRows);
+        }
+
+        final boolean telemetry = CoercionTelemetry.isEnabled();
+        Class<?> type = null;
+        Function<Object, Integer> coercion = null;
+        int rows = 0;
+        while (rows < maxRows && resultSet.next()) {
+            final Object o = resultSet.getObject(columnIndex);
+            if (o instanceof Number && !telemetry) {
+                out[rows++] = ((Number) o).intValue();
+                continue;
+            }
+            Integer value = null;
+            if (o != null) {
+                if (o.getClass() != type) {
+                    type = o.getClass();
+                    coercion = Coercions.integerCoercionOf(type);
+                }
+                value = telemetry ? timed(coercion, o, Integer.class) : coercion.apply(o);
+            }
+            if (value != null) {
+                out[rows] = value;
+            }
+            else {
+                out[rows] = 0;
+                if (nulls != null) {
+                    nulls.set(rows);
+                }
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    static int fetchLongs(final ResultSet resultSet, final int columnIndex,
+                          final long[] out, final BitSet nulls, final int maxRows) throws SQLException {
+        checkBatch(out.length, maxRows);
+        if (nulls != null) {
+            nulls.clear(0, maxRows);
+        }
+
+        final boolean telemetry = CoercionTelemetry.isEnabled();
+        Class<?> type = null;
+        Function<Object, Long> coercion = null;
+        int rows = 0;
+        while (rows < maxRows && resultSet.next()) {
+            final Object o = resultSet.getObject(columnIndex);
+            if (o instanceof Number && !telemetry) {
+                out[rows++] = ((Number) o).longValue();
+                continue;
+            }
+            Long value = null;
+            if (o != null) {
+                if (o.getClass() != type) {
+                    type = o.getClass();
+                    coercion = Coercions.longCoercionOf(type);
+                }
+                value = telemetry ? timed(coercion, o, Long.class) : coercion.apply(o);
+            }
+            if (value != null) {
+                out[rows] = value;
+            }
+            else {
+                out[rows] = 0L;
+                if (nulls != null) {
+                    nulls.set(rows);
+                }
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    static int fetchDoubles(final ResultSet resultSet, final int columnIndex,
+                            final double[] out, final BitSet nulls, final int maxRows) throws SQLException {
+        checkBatch(out.length, maxRows);
+        if (nulls != null) {
+            nulls.clear(0, maxRows);
+        }
+
+        final boolean telemetry = CoercionTelemetry.isEnabled();
+        Class<?> type = null;
+        Function<Object, Double> coercion = null;
+        int rows = 0;
+        while (rows < maxRows && resultSet.next()) {
+            final Object o = resultSet.getObject(columnIndex);
+            if (o instanceof Number && !telemetry) {
+                out[rows++] = ((Number) o).doubleValue();
+                continue;
+            }
+            Double value = null;
+            if (o != null) {
+                if (o.getClass() != type) {
+                    type = o.getClass();
+                    coercion = Coercions.doubleCoercionOf(type);
+                }
+                value = telemetry ? timed(coercion, o, Double.class) : coercion.apply(o);
+            }
+            if (value != null) {
+                out[rows] = value;
+            }
+            else {
+                out[rows] = 0.0d;
+                if (nulls != null) {
+                    nulls.set(rows);
+                }
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    private static void checkBatch(final int length, final int maxRows) {
+        if (maxRows < 0 || maxRows > length) {
+            throw new IllegalArgumentException("maxRows must be between 0 and " + length + ": " + maxRows);
+        }
+    }
+
+    /** Applies {@code coercion} and counts it, as the per cell coercions do while telemetry is on. */
+    private static <T> T timed(final Function<Object, T> coercion, final Object o, final Class<T> targetType) {
+        final long start = System.nanoTime();
+        final T value = coercion.apply(o);
+        CoercionTelemetry.record(o.getClass(), targetType, value != null, System.nanoTime() - start);
+        return value;
+    }
+
+    private ColumnBatches() { }
+}
@@ -0,0 +1,333 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static java.util.Objects.requireNonNull;
+
+import com.justrudd.jdbcex.ResultSetShape.Getter;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A column of a result set, resolved once into its index, the cheapest getter which reads it,
+ * and the type its values are coerced into. Reading through a reference skips the label lookup
+ * and type checks {@link ResultSetEx#getCoerced(String, Class)} does on every row:
+ * <pre>
+ *     final ColumnRef&lt;Long&gt; accountId = rs.column("account_id", Long.class);
+ *     while (rs.next()) {
+ *         final long id = accountId.getLong(rs);
+ *         ...
+ *     }
+ * </pre>
+ * <p>
+ * Integer, decimal of scale 0 and floating point columns are read with {@code getInt},
+ * {@code getLong} or {@code getDouble} whenever a number is wanted, with no
+ * {@link ResultSet#wasNull()} check if the metadata reports them NOT NULL and the result set
+ * was {@link JdbcEx#wrap(ResultSet, NotNullPolicy) wrapped} trusting that; everything else goes
+ * through {@link ResultSet#getObject(int)} and the {@link CoercionRegistry registry} the
+ * reference was created with, exactly as {@link ResultSetEx#getCoerced(int, Class, CoercionRegistry)}
+ * would coerce it. So does {@link #get(ResultSet)} when the registry has a converter from what
+ * {@code getObject} returns for the column into the reference's type; that is decided when the
+ * reference is created, so converters registered afterwards are not seen by it. Typed reads
+ * are counted by {@link CoercionTelemetry} as coercions of what {@code getObject} would have
+ * returned; {@link #getInt(ResultSet)} and its siblings do not call {@code wasNull}, so they
+ * count SQL <code>NULL</code>s read as {@code 0} too.
+ * </p>
+ * <p>
+ * References are immutable and thread-safe. They may be used with any result set whose
+ * columns are shaped like those of the one they were created from, such as the results of
+ * each run of one query; {@link #matches(ResultSet)} checks that. Used with a result set of
+ * another shape they read whatever column is at their index.
+ * </p>
+ * @param <T>
+ *          the type values are coerced into; primitive types are taken as their wrapper
+ */
+public final class ColumnRef<T> {
+
+    /**
+     * @param resultSet
+     *          a result set of the shape the reference is for
+     * @param columnLabel
+     *          the label of the column
+     * @param type
+     *          the type to coerce values into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          a reference to the first column labelled {@code columnLabel}, ignoring case
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    static <T> ColumnRef<T> of(final ResultSet resultSet, final String columnLabel, final Class<T> type,
+                               final CoercionRegistry registry) throws SQLException {
+        requireNonNull(columnLabel, "columnLabel");
+        requireNonNull(type, "type");
+        requireNonNull(registry, "registry");
+
+        return of(ResultSetShape.of(resultSet), resultSet.findColumn(columnLabel), columnLabel, type, registry);
+    }
+
+    /** {@link #of(ResultSet, String, Class, CoercionRegistry)} for a shape which is already known. */
+    static <T> ColumnRef<T> of(final ResultSetShape shape, final int columnIndex, final String columnLabel,
+                               final Class<T> type, final CoercionRegistry registry) {
+        final Class<T> wrapped = CoercionRegistry.wrap(type);
+        final Getter getter = shape.getter(columnIndex);
+        final Read read = read(getter);
+        final Read boxed = registry.isRegistered(getter.objectType(), wrapped)
+                ? Read.OBJECT
+                : boxed(read, wrapped);
+        return new ColumnRef<>(columnLabel, columnIndex, wrapped, registry, read, boxed,
+                               getter.objectType(), shape);
+    }
+
+    /**
+     * @param resultSet
+     *          a result set positioned on a row
+     * @return
+     *          the value of the column coerced into {@code T}, or {@code null} if it is SQL
+     *          <code>NULL</code> or cannot be coerced
+     * @exception SQLException
+     *          if a database access error occurs or this method is called on a closed result set
+     */
+    public T get(final ResultSet resultSet) throws SQLException {
+        switch (boxed) {
+            case INT: {
+                final long start = CoercionTelemetry.startTyped();
+                final int value = readInt(resultSet);
+                return typed(start, shape.wasNull(resultSet, columnIndex), value);
+            }
+            case LONG: {
+                final long start = CoercionTelemetry.startTyped();
+                final long value = readLong(resultSet);
+                return typed(start, shape.wasNull(resultSet, columnIndex), value);
+            }
+            case DOUBLE: {
+                final long start = CoercionTelemetry.startTyped();
+                final double value = readDouble(resultSet);
+                return typed(start, shape.wasNull(resultSet, columnIndex), value);
+            }
+            default:
+                return registry.coerceOrNull(resultSet.getObject(columnIndex), type);
+        }
+    }
+
+    /**
+     * @param resultSet
+     *          a result set positioned on a row
+     * @return
+     *          the value of the column coerced into an {@code int} as
+     *          {@link ResultSetEx#getCoercedIntOr(int, int) getCoercedIntOr(columnIndex, 0)} would
+     * @exception SQLException
+     *          if a database access error occurs or this method is called on a closed result set
+     */
+    public int getInt(final ResultSet resultSet) throws SQLException {
+        if (read == Read.OBJECT) {
+            return Coercions.coerceToInteger(resultSet.getObject(columnIndex), 0);
+        }
+        final long start = CoercionTelemetry.startTyped();
+        final int value = readInt(resultSet);
+        CoercionTelemetry.recordTyped(start, sourceType, Integer.class, false);
+        return value;
+    }
+
+    /**
+     * @param resultSet
+     *          a result set positioned on a row
+     * @return
+     *          the value of the column coerced into a {@code long} as
+     *          {@link ResultSetEx#getCoercedLongOr(int, long) getCoercedLongOr(columnIndex, 0)} would
+     * @exception SQLException
+     *          if a database access error occurs or this method is called on a closed result set
+     */
+    public long getLong(final ResultSet resultSet) throws SQLException {
+        if (read == Read.OBJECT) {
+            return Coercions.coerceToLong(resultSet.getObject(columnIndex), 0L);
+        }
+        final long start = CoercionTelemetry.startTyped();
+        final long value = readLong(resultSet);
+        CoercionTelemetry.recordTyped(start, sourceType, Long.class, false);
+        return value;
+    }
+
+    /**
+     * @param resultSet
+     *          a result set positioned on a row
+     * @return
+     *          the value of the column coerced into a {@code double} as
+     *          {@link ResultSetEx#getCoercedDoubleOr(int, double) getCoercedDoubleOr(columnIndex, 0)}
+     *          would
+     * @exception SQLException
+     *          if a database access error occurs or this method is called on a closed result set
+     */
+    public double getDouble(final ResultSet resultSet) throws SQLException {
+        if (read == Read.OBJECT) {
+            return Coercions.coerceToDouble(resultSet.getObject(columnIndex), 0.0d);
+        }
+        final long start = CoercionTelemetry.startTyped();
+        final double value = readDouble(resultSet);
+        CoercionTelemetry.recordTyped(start, sourceType, Double.class, false);
+        return value;
+    }
+
+    /**
+     * @param resultSet
+     *          a result set to use this reference with
+     * @return
+     *          {@code true} if the first column labelled as this reference's label is still at
+     *          its index, is read with the same getter and, if it was NOT NULL, still is, so the
+     *          reference reads it as it did the result set it was created from; {@code false} if its metadata cannot be read
+     */
+    public boolean matches(final ResultSet resultSet) {
+        final ResultSetShape other = ResultSetShape.of(resultSet, shape.notNullPolicy());
+        return other.columnIndex(columnLabel) == columnIndex
+                && read(other.getter(columnIndex)) == read
+                && (!shape.isNotNull(columnIndex) || other.isNotNull(columnIndex));
+    }
+
+    /**
+     * @return the label the reference was created with
+     */
+    public String columnLabel() {
+        return columnLabel;
+    }
+
+    /**
+     * @return the index of the column, the first column is 1, the second is 2, ...
+     */
+    public int columnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * @return the type values are coerced into
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnRef{" + columnLabel + " #" + columnIndex + " as " + type.getSimpleName() + "}";
+    }
+
+    /**
+     * @return {@code value} as a {@code T}, or {@code null} if it was SQL <code>NULL</code>, counted
+     *          by {@link CoercionTelemetry} from the typed read started at {@code start}
+     */
+    private T typed(final long start, final boolean isNull, final Object value) {
+        CoercionTelemetry.recordTyped(start, sourceType, type, isNull);
+        return isNull ? null : type.cast(value);
+    }
+
+    private int readInt(final ResultSet resultSet) throws SQLException {
+        switch (read) {
+            case INT:
+                return resultSet.getInt(columnIndex);
+            case LONG:
+                return (int) resultSet.getLong(columnIndex);
+            case FLOAT:
+                return (int) resultSet.getFloat(columnIndex);
+            default:
+                return (int) resultSet.getDouble(columnIndex);
+        }
+    }
+
+    private long readLong(final ResultSet resultSet) throws SQLException {
+        switch (read) {
+            case INT:
+                return resultSet.getInt(columnIndex);
+            case LONG:
+                return resultSet.getLong(columnIndex);
+            case FLOAT:
+                return (long) resultSet.getFloat(columnIndex);
+            default:
+                return (long) resultSet.getDouble(columnIndex);
+        }
+    }
+
+    private double readDouble(final ResultSet resultSet) throws SQLException {
+        switch (read) {
+            case INT:
+                return resultSet.getInt(columnIndex);
+            case LONG:
+                return resultSet.getLong(columnIndex);
+            case FLOAT:
+                return resultSet.getFloat(columnIndex);
+            default:
+                return resultSet.getDouble(columnIndex);
+        }
+    }
+
+    /** How a column of a shape is read when a number is wanted. */
+    private static Read read(final Getter getter) {
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                return Read.INT;
+            case LONG:
+            case DECIMAL_LONG:
+                return Read.LONG;
+            case FLOAT:
+                return Read.FLOAT;
+            case DOUBLE:
+                return Read.DOUBLE;
+            default:
+                return Read.OBJECT;
+        }
+    }
+
+    /** How {@link #get(ResultSet)} reads the column, which depends on the type too. */
+    private static Read boxed(final Read read, final Class<?> type) {
+        if (read == Read.OBJECT) {
+            return Read.OBJECT;
+        }
+        if (type == Integer.class) {
+            return Read.INT;
+        }
+        if (type == Long.class) {
+            return Read.LONG;
+        }
+        if (type == Double.class) {
+            return Read.DOUBLE;
+        }
+        return Read.OBJECT;
+    }
+
+    private enum Read { INT, LONG, FLOAT, DOUBLE, OBJECT }
+
+    private ColumnRef(final String columnLabel, final int columnIndex, final Class<T> type,
+                      final CoercionRegistry registry, final Read read, final Read boxed,
+                      final Class<?> sourceType, final ResultSetShape shape) {
+        this.columnLabel = columnLabel;
+        this.columnIndex = columnIndex;
+        this.type = type;
+        this.registry = registry;
+        this.read = read;
+        this.boxed = boxed;
+        this.sourceType = sourceType;
+        this.shape = shape;
+    }
+
+    private final String columnLabel;
+    private final int columnIndex;
+    private final Class<T> type;
+    private final CoercionRegistry registry;
+    private final Read read;
+    private final Read boxed;
+    private final Class<?> sourceType;
+    private final ResultSetShape shape;
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static java.util.Optional.ofNullable;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * A {@link Row#copy() copy} of a row: the values {@link ResultSet#getObject(int)} returned,
+ * coerced on demand as {@link Coercions} does.
+ * <p>
+ * Values a driver may invalidate once the result set moves on are read out when the copy is
+ * made: a {@link Clob} becomes its text, a {@link Blob} its bytes, an {@link Array} its Java
+ * array and a {@link SQLXML} its text; the LOBs and arrays are {@link Blob#free() freed} once
+ * read. The copy also keeps what {@link ResultSet#getString(int)} returned for every column
+ * which is not SQL <code>NULL</code>, so its {@link #getString(int)} answers as the live row
+ * would, whatever the driver's text for a value is.
+ * </p>
+ * <p>
+ * The typed getters fail as the live row's would: a value which cannot be read as the type,
+ * such as {@code "abc"} from {@code getInt}, throws an {@link SQLException} rather than reading
+ * as {@code 0}. Only the {@code getCoercedX} methods fall back to their defaults.
+ * </p>
+ */
+final class CopiedRow implements Row {
+
+    /**
+     * @param shape
+     *          the shape of {@code resultSet}, whose labels the copy is looked up by
+     */
+    static CopiedRow of(final ResultSet resultSet, final ResultSetShape shape) throws SQLException {
+        if (shape == ResultSetShape.UNKNOWN) {
+            throw new SQLException("the metadata does not describe the columns, so the row cannot be copied");
+        }
+        final Object[] values = new Object[shape.columnCount()];
+        final String[] texts = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            final Object value = resultSet.getObject(i + 1);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Clob) {
+                values[i] = Clobs.toString((Clob) value);
+                texts[i] = (String) values[i];
+            }
+            else if (value instanceof SQLXML) {
+                values[i] = ((SQLXML) value).getString();
+                texts[i] = (String) values[i];
+            }
+            else {
+                texts[i] = resultSet.getString(i + 1);
+                values[i] = materialize(value);
+            }
+        }
+        return new CopiedRow(values, texts, shape);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Row copy() {
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int columnIndex = shape.columnIndex(columnLabel);
+        if (columnIndex == 0) {
+            throw new SQLException("no column is labelled " + columnLabel);
+        }
+        return columnIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToBigDecimal(value(columnIndex)), "a BigDecimal").orElse(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToBoolean(value(columnIndex)), "a boolean").orElse(Boolean.FALSE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type) throws SQLException {
+        return getCoerced(columnIndex, type, CoercionRegistry.getDefault());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return registry.coerce(value(columnIndex), type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCoercedDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        return Coercions.coerceToDouble(value(columnIndex), defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCoercedIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        return Coercions.coerceToInteger(value(columnIndex), defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCoercedLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        return Coercions.coerceToLong(value(columnIndex), defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return getDoubleOr(columnIndex, 0.0d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        return getOptionalDouble(columnIndex).orElse(defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return getIntOr(columnIndex, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        return getOptionalInt(columnIndex).orElse(defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return getLongOr(columnIndex, 0L);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        return getOptionalLong(columnIndex).orElse(defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return value(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigDecimal> getOptionalBigDecimal(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToBigDecimal(value(columnIndex)), "a BigDecimal");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Double> getOptionalDouble(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToDouble(value(columnIndex)), "a double");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getOptionalInstant(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToInstant(value(columnIndex)), "an Instant");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Integer> getOptionalInt(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToInteger(value(columnIndex)), "an int");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDate> getOptionalLocalDate(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToLocalDate(value(columnIndex)), "a LocalDate");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToLocalDateTime(value(columnIndex)), "a LocalDateTime");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Long> getOptionalLong(final int columnIndex) throws SQLException {
+        return typed(columnIndex, Coercions.coerceToLong(value(columnIndex)), "a long");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getOptionalString(final int columnIndex) throws SQLException {
+        return ofNullable(getString(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        value(columnIndex);
+        return texts[columnIndex - 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNull(final int columnIndex) throws SQLException {
+        return value(columnIndex) == null;
+    }
+
+    /**
+     * The bytes of a {@link Blob} or elements of an {@link Array}, which is freed once read even
+     * if reading fails, or {@code value} itself.
+     */
+    private static Object materialize(final Object value) throws SQLException {
+        if (value instanceof Blob) {
+            final Blob blob = (Blob) value;
+            try {
+                return blob.getBytes(1, (int) blob.length());
+            }
+            finally {
+                blob.free();
+            }
+        }
+        if (value instanceof Array) {
+            final Array array = (Array) value;
+            try {
+                return array.getArray();
+            }
+            finally {
+                array.free();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return {@code coerced}, the value of the column read as a type
+     * @exception SQLException
+     *          if the column is not SQL <code>NULL</code> but could not be read as {@code typeName},
+     *          as the driver would have failed to
+     */
+    private <T> Optional<T> typed(final int columnIndex, final Optional<T> coerced, final String typeName)
+            throws SQLException {
+        if (!coerced.isPresent() && values[columnIndex - 1] != null) {
+            throw new SQLException("the value of column " + columnIndex + " cannot be read as " + typeName);
+        }
+        return coerced;
+    }
+
+    private Object value(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > values.length) {
+            throw new SQLException("column index out of range: " + columnIndex);
+        }
+        return values[columnIndex - 1];
+    }
+
+    private CopiedRow(final Object[] values, final String[] texts, final ResultSetShape shape) {
+        this.values = values;
+        this.texts = texts;
+        this.shape = shape;
+    }
+
+    private final Object[] values;
+    /** What getString returned for each column, null for SQL NULLs. */
+    private final String[] texts;
+    private final ResultSetShape shape;
+}
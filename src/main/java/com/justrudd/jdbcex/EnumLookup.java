@@ -0,0 +1,352 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Finds the constant of an enum which a column value stands for, without the exception
+ * {@link Enum#valueOf(Class, String)} throws for unknown names.
+ * <p>
+ * A lookup is built once per enum and kept; every search is a probe of a precomputed
+ * open addressing table, or an array index for ordinals, and does not allocate.
+ * Values are matched as follows:
+ * </p>
+ * <ul>
+ *     <li>a constant of the enum is returned as is</li>
+ *     <li>a {@link String} or {@link Character} is matched against the names, or the
+ *         codes of a {@link #byCode(Class, Function) code lookup}</li>
+ *     <li>an integral {@link Number} is matched against the ordinals, or the codes of a
+ *         code lookup</li>
+ * </ul>
+ * <p>
+ * Anything else, including fractional numbers, matches nothing.
+ * </p>
+ * @param <E>
+ *          the enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    /**
+     * @return the lookup of {@code type} by exact name or by ordinal; it is built on first use
+     *          and shared afterwards
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumLookup<E> of(final Class<E> type) {
+        return (EnumLookup<E>) BY_NAME.get(requireNonNull(type, "type"));
+    }
+
+    /**
+     * @return a lookup of {@code type} by name, compared as {@link String#equalsIgnoreCase(String)}
+     *          does, or by ordinal
+     * @throws IllegalArgumentException
+     *          if two constants have names which only differ in case
+     */
+    public static <E extends Enum<E>> EnumLookup<E> ofIgnoreCase(final Class<E> type) {
+        final E[] constants = requireNonNull(type, "type").getEnumConstants();
+        final String[] names = new String[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name();
+        }
+        return new EnumLookup<>(type, new StringTable<>(names, constants, true), null, constants);
+    }
+
+    /**
+     * @param code
+     *          the code of a constant, either a {@link String} or an integral {@link Number}
+     * @return a lookup of {@code type} by the codes of its constants. A string value which matches
+     *          no string code is matched against the numeric codes by its decimal value, and a
+     *          number which matches no numeric code against the string codes by its decimal
+     *          representation
+     * @throws IllegalArgumentException
+     *          if a code is {@code null}, is neither a string nor an integral number, or is
+     *          shared by two constants
+     */
+    public static <E extends Enum<E>> EnumLookup<E> byCode(final Class<E> type,
+                                                          final Function<? super E, ?> code) {
+        final E[] constants = requireNonNull(type, "type").getEnumConstants();
+        requireNonNull(code, "code");
+
+        final String[] strings = new String[constants.length];
+        final long[] longs = new long[constants.length];
+        int stringCount = 0;
+        int longCount = 0;
+        final Object[] stringConstants = new Object[constants.length];
+        final Object[] longConstants = new Object[constants.length];
+        for (final E constant : constants) {
+            final Object c = code.apply(constant);
+            if (c instanceof String || c instanceof Character) {
+                stringConstants[stringCount] = constant;
+                strings[stringCount++] = c.toString();
+            }
+            else if (c instanceof Number && isIntegral((Number) c)) {
+                longConstants[longCount] = constant;
+                longs[longCount++] = ((Number) c).longValue();
+            }
+            else {
+                throw new IllegalArgumentException("code of " + constant + " is not a string or an integer: " + c);
+            }
+        }
+
+        final StringTable<E> byString = stringCount == 0
+                ? null
+                : new StringTable<>(Arrays.copyOf(strings, stringCount),
+                                    newArray(type, stringConstants, stringCount),
+                                    false);
+        final LongTable<E> byLong = longCount == 0
+                ? null
+                : new LongTable<>(Arrays.copyOf(longs, longCount), newArray(type, longConstants, longCount));
+        return new EnumLookup<>(type, byString, byLong, null);
+    }
+
+    /**
+     * @param value
+     *          the value to match; may be {@code null}
+     * @return
+     *          the matching constant, or {@code null} if none matches
+     */
+    public E get(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return get((String) value);
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value instanceof Number) {
+            final Number number = (Number) value;
+            return isIntegral(number) ? get(number.longValue()) : null;
+        }
+        if (value instanceof Character) {
+            return get(value.toString());
+        }
+        return null;
+    }
+
+    /**
+     * @param value
+     *          the value to match; may be {@code null}
+     * @return
+     *          the matching constant, or {@link Optional#empty() empty} if none matches
+     */
+    public Optional<E> find(final Object value) {
+        return Optional.ofNullable(get(value));
+    }
+
+    /**
+     * @return the enum this lookup finds constants of
+     */
+    public Class<E> type() {
+        return type;
+    }
+
+    private E get(final String value) {
+        final E constant = byString == null ? null : byString.get(value);
+        if (constant != null || byLong == null) {
+            return constant;
+        }
+        final Long number = NumberParsers.parseLong(value);
+        return number == null ? null : byLong.get(number);
+    }
+
+    private E get(final long value) {
+        if (byOrdinal != null) {
+            return value >= 0 && value < byOrdinal.length ? byOrdinal[(int) value] : null;
+        }
+        final E constant = byLong == null ? null : byLong.get(value);
+        if (constant != null || byString == null) {
+            return constant;
+        }
+        return byString.get(Long.toString(value));
+    }
+
+    private static boolean isIntegral(final Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return true;
+        }
+        if (number instanceof BigInteger) {
+            return ((BigInteger) number).bitLength() < Long.SIZE;
+        }
+        if (number instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) number;
+            if (decimal.signum() == 0) {
+                return true;
+            }
+            final BigDecimal stripped = decimal.scale() > 0 ? decimal.stripTrailingZeros() : decimal;
+            return stripped.scale() <= 0 && stripped.precision() - stripped.scale() <= MAX_LONG_DIGITS;
+        }
+        if (number instanceof Double || number instanceof Float) {
+            final double d = number.doubleValue();
+            return d == Math.rint(d) && d >= Long.MIN_VALUE && d < Long.MAX_VALUE;
+        }
+        return false;
+    }
+
+    /** Open addressing from strings to constants, with linear probing. */
+    private static final class StringTable<E> {
+        StringTable(final String[] keys, final E[] constants, final boolean ignoreCase) {
+            this.ignoreCase = ignoreCase;
+            final int capacity = tableSize(keys.length);
+            this.keys = new String[capacity];
+            this.values = newArray(constants, capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int slot = hash(keys[i]) & mask;
+                while (this.keys[slot] != null) {
+                    if (matches(this.keys[slot], keys[i])) {
+                        throw new IllegalArgumentException("duplicate code: " + keys[i]);
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = keys[i];
+                this.values[slot] = constants[i];
+            }
+        }
+
+        E get(final String key) {
+            int slot = hash(key) & mask;
+            String candidate;
+            while ((candidate = keys[slot]) != null) {
+                if (matches(candidate, key)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private boolean matches(final String candidate, final String key) {
+            return ignoreCase ? candidate.equalsIgnoreCase(key) : candidate.equals(key);
+        }
+
+        private int hash(final String key) {
+            int h;
+            if (ignoreCase) {
+                // folded the same way equalsIgnoreCase compares, so equal keys hash equally
+                h = 0;
+                for (int i = 0; i < key.length(); i++) {
+                    h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+                }
+            }
+            else {
+                h = key.hashCode();
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private final boolean ignoreCase;
+        private final String[] keys;
+        private final E[] values;
+        private final int mask;
+    }
+
+    /** Open addressing from integral codes to constants, with linear probing. */
+    private static final class LongTable<E> {
+        LongTable(final long[] keys, final E[] constants) {
+            final int capacity = tableSize(keys.length);
+            this.keys = new long[capacity];
+            this.values = newArray(constants, capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int slot = hash(keys[i]) & mask;
+                while (this.values[slot] != null) {
+                    if (this.keys[slot] == keys[i]) {
+                        throw new IllegalArgumentException("duplicate code: " + keys[i]);
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = keys[i];
+                this.values[slot] = constants[i];
+            }
+        }
+
+        E get(final long key) {
+            int slot = hash(key) & mask;
+            E candidate;
+            while ((candidate = values[slot]) != null) {
+                if (keys[slot] == key) {
+                    return candidate;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int hash(final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private final long[] keys;
+        private final E[] values;
+        private final int mask;
+    }
+
+    /** A power of two at least twice {@code entries}, so probe sequences stay short. */
+    private static int tableSize(final int entries) {
+        return Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+    }
+
+    /** An empty array of {@code length} with the same component type as {@code like}. */
+    @SuppressWarnings("unchecked")
+    private static <E> E[] newArray(final E[] like, final int length) {
+        return (E[]) Array.newInstance(like.getClass().getComponentType(), length);
+    }
+
+    /** The first {@code length} elements of {@code elements}, as an array of {@code type}. */
+    @SuppressWarnings("unchecked")
+    private static <E> E[] newArray(final Class<E> type, final Object[] elements, final int length) {
+        final E[] array = (E[]) Array.newInstance(type, length);
+        System.arraycopy(elements, 0, array, 0, length);
+        return array;
+    }
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final ClassValue<EnumLookup<?>> BY_NAME = new ClassValue<EnumLookup<?>>() {
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        protected EnumLookup<?> computeValue(final Class<?> type) {
+            final Enum[] constants = ((Class<Enum>) type).getEnumConstants();
+            final String[] names = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                names[i] = constants[i].name();
+            }
+            return new EnumLookup(type, new StringTable<>(names, constants, false), null, constants);
+        }
+    };
+
+    private EnumLookup(final Class<E> type, final StringTable<E> byString, final LongTable<E> byLong,
+                       final E[] byOrdinal) {
+        this.type = type;
+        this.byString = byString;
+        this.byLong = byLong;
+        this.byOrdinal = byOrdinal;
+    }
+
+    private final Class<E> type;
+    private final StringTable<E> byString;
+    private final LongTable<E> byLong;
+    private final E[] byOrdinal;
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Which java.time types a driver reads natively with {@link ResultSet#getObject(int, Class)},
+ * learned once per result set class.
+ * <p>
+ * JDBC 4.2 requires drivers to read {@code DATE}, {@code TIME} and {@code TIMESTAMP} columns
+ * straight into {@link java.time.LocalDate}, {@link java.time.LocalTime} and
+ * {@link java.time.LocalDateTime}, which skips the {@link java.sql.Date}, {@link java.sql.Time}
+ * or {@link java.sql.Timestamp} the legacy getters create and convert. Whether a driver is
+ * JDBC 4.2 is probed from the {@link DatabaseMetaData} of the first result set of a class
+ * {@link JdbcEx#wrap(ResultSet) wrapped} which has a statement; result sets without one, such
+ * as those of database metadata queries, leave the question open for the next. Until it is
+ * answered only {@link java.time.OffsetDateTime} is read natively, since the legacy types
+ * cannot carry an offset at all. A driver which throws {@link java.sql.SQLFeatureNotSupportedException} for a
+ * type is never asked for that type again.
+ * </p>
+ * <p>
+ * The answer is kept per class, so a pool which wraps several drivers' result sets in one
+ * class shares the answer of whichever was probed first; a type any of them turns out not
+ * to support is then read the legacy way for all of them.
+ * </p>
+ */
+final class JavaTimeSupport {
+
+    static final int LOCAL_DATE = 1;
+    static final int LOCAL_DATE_TIME = 1 << 1;
+    static final int LOCAL_TIME = 1 << 2;
+    static final int OFFSET_DATE_TIME = 1 << 3;
+
+    /**
+     * Learns whether the driver behind {@code resultSet} is JDBC 4.2, unless that is already
+     * known for its class. Called as result sets are wrapped, so the getters themselves never
+     * touch anything but the column.
+     */
+    static void probe(final ResultSet resultSet) {
+        final Support support = BY_CLASS.get(resultSet.getClass());
+        if (support.jdbc42 == UNKNOWN) {
+            support.jdbc42 = jdbcVersion(resultSet);
+        }
+    }
+
+    /**
+     * @return the types, as a mask of the constants above, which result sets of {@code type}
+     *          should be asked for with {@link ResultSet#getObject(int, Class)}
+     */
+    static int nativeTypes(final Class<?> type) {
+        final Support support = BY_CLASS.get(type);
+        final int jdbc42 = support.jdbc42;
+
+        final int types;
+        if (jdbc42 == YES) {
+            types = ALL;
+        }
+        else if (jdbc42 == NO) {
+            types = 0;
+        }
+        else {
+            types = OFFSET_DATE_TIME;
+        }
+        return types & ~support.unsupported.get();
+    }
+
+    /**
+     * Records that result sets of {@code type} threw {@link java.sql.SQLFeatureNotSupportedException}
+     * when asked for {@code nativeType}.
+     */
+    static void unsupported(final Class<?> type, final int nativeType) {
+        final AtomicInteger unsupported = BY_CLASS.get(type).unsupported;
+        int current;
+        while (((current = unsupported.get()) & nativeType) == 0
+                && !unsupported.compareAndSet(current, current | nativeType)) {
+            // another thread recorded a type at the same time
+        }
+    }
+
+    /** Forgets what is known about result sets of {@code type}, so the next one is probed again. */
+    static void reset(final Class<?> type) {
+        BY_CLASS.remove(type);
+    }
+
+    private static int jdbcVersion(final ResultSet resultSet) {
+        try {
+            final Statement statement = resultSet.getStatement();
+            final Connection connection = statement == null ? null : statement.getConnection();
+            if (connection == null) {
+                return UNKNOWN;
+            }
+            final DatabaseMetaData metaData = connection.getMetaData();
+            final int major = metaData.getJDBCMajorVersion();
+            final int minor = metaData.getJDBCMinorVersion();
+            return major > 4 || (major == 4 && minor >= 2) ? YES : NO;
+        }
+        catch (SQLException | AbstractMethodError | UnsupportedOperationException inconclusive) {
+            // closed statements, or drivers which predate JDBC 4.0 and cannot answer
+            return UNKNOWN;
+        }
+    }
+
+    /** What is known about the result sets of one class. */
+    private static final class Support {
+        volatile int jdbc42 = UNKNOWN;
+        final AtomicInteger unsupported = new AtomicInteger();
+    }
+
+    private static final int UNKNOWN = 0;
+    private static final int YES = 1;
+    private static final int NO = 2;
+
+    private static final int ALL = LOCAL_DATE | LOCAL_DATE_TIME | LOCAL_TIME | OFFSET_DATE_TIME;
+
+    private static final ClassValue<Support> BY_CLASS = new ClassValue<Support>() {
+        @Override
+        protected Support computeValue(final Class<?> type) {
+            return new Support();
+        }
+    };
+
+    private JavaTimeSupport() { }
+}
@@ -28,12 +28,29 @@ public final class JdbcEx {
      * @throws NullPointerException if {@code rs} is null.
      */
     public static ResultSetEx wrap(final ResultSet rs) {
+        return wrap(rs, NotNullPolicy.IGNORE_METADATA);
+    }
+
+    /**
+     * Wrap a {@link ResultSetEx} around a {@link ResultSet}, which treats the columns its
+     * metadata reports as NOT NULL as {@code notNullPolicy} says. A {@link ResultSetEx} is
+     * returned as it is, with the policy it was wrapped with.
+     * @param rs
+     *      The {@link ResultSet} to wrap.
+     * @param notNullPolicy
+     *      Whether to trust the metadata about NOT NULL columns.
+     * @return a new instance of {@link ResultSetEx}.
+     * @throws NullPointerException if {@code rs} or {@code notNullPolicy} is null.
+     */
+    public static ResultSetEx wrap(final ResultSet rs, final NotNullPolicy notNullPolicy) {
         requireNonNull(rs, "rs cannot be null");
+        requireNonNull(notNullPolicy, "notNullPolicy cannot be null");
 
         if (rs instanceof ResultSetEx) {
             return (ResultSetEx) rs;
         }
-        return new ResultSetExImpl(rs);
+        JavaTimeSupport.probe(rs);
+        return new ResultSetExImpl(rs, notNullPolicy);
     }
 
     private JdbcEx() { }
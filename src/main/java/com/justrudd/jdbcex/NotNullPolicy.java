@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+/**
+ * What a {@link JdbcEx#wrap(ResultSet, NotNullPolicy) wrapped} result set makes of the columns
+ * its {@link ResultSetMetaData} reports as {@link ResultSetMetaData#columnNoNulls NOT NULL}.
+ * <p>
+ * Trusting the metadata saves a {@link ResultSet#wasNull()} call after each typed read of such
+ * a column, but is only safe with drivers which report the nullability of the result rather
+ * than of the base table: PgJDBC, for one, reports a NOT NULL column as such even when an outer
+ * join makes it nullable. The policy is chosen per result set, so one driver's metadata being
+ * trusted says nothing about another's.
+ * </p>
+ */
+public enum NotNullPolicy {
+
+    /** {@link ResultSet#wasNull()} is called after every typed read; the metadata is not even read for it. */
+    IGNORE_METADATA,
+
+    /** {@link ResultSet#wasNull()} is not called after reading a NOT NULL column. */
+    TRUST_METADATA,
+
+    /**
+     * {@link ResultSet#wasNull()} is called after reading a NOT NULL column anyway, and an
+     * {@link java.sql.SQLException} thrown if the metadata was wrong. Meant for tests and
+     * debugging against a new driver before trusting it.
+     */
+    VERIFY_METADATA
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parsers for numeric strings which return {@code null} wherever the equivalent JDK
+ * method ({@link Integer#parseInt(String)}, {@link BigDecimal#BigDecimal(String)}, ...)
+ * would throw a {@link NumberFormatException}.
+ * <p>
+ * The accepted grammar is exactly the JDK's, including non-ASCII digits where the JDK
+ * accepts them and overflow being treated as unparseable. Filling in a stack trace
+ * for every junk value in a column is far more expensive than the parse itself.
+ * </p>
+ */
+final class NumberParsers {
+
+    static Byte parseByte(final String s) {
+        final long value = parseIntegral(s, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return value == INVALID ? null : (byte) value;
+    }
+
+    static Short parseShort(final String s) {
+        final long value = parseIntegral(s, Short.MIN_VALUE, Short.MAX_VALUE);
+        return value == INVALID ? null : (short) value;
+    }
+
+    static Integer parseInt(final String s) {
+        final long value = parseIntegral(s, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == INVALID ? null : (int) value;
+    }
+
+    static Long parseLong(final String s) {
+        final int len = s.length();
+        if (len == 0) {
+            return null;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        final char first = s.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            }
+            else if (first != '+') {
+                return null;
+            }
+            if (len == 1) {
+                return null;
+            }
+            i++;
+        }
+
+        // accumulate negatively, as Long.parseLong does, so that MIN_VALUE fits
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multmin = limit / 10;
+        long result = 0;
+        for (; i < len; i++) {
+            final int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static Double parseDouble(final String s) {
+        return isFloatingPoint(s) ? Double.parseDouble(s) : null;
+    }
+
+    static Float parseFloat(final String s) {
+        return isFloatingPoint(s) ? Float.parseFloat(s) : null;
+    }
+
+    static BigInteger parseBigInteger(final String s) {
+        final int len = s.length();
+        int i = 0;
+        if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            i++;
+        }
+        if (i == len) {
+            return null;
+        }
+        for (; i < len; i++) {
+            if (Character.digit(s.charAt(i), 10) < 0) {
+                return null;
+            }
+        }
+        return new BigInteger(s);
+    }
+
+    static BigDecimal parseBigDecimal(final String s) {
+        final BigDecimal plain = parsePlainDecimal(s);
+        if (plain != null) {
+            return plain;
+        }
+
+        final int len = s.length();
+        int i = 0;
+        if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            i++;
+        }
+
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean point = false;
+        for (; i < len; i++) {
+            final char c = s.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+                if (point) {
+                    fractionDigits++;
+                }
+            }
+            else if (c == '.' && !point) {
+                point = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+
+        long exponent = 0;
+        if (i < len) {
+            final char e = s.charAt(i++);
+            if (e != 'e' && e != 'E') {
+                return null;
+            }
+            boolean negative = false;
+            if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                negative = s.charAt(i++) == '-';
+            }
+            if (i == len) {
+                return null;
+            }
+            int significant = 0;
+            for (; i < len; i++) {
+                final int digit = Character.digit(s.charAt(i), 10);
+                if (digit < 0) {
+                    return null;
+                }
+                if (digit != 0 || significant > 0) {
+                    if (++significant > 9) {
+                        // the JDK's own overflow checks are subtle this far out; defer to them
+                        return parseBigDecimalOrNull(s);
+                    }
+                    exponent = exponent * 10 + digit;
+                }
+            }
+            if (negative) {
+                exponent = -exponent;
+            }
+        }
+
+        final long scale = fractionDigits - exponent;
+        if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+            return null;
+        }
+        return new BigDecimal(s);
+    }
+
+    /**
+     * Mirrors the grammar of {@link Double#parseDouble(String)}, which {@link Float#parseFloat(String)}
+     * shares: surrounding whitespace, an optional sign, {@code NaN}, {@code Infinity}, decimal and
+     * hexadecimal significands with optional exponents and an optional {@code fFdD} suffix.
+     */
+    private static boolean isFloatingPoint(final String s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        int i = start;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            if (++i == end) {
+                return false;
+            }
+            c = s.charAt(i);
+        }
+        if (c == 'N') {
+            return end - i == 3 && s.startsWith("NaN", i);
+        }
+        if (c == 'I') {
+            return end - i == 8 && s.startsWith("Infinity", i);
+        }
+
+        final boolean hex = c == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            c = s.charAt(i);
+            if (hex ? Character.digit(c, 16) >= 0 && c < 128 : c >= '0' && c <= '9') {
+                digits++;
+            }
+            else if (c == '.' && !point) {
+                point = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        // the binary exponent is mandatory for hexadecimal significands
+        if (i < end && (hex ? c == 'p' || c == 'P' : c == 'e' || c == 'E')) {
+            if (++i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+        else if (hex) {
+            return false;
+        }
+
+        if (i < end) {
+            c = s.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    /**
+     * Parses a base 10 integer exactly as {@link Integer#parseInt(String)} does, then
+     * range checks it the way {@link Byte#parseByte(String)} and {@link Short#parseShort(String)} do.
+     * @return the value, or {@link #INVALID} where the JDK would throw
+     */
+    private static long parseIntegral(final String s, final int min, final int max) {
+        final int len = s.length();
+        if (len == 0) {
+            return INVALID;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        final char first = s.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            }
+            else if (first != '+') {
+                return INVALID;
+            }
+            if (len == 1) {
+                return INVALID;
+            }
+            i++;
+        }
+
+        long result = 0;
+        for (; i < len; i++) {
+            final int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0) {
+                return INVALID;
+            }
+            result = result * 10 + digit;
+            if (result > MAX_INT_MAGNITUDE) {
+                return INVALID;
+            }
+        }
+        if (negative) {
+            result = -result;
+        }
+        return result < min || result > max ? INVALID : result;
+    }
+
+    /**
+     * Parses the common shape of decimal strings, an optional sign and at most 18 ASCII digits
+     * with an optional point, straight into an unscaled long; {@code new BigDecimal(s)} gives
+     * an equal value of the same scale.
+     * @return the value, or {@code null} if {@code s} has any other shape
+     */
+    private static BigDecimal parsePlainDecimal(final String s) {
+        final int len = s.length();
+        if (len == 0 || len > MAX_PLAIN_DECIMAL_LENGTH) {
+            return null;
+        }
+
+        int i = 0;
+        final char first = s.charAt(0);
+        if (first == '-' || first == '+') {
+            i++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < len; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (point) {
+                    scale++;
+                }
+            }
+            else if (c == '.' && !point) {
+                point = true;
+            }
+            else {
+                return null;
+            }
+        }
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return null;
+        }
+        return BigDecimals.valueOf(first == '-' ? -unscaled : unscaled, scale);
+    }
+
+    private static BigDecimal parseBigDecimalOrNull(final String s) {
+        try {
+            return new BigDecimal(s);
+        }
+        catch (NumberFormatException expected) {
+            return null;
+        }
+    }
+
+    /** Outside the range of every type parsed by {@link #parseIntegral(String, int, int)}. */
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final long MAX_INT_MAGNITUDE = -(long) Integer.MIN_VALUE;
+    /** Every 18 digit number fits in a long. */
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_PLAIN_DECIMAL_LENGTH = MAX_LONG_DIGITS + 2;
+
+    private NumberParsers() { }
+}
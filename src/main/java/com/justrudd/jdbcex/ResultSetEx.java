@@ -14,6 +14,7 @@
 
 package com.justrudd.jdbcex;
 
+import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -21,6 +22,7 @@ import static java.util.Optional.ofNullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
+import java.nio.CharBuffer;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -30,6 +32,7 @@ import java.sql.Ref;
 import java.sql.ResultSet;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -37,9 +40,17 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * An extension to the standard ResultSet which adds the ability to retrieve Optionals
@@ -48,6 +59,434 @@ import java.util.Optional;
  */
 public interface ResultSetEx extends ResultSet {
 
+    /**
+     * Resolves a column once, so it can be read on every row without looking its label up
+     * again, coercing with the {@link CoercionRegistry#getDefault() default registry}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the values into
+     * @return
+     *          a reference to the column, usable with this and any result set of the same shape
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see ColumnRef
+     */
+    default <T> ColumnRef<T> column(final String columnLabel, final Class<T> type) throws SQLException {
+        return column(columnLabel, type, CoercionRegistry.getDefault());
+    }
+
+    /**
+     * Resolves a column once, so it can be read on every row without looking its label up
+     * again, coercing with {@code registry}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the values into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          a reference to the column, usable with this and any result set of the same shape
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see ColumnRef
+     */
+    default <T> ColumnRef<T> column(final String columnLabel, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return ColumnRef.of(this, columnLabel, type, registry);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into a double as {@link #getCoercedDouble(int)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     */
+    default int fetchCoercedDoubles(final int columnIndex, final double[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchDoubles(this, columnIndex, out, nulls, maxRows);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into a double as {@link #getCoercedDouble(String)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     * @see #fetchCoercedDoubles(int, double[], BitSet, int)
+     */
+    default int fetchCoercedDoubles(final String columnLabel, final double[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchDoubles(this, findColumn(columnLabel), out, nulls, maxRows);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into an int as {@link #getCoercedInteger(int)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     */
+    default int fetchCoercedInts(final int columnIndex, final int[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchInts(this, columnIndex, out, nulls, maxRows);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into an int as {@link #getCoercedInteger(String)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     * @see #fetchCoercedInts(int, int[], BitSet, int)
+     */
+    default int fetchCoercedInts(final String columnLabel, final int[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchInts(this, findColumn(columnLabel), out, nulls, maxRows);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into a long as {@link #getCoercedLong(int)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     */
+    default int fetchCoercedLongs(final int columnIndex, final long[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchLongs(this, columnIndex, out, nulls, maxRows);
+    }
+
+    /**
+     * Moves the cursor forward up to {@code maxRows} rows, coercing the value of the column in
+     * each row into a long as {@link #getCoercedLong(String)} would. The coercion is only looked
+     * up again when the runtime class of the values changes, and nothing is allocated per row
+     * beyond what the driver and the coercion themselves allocate.
+     * <p>
+     * Rows are read from the one after the current row on, the first into {@code out[0]}. Once
+     * this returns the cursor is on the last row read, or after the last row if fewer than
+     * {@code maxRows} were read.
+     * </p>
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param out
+     *          the array the coerced values are stored into; values which are SQL <code>NULL</code>
+     *          or cannot be coerced are stored as {@code 0}
+     * @param nulls
+     *          the bitmap in which the rows whose value is SQL <code>NULL</code> or cannot be coerced
+     *          are set, and the others cleared, or {@code null} if the caller does not need to tell
+     *          them apart from {@code 0}
+     * @param maxRows
+     *          the most rows to read, at most {@code out.length}
+     * @return
+     *          the number of rows read; fewer than {@code maxRows} only once the last row is passed
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception IllegalArgumentException
+     *          if {@code maxRows} is negative or larger than {@code out.length}
+     * @see #fetchCoercedLongs(int, long[], BitSet, int)
+     */
+    default int fetchCoercedLongs(final String columnLabel, final long[] out, final BitSet nulls, final int maxRows)
+            throws SQLException {
+        requireNonNull(out, "out");
+        return ColumnBatches.fetchLongs(this, findColumn(columnLabel), out, nulls, maxRows);
+    }
+
+    /**
+     * Hands every row after the current one to {@code consumer}, then closes this result set.
+     * Each row is handed over as the same {@link #row() view}, so iterating allocates nothing
+     * per row beyond what the consumer's getters allocate.
+     * <p>
+     * The result set is closed however the iteration ends: when the last row is passed, when
+     * the consumer returns {@code false}, or when it or the driver throws. An exception from
+     * closing is added to one already being thrown as {@link Throwable#addSuppressed(Throwable)
+     * suppressed}. The statement which produced the result set is left open.
+     * </p>
+     *
+     * @param consumer
+     *          the callback for each row
+     * @return
+     *          the number of rows handed to {@code consumer}, including the one it stopped on
+     * @exception SQLException
+     *          if the consumer throws one; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default int forEachRow(final RowConsumer consumer) throws SQLException {
+        requireNonNull(consumer, "consumer");
+        try (ResultSet closing = this) {
+            final Row row = row();
+            int rows = 0;
+            while (next()) {
+                rows++;
+                if (!consumer.accept(row)) {
+                    break;
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Retrieves the text of the SQL <code>CLOB</code> in the designated column of the current row
+     * in one pass over its {@link Clob#getCharacterStream() character stream}, and
+     * {@link Clob#free() frees} it.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getClob(int)
+     */
+    default String getClobAsString(final int columnIndex) throws SQLException {
+        return Clobs.toString(getClob(columnIndex));
+    }
+
+    /**
+     * Retrieves the text of the SQL <code>CLOB</code> in the designated column of the current row
+     * in one pass over its {@link Clob#getCharacterStream() character stream}, and
+     * {@link Clob#free() frees} it.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getClob(String)
+     */
+    default String getClobAsString(final String columnLabel) throws SQLException {
+        return Clobs.toString(getClob(columnLabel));
+    }
+
+    /**
+     * Attempts to coerce the value of the column into {@code type} using the
+     * {@link CoercionRegistry#getDefault() default registry}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param type
+     *          the type to coerce the value into
+     * @return
+     *          the column value as a {@code type}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@code type}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see CoercionRegistry#coerce(Object, Class)
+     */
+    default <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type) throws SQLException {
+        return getCoerced(columnIndex, type, CoercionRegistry.getDefault());
+    }
+
+    /**
+     * Attempts to coerce the value of the column into {@code type} using {@code registry}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param type
+     *          the type to coerce the value into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          the column value as a {@code type}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@code type}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see CoercionRegistry#coerce(Object, Class)
+     */
+    default <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return registry.coerce(getObject(columnIndex), type);
+    }
+
+    /**
+     * Attempts to coerce the value of the column into {@code type} using the
+     * {@link CoercionRegistry#getDefault() default registry}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the value into
+     * @return
+     *          the column value as a {@code type}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@code type}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see CoercionRegistry#coerce(Object, Class)
+     */
+    default <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type) throws SQLException {
+        return getCoerced(columnLabel, type, CoercionRegistry.getDefault());
+    }
+
+    /**
+     * Attempts to coerce the value of the column into {@code type} using {@code registry}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the value into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          the column value as a {@code type}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@code type}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see CoercionRegistry#coerce(Object, Class)
+     */
+    default <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return registry.coerce(getObject(columnLabel), type);
+    }
+
     /**
      * <p>
      * Attempts to coerce the value of the column into a {@link BigDecimal} using
@@ -341,7 +780,9 @@ public interface ResultSetEx extends ResultSet {
      * @return
      *          the column value as a {@link Boolean}; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Boolean}, {@link Optional#empty() empty} is returned
+     *          a {@link Boolean}, {@link Optional#empty() empty} is returned. Text is read as a
+     *          flag ignoring case, so {@code "Y"} and {@code "T"} coerce to {@code true} and
+     *          {@code "N"} and {@code "F"} to {@code false}
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
@@ -359,7 +800,9 @@ public interface ResultSetEx extends ResultSet {
      * @return
      *          the column value as a {@link Boolean}; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Boolean}, {@link Optional#empty() empty} is returned
+     *          a {@link Boolean}, {@link Optional#empty() empty} is returned. Text is read as a
+     *          flag ignoring case, so {@code "Y"} and {@code "T"} coerce to {@code true} and
+     *          {@code "N"} and {@code "F"} to {@code false}
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
@@ -475,90 +918,254 @@ public interface ResultSetEx extends ResultSet {
     }
 
     /**
+     * A primitive form of {@link #getCoercedDouble(int)} which does not box {@link Number} values.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
      * @return
-     *          the column value as a {@link Float} if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Float}, {@link Optional#empty() empty} is returned
+     *          the column value coerced into a <code>double</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Float> getCoercedFloat(final int columnIndex) throws SQLException {
-        return getOptionalObject(columnIndex)
-                .flatMap(Coercions::coerceToFloat);
+    default double getCoercedDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        return Coercions.coerceToDouble(getObject(columnIndex), defaultValue);
     }
 
     /**
+     * A primitive form of {@link #getCoercedDouble(String)} which does not box {@link Number} values.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
      * @return
-     *          the column value as a {@link Float}; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Float}, {@link Optional#empty() empty} is returned
+     *          the column value coerced into a <code>double</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Float> getCoercedFloat(final String columnLabel) throws SQLException {
-        return getOptionalObject(columnLabel)
-                .flatMap(Coercions::coerceToFloat);
+    default double getCoercedDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        return Coercions.coerceToDouble(getObject(columnLabel), defaultValue);
     }
 
     /**
+     * Attempts to coerce the value of the column into a constant of {@code type}, matching
+     * strings against the names of the constants and integral numbers against their ordinals.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param type
+     *          the enum type
      * @return
-     *          the column value as a {@link Integer} if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Integer}, {@link Optional#empty() empty} is returned
+     *          the matching constant; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If no constant matches,
+     *          {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @see EnumLookup#of(Class)
      */
-    default Optional<Integer> getCoercedInteger(final int columnIndex) throws SQLException {
-        return getOptionalObject(columnIndex)
-                .flatMap(Coercions::coerceToInteger);
+    default <E extends Enum<E>> Optional<E> getCoercedEnum(final int columnIndex, final Class<E> type)
+            throws SQLException {
+        return getCoercedEnum(columnIndex, EnumLookup.of(type));
     }
 
     /**
+     * Attempts to coerce the value of the column into a constant of an enum using {@code lookup},
+     * such as one {@link EnumLookup#ofIgnoreCase(Class) ignoring case} or matching
+     * {@link EnumLookup#byCode(Class, java.util.function.Function) codes}.
      *
-     * @param columnLabel
-     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
-     *          was not specified, then the label is the name of the column
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param lookup
+     *          the lookup to match the value with
      * @return
-     *          the column value as a {@link Integer}; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Integer}, {@link Optional#empty() empty} is returned
+     *          the matching constant; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If no constant matches,
+     *          {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Integer> getCoercedInteger(final String columnLabel) throws SQLException {
-        return getOptionalObject(columnLabel)
-                .flatMap(Coercions::coerceToInteger);
+    default <E extends Enum<E>> Optional<E> getCoercedEnum(final int columnIndex, final EnumLookup<E> lookup)
+            throws SQLException {
+        return lookup.find(getObject(columnIndex));
     }
 
     /**
+     * Attempts to coerce the value of the column into a constant of {@code type}, matching
+     * strings against the names of the constants and integral numbers against their ordinals.
      *
-     * @param columnIndex
-     *          the first column is 1, the second is 2, ...
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the enum type
      * @return
-     *          the column value as a {@link Instant} if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Instant}, {@link Optional#empty() empty} is returned
+     *          the matching constant; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If no constant matches,
+     *          {@link Optional#empty() empty} is returned
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @see EnumLookup#of(Class)
      */
-    default Optional<Instant> getCoercedInstant(final int columnIndex) throws SQLException {
-        return getOptionalObject(columnIndex)
-                .flatMap(Coercions::coerceToInstant);
+    default <E extends Enum<E>> Optional<E> getCoercedEnum(final String columnLabel, final Class<E> type)
+            throws SQLException {
+        return getCoercedEnum(columnLabel, EnumLookup.of(type));
+    }
+
+    /**
+     * Attempts to coerce the value of the column into a constant of an enum using {@code lookup},
+     * such as one {@link EnumLookup#ofIgnoreCase(Class) ignoring case} or matching
+     * {@link EnumLookup#byCode(Class, java.util.function.Function) codes}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param lookup
+     *          the lookup to match the value with
+     * @return
+     *          the matching constant; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If no constant matches,
+     *          {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default <E extends Enum<E>> Optional<E> getCoercedEnum(final String columnLabel, final EnumLookup<E> lookup)
+            throws SQLException {
+        return lookup.find(getObject(columnLabel));
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value as a {@link Float} if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Float}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Float> getCoercedFloat(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToFloat);
+    }
+
+    /**
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value as a {@link Float}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Float}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Float> getCoercedFloat(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToFloat);
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value as a {@link Integer} if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Integer}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Integer> getCoercedInteger(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToInteger);
+    }
+
+    /**
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value as a {@link Integer}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Integer}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Integer> getCoercedInteger(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToInteger);
+    }
+
+    /**
+     * A primitive form of {@link #getCoercedInteger(int)} which does not box {@link Number} values.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a <code>int</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default int getCoercedIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        return Coercions.coerceToInteger(getObject(columnIndex), defaultValue);
+    }
+
+    /**
+     * A primitive form of {@link #getCoercedInteger(String)} which does not box {@link Number} values.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a <code>int</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default int getCoercedIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        return Coercions.coerceToInteger(getObject(columnLabel), defaultValue);
+    }
+
+    /**
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value as a {@link Instant} if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Instant}, {@link Optional#empty() empty} is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Instant> getCoercedInstant(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToInstant);
     }
 
     /**
@@ -720,373 +1327,2055 @@ public interface ResultSetEx extends ResultSet {
     }
 
     /**
+     * A primitive form of {@link #getCoercedLong(int)} which does not box {@link Number} values.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
      * @return
-     *          the column value as a {@link Short} if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Short}, {@link Optional#empty() empty} is returned
+     *          the column value coerced into a <code>long</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Short> getCoercedShort(final int columnIndex) throws SQLException {
-        return getOptionalObject(columnIndex)
-                .flatMap(Coercions::coerceToShort);
+    default long getCoercedLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        return Coercions.coerceToLong(getObject(columnIndex), defaultValue);
     }
 
     /**
+     * A primitive form of {@link #getCoercedLong(String)} which does not box {@link Number} values.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code> or cannot be coerced
      * @return
-     *          the column value as a {@link Short}; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
-     *          a {@link Short}, {@link Optional#empty() empty} is returned
+     *          the column value coerced into a <code>long</code>; if the value is SQL <code>NULL</code>
+     *          or cannot be coerced, <code>defaultValue</code> is returned
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Short> getCoercedShort(final String columnLabel) throws SQLException {
-        return getOptionalObject(columnLabel)
-                .flatMap(Coercions::coerceToShort);
+    default long getCoercedLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        return Coercions.coerceToLong(getObject(columnLabel), defaultValue);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * Attempts to coerce the value of the column into an {@link OffsetDateTime}. Values without an
+     * offset, such as a {@link Timestamp} or an {@link Instant}, are placed in the JVM default
+     * time zone; strings are parsed as ISO-8601.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as an {@link OffsetDateTime}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          an {@link OffsetDateTime}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Instant getInstant(final int columnIndex) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalInstant(columnIndex).orElse(null);
+    default Optional<OffsetDateTime> getCoercedOffsetDateTime(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToOffsetDateTime);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * Attempts to coerce the value of the column into an {@link OffsetDateTime}. Values without an
+     * offset, such as a {@link Timestamp} or an {@link Instant}, are placed in the JVM default
+     * time zone; strings are parsed as ISO-8601.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as an {@link OffsetDateTime}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          an {@link OffsetDateTime}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Instant getInstant(final String columnLabel) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalInstant(columnLabel).orElse(null);
+    default Optional<OffsetDateTime> getCoercedOffsetDateTime(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToOffsetDateTime);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as a {@link Short} if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Short}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Instant getInstant(final int columnIndex, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalInstant(columnIndex, cal).orElse(null);
+    default Optional<Short> getCoercedShort(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToShort);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as a {@link Short}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link Short}, {@link Optional#empty() empty} is returned
      * @exception SQLException
-     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Instant getInstant(final String columnLabel, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalInstant(columnLabel, cal).orElse(null);
+    default Optional<Short> getCoercedShort(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToShort);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Attempts to coerce the value of the column into a {@link UUID}. A {@link UUID} is returned
+     * as is, a {@link String} must be the canonical 36 character form or the same 32 hex digits
+     * without dashes, and a <code>byte[]</code> must hold exactly 16 bytes, most significant first.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as a {@link UUID} if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link UUID}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
      */
-    default LocalDate getLocalDate(final int columnIndex) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDate(columnIndex).orElse(null);
+    default Optional<UUID> getCoercedUUID(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToUUID);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Attempts to coerce the value of the column into a {@link UUID}. See
+     * {@link #getCoercedUUID(int)} for the accepted values.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as a {@link UUID}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          a {@link UUID}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
      */
-    default LocalDate getLocalDate(final String columnLabel) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDate(columnLabel).orElse(null);
+    default Optional<UUID> getCoercedUUID(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToUUID);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Attempts to coerce the value of the column into an {@link ZonedDateTime}. Values without an
+     * offset, such as a {@link Timestamp} or an {@link Instant}, are placed in the JVM default
+     * time zone; strings are parsed as ISO-8601.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as an {@link ZonedDateTime}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          an {@link ZonedDateTime}, {@link Optional#empty() empty} is returned
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
      */
-    default LocalDate getLocalDate(final int columnIndex, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDate(columnIndex, cal).orElse(null);
+    default Optional<ZonedDateTime> getCoercedZonedDateTime(final int columnIndex) throws SQLException {
+        return getOptionalObject(columnIndex)
+                .flatMap(Coercions::coerceToZonedDateTime);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Attempts to coerce the value of the column into an {@link ZonedDateTime}. Values without an
+     * offset, such as a {@link Timestamp} or an {@link Instant}, are placed in the JVM default
+     * time zone; strings are parsed as ISO-8601.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          the column value as an {@link ZonedDateTime}; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned. If the value cannot be coerced into
+     *          an {@link ZonedDateTime}, {@link Optional#empty() empty} is returned
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
      */
-    default LocalDate getLocalDate(final String columnLabel, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDate(columnLabel, cal).orElse(null);
+    default Optional<ZonedDateTime> getCoercedZonedDateTime(final String columnLabel) throws SQLException {
+        return getOptionalObject(columnLabel)
+                .flatMap(Coercions::coerceToZonedDateTime);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code double}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
      *          {@code null} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     * @see #getArray(int)
      */
-    default LocalDateTime getLocalDateTime(final int columnIndex) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDateTime(columnIndex).orElse(null);
+    default double[] getDoubleArray(final int columnIndex) throws SQLException {
+        return SqlArrays.toDoubleArray(getArray(columnIndex));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code double}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
      *          {@code null} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     * @see #getArray(String)
      */
-    default LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDateTime(columnLabel).orElse(null);
+    default double[] getDoubleArray(final String columnLabel) throws SQLException {
+        return SqlArrays.toDoubleArray(getArray(columnLabel));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getDoubleArray(int)
+     */
+    default int getDoubleArray(final int columnIndex, final double[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readDoubles(getArray(columnIndex), buffer);
+    }
+
+    /**
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getDoubleArray(String)
+     */
+    default int getDoubleArray(final String columnLabel, final double[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readDoubles(getArray(columnLabel), buffer);
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default double getDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        final double value = getDouble(columnIndex);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default double getDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        final double value = getDouble(columnLabel);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Instant getInstant(final int columnIndex) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalInstant(columnIndex).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Instant getInstant(final String columnLabel) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalInstant(columnLabel).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Instant getInstant(final int columnIndex, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalInstant(columnIndex, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Instant getInstant(final String columnLabel, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalInstant(columnLabel, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code int}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getArray(int)
+     */
+    default int[] getIntArray(final int columnIndex) throws SQLException {
+        return SqlArrays.toIntArray(getArray(columnIndex));
+    }
+
+    /**
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code int}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getArray(String)
+     */
+    default int[] getIntArray(final String columnLabel) throws SQLException {
+        return SqlArrays.toIntArray(getArray(columnLabel));
+    }
+
+    /**
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getIntArray(int)
+     */
+    default int getIntArray(final int columnIndex, final int[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readInts(getArray(columnIndex), buffer);
+    }
+
+    /**
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getIntArray(String)
+     */
+    default int getIntArray(final String columnLabel, final int[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readInts(getArray(columnLabel), buffer);
+    }
+
+    /**
+     * See {@link ResultSet#getInt(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default int getIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        final int value = getInt(columnIndex);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * See {@link ResultSet#getInt(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default int getIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        final int value = getInt(columnLabel);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default LocalDate getLocalDate(final int columnIndex) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDate(columnIndex).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default LocalDate getLocalDate(final String columnLabel) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDate(columnLabel).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default LocalDate getLocalDate(final int columnIndex, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDate(columnIndex, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default LocalDate getLocalDate(final String columnLabel, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDate(columnLabel, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default LocalDateTime getLocalDateTime(final int columnIndex) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDateTime(columnIndex).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDateTime(columnLabel).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default LocalDateTime getLocalDateTime(final int columnIndex, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDateTime(columnIndex, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default LocalDateTime getLocalDateTime(final String columnLabel, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalDateTime(columnLabel, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default LocalTime getLocalTime(final int columnIndex) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalTime(columnIndex).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default LocalTime getLocalTime(final String columnLabel) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalTime(columnLabel).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default LocalTime getLocalTime(final int columnIndex, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalTime(columnIndex, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default LocalTime getLocalTime(final String columnLabel, final Calendar cal) throws SQLException {
+        // emulate normal JDBC calls which return null
+        return getOptionalLocalTime(columnLabel, cal).orElse(null);
+    }
+
+    /**
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code long}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getArray(int)
+     */
+    default long[] getLongArray(final int columnIndex) throws SQLException {
+        return SqlArrays.toLongArray(getArray(columnIndex));
+    }
+
+    /**
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code long}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code 0}, and an element which cannot be coerced throws an
+     * {@link SQLException}. The whole array is read with {@link Array#getArray()}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getArray(String)
+     */
+    default long[] getLongArray(final String columnLabel) throws SQLException {
+        return SqlArrays.toLongArray(getArray(columnLabel));
+    }
+
+    /**
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getLongArray(int)
+     */
+    default int getLongArray(final int columnIndex, final long[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readLongs(getArray(columnIndex), buffer);
+    }
+
+    /**
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}; the length of the array is not known before reading it, so the
+     * buffer stands in for it. <code>NULL</code> elements are read as {@code 0}, and an
+     * element which cannot be coerced throws an {@link SQLException}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param buffer
+     *          the array to read the elements into, from its first index on
+     * @return
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getLongArray(String)
+     */
+    default int getLongArray(final String columnLabel, final long[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readLongs(getArray(columnLabel), buffer);
+    }
+
+    /**
+     * See {@link ResultSet#getLong(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default long getLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        final long value = getLong(columnIndex);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * See {@link ResultSet#getLong(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return when the column is SQL <code>NULL</code>
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, <code>defaultValue</code>
+     *          is returned
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default long getLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        final long value = getLong(columnLabel);
+        return wasNull()
+                ? defaultValue
+                : value;
+    }
+
+    /**
+     * Retrieves the text of the SQL <code>NCLOB</code> in the designated column of the current row
+     * in one pass over its {@link NClob#getCharacterStream() character stream}, and
+     * {@link NClob#free() frees} it.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getNClob(int)
+     */
+    default String getNClobAsString(final int columnIndex) throws SQLException {
+        return Clobs.toString(getNClob(columnIndex));
+    }
+
+    /**
+     * Retrieves the text of the SQL <code>NCLOB</code> in the designated column of the current row
+     * in one pass over its {@link NClob#getCharacterStream() character stream}, and
+     * {@link NClob#free() frees} it.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see #getNClob(String)
+     */
+    default String getNClobAsString(final String columnLabel) throws SQLException {
+        return Clobs.toString(getNClob(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getArray(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Array> getOptionalArray(final int columnIndex) throws SQLException {
+        return ofNullable(getArray(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getArray(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Array> getOptionalArray(final String columnLabel) throws SQLException {
+        return ofNullable(getArray(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getBigDecimal(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<BigDecimal> getOptionalBigDecimal(final int columnIndex) throws SQLException {
+        return ofNullable(getBigDecimal(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getBigDecimal(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<BigDecimal> getOptionalBigDecimal(final String columnLabel) throws SQLException {
+        return ofNullable(getBigDecimal(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getBlob(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Blob> getOptionalBlob(final int columnIndex) throws SQLException {
+        return ofNullable(getBlob(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getBlob(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Blob> getOptionalBlob(final String columnLabel) throws SQLException {
+        return ofNullable(getBlob(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getBoolean(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Boolean> getOptionalBoolean(final int columnIndex) throws SQLException {
+        final boolean value = getBoolean(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getBoolean(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Boolean> getOptionalBoolean(final String columnLabel) throws SQLException {
+        final boolean value = getBoolean(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getByte(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Byte> getOptionalByte(final int columnIndex) throws SQLException {
+        final byte value = getByte(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getByte(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Byte> getOptionalByte(final String columnLabel) throws SQLException {
+        final byte value = getByte(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getBytes(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<byte[]> getOptionalBytes(final int columnIndex) throws SQLException {
+        return ofNullable(getBytes(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getBytes(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<byte[]> getOptionalBytes(final String columnLabel) throws SQLException {
+        return ofNullable(getBytes(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getClob(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Clob> getOptionalClob(final int columnIndex) throws SQLException {
+        return ofNullable(getClob(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getClob(String)} for the basics of this method.
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<Clob> getOptionalClob(final String columnLabel) throws SQLException {
+        return ofNullable(getClob(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getDate(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Date> getOptionalDate(final int columnIndex) throws SQLException {
+        return ofNullable(getDate(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getDate(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Date> getOptionalDate(final String columnLabel) throws SQLException {
+        return ofNullable(getDate(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getDate(int, java.util.Calendar)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Date> getOptionalDate(final int columnIndex, final Calendar cal)
+            throws SQLException {
+        return ofNullable(getDate(columnIndex, cal));
+    }
+
+    /**
+     * See {@link ResultSet#getDate(String, java.util.Calendar)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Date> getOptionalDate(final String columnLabel, final Calendar cal)
+            throws SQLException {
+        return ofNullable(getDate(columnLabel, cal));
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Double> getOptionalDouble(final int columnIndex) throws SQLException {
+        final double value = getDouble(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Double> getOptionalDouble(final String columnLabel) throws SQLException {
+        final double value = getDouble(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(int)} for the basics of this method. Unlike
+     * {@link #getOptionalDouble(int)} the value is not boxed.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalDouble#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalDouble getOptionalDoublePrimitive(final int columnIndex) throws SQLException {
+        final double value = getDouble(columnIndex);
+        return wasNull()
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(String)} for the basics of this method. Unlike
+     * {@link #getOptionalDouble(String)} the value is not boxed.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalDouble#empty() empty}.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalDouble getOptionalDoublePrimitive(final String columnLabel) throws SQLException {
+        final double value = getDouble(columnLabel);
+        return wasNull()
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getFloat(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Float> getOptionalFloat(final int columnIndex) throws SQLException {
+        final float value = getFloat(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getFloat(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Float> getOptionalFloat(final String columnLabel) throws SQLException {
+        final float value = getFloat(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Optional<Instant> getOptionalInstant(final int columnIndex) throws SQLException {
+        return getOptionalTimestamp(columnIndex).map(Timestamp::toInstant);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Optional<Instant> getOptionalInstant(final String columnLabel) throws SQLException {
+        return getOptionalTimestamp(columnLabel).map(Timestamp::toInstant);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Optional<Instant> getOptionalInstant(final int columnIndex, final Calendar cal) throws SQLException {
+        return getOptionalTimestamp(columnIndex, cal).map(Timestamp::toInstant);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as an {@code Instant}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toInstant()
+     */
+    default Optional<Instant> getOptionalInstant(final String columnLabel, final Calendar cal) throws SQLException {
+        return getOptionalTimestamp(columnLabel, cal).map(Timestamp::toInstant);
+    }
+
+    /**
+     * See {@link ResultSet#getInt(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Integer> getOptionalInt(final int columnIndex) throws SQLException {
+        final int value = getInt(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getInt(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Integer> getOptionalInt(final String columnLabel) throws SQLException {
+        final int value = getInt(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getInt(int)} for the basics of this method. Unlike
+     * {@link #getOptionalInt(int)} the value is not boxed.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalInt#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalInt getOptionalIntPrimitive(final int columnIndex) throws SQLException {
+        final int value = getInt(columnIndex);
+        return wasNull()
+                ? OptionalInt.empty()
+                : OptionalInt.of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getInt(String)} for the basics of this method. Unlike
+     * {@link #getOptionalInt(String)} the value is not boxed.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalInt#empty() empty}.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalInt getOptionalIntPrimitive(final String columnLabel) throws SQLException {
+        final int value = getInt(columnLabel);
+        return wasNull()
+                ? OptionalInt.empty()
+                : OptionalInt.of(value);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default Optional<LocalDate> getOptionalLocalDate(final int columnIndex) throws SQLException {
+        return getOptionalDate(columnIndex).map(Date::toLocalDate);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default Optional<LocalDate> getOptionalLocalDate(final String columnLabel) throws SQLException {
+        return getOptionalDate(columnLabel).map(Date::toLocalDate);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default Optional<LocalDate> getOptionalLocalDate(final int columnIndex, final Calendar cal) throws SQLException {
+        return getOptionalDate(columnIndex, cal).map(Date::toLocalDate);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDate}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Date#toLocalDate()
+     */
+    default Optional<LocalDate> getOptionalLocalDate(final String columnLabel, final Calendar cal) throws SQLException {
+        return getOptionalDate(columnLabel, cal).map(Date::toLocalDate);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex) throws SQLException {
+        return getOptionalTimestamp(columnIndex).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel) throws SQLException {
+        return getOptionalTimestamp(columnLabel).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex, final Calendar cal) throws SQLException {
+        return getOptionalTimestamp(columnIndex, cal).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Timestamp#toLocalDateTime()
+     */
+    default Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel, final Calendar cal) throws SQLException {
+        return getOptionalTimestamp(columnLabel, cal).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default Optional<LocalTime> getOptionalLocalTime(final int columnIndex) throws SQLException {
+        return getOptionalTime(columnIndex).map(Time::toLocalTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default Optional<LocalTime> getOptionalLocalTime(final String columnLabel) throws SQLException {
+        return getOptionalTime(columnLabel).map(Time::toLocalTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default Optional<LocalTime> getOptionalLocalTime(final int columnIndex, final Calendar cal) throws SQLException {
+        return getOptionalTime(columnIndex, cal).map(Time::toLocalTime);
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row
+     * of this {@code ResultSet} object as a {@code LocalTime}.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param cal
      *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @see java.sql.Time#toLocalTime()
+     */
+    default Optional<LocalTime> getOptionalLocalTime(final String columnLabel, final Calendar cal) throws SQLException {
+        return getOptionalTime(columnLabel, cal).map(Time::toLocalTime);
+    }
+
+    /**
+     * See {@link ResultSet#getLong(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link Optional#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Long> getOptionalLong(final int columnIndex) throws SQLException {
+        final long value = getLong(columnIndex);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getLong(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<Long> getOptionalLong(final String columnLabel) throws SQLException {
+        final long value = getLong(columnLabel);
+        return wasNull()
+                ? empty()
+                : of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getLong(int)} for the basics of this method. Unlike
+     * {@link #getOptionalLong(int)} the value is not boxed.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalLong#empty() empty}.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalLong getOptionalLongPrimitive(final int columnIndex) throws SQLException {
+        final long value = getLong(columnIndex);
+        return wasNull()
+                ? OptionalLong.empty()
+                : OptionalLong.of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getLong(String)} for the basics of this method. Unlike
+     * {@link #getOptionalLong(String)} the value is not boxed.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
+     *          {@link OptionalLong#empty() empty}.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default OptionalLong getOptionalLongPrimitive(final String columnLabel) throws SQLException {
+        final long value = getLong(columnLabel);
+        return wasNull()
+                ? OptionalLong.empty()
+                : OptionalLong.of(value);
+    }
+
+    /**
+     * See {@link ResultSet#getNClob(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<NClob> getOptionalNClob(final int columnIndex) throws SQLException {
+        return ofNullable(getNClob(columnIndex));
+    }
+
+    /**
+     * See {@link ResultSet#getNClob(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
+     */
+    default Optional<NClob> getOptionalNClob(final String columnLabel) throws SQLException {
+        return ofNullable(getNClob(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getNString(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default LocalDateTime getLocalDateTime(final int columnIndex, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDateTime(columnIndex, cal).orElse(null);
+    default Optional<String> getOptionalNString(final int columnIndex) throws SQLException {
+        return ofNullable(getNString(columnIndex));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * See {@link ResultSet#getNString(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default LocalDateTime getLocalDateTime(final String columnLabel, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalDateTime(columnLabel, cal).orElse(null);
+    default Optional<String> getOptionalNString(final String columnLabel) throws SQLException {
+        return ofNullable(getNString(columnLabel));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * See {@link ResultSet#getObject(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default LocalTime getLocalTime(final int columnIndex) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalTime(columnIndex).orElse(null);
+    default Optional<Object> getOptionalObject(final int columnIndex) throws SQLException {
+        return ofNullable(getObject(columnIndex));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * See {@link ResultSet#getObject(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default LocalTime getLocalTime(final String columnLabel) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalTime(columnLabel).orElse(null);
+    default Optional<Object> getOptionalObject(final String columnLabel) throws SQLException {
+        return ofNullable(getObject(columnLabel));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * See {@link ResultSet#getObject(int, java.util.Map)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param map
+     *          a <code>java.util.Map</code> object that contains the mapping from SQL type names
+     *          to classes in the Java programming language
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default LocalTime getLocalTime(final int columnIndex, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalTime(columnIndex, cal).orElse(null);
+    default Optional<Object> getOptionalObject(final int columnIndex, final Map<String,Class<?>> map)
+            throws SQLException {
+        return ofNullable(getObject(columnIndex, map));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * See {@link ResultSet#getObject(String, java.util.Map)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param map
+     *          a <code>java.util.Map</code> object that contains the mapping from SQL type names
+     *          to classes in the Java programming language
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@code null} is returned.
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default LocalTime getLocalTime(final String columnLabel, final Calendar cal) throws SQLException {
-        // emulate normal JDBC calls which return null
-        return getOptionalLocalTime(columnLabel, cal).orElse(null);
+    default Optional<Object> getOptionalObject(final String columnLabel, final Map<String,Class<?>> map)
+            throws SQLException {
+        return ofNullable(getObject(columnLabel, map));
     }
 
     /**
-     * See {@link ResultSet#getArray(int)} for the basics of this method.
+     * See {@link ResultSet#getObject(int, Class)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param type
+     *          Class representing the Java data type to convert the designated
+     * @param <T>
+     *           the type of the class modeled by this Class object column to.
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1096,16 +3385,20 @@ public interface ResultSetEx extends ResultSet {
      * @exception java.sql.SQLFeatureNotSupportedException
      *          if the JDBC driver does not support this method
      */
-    default Optional<Array> getOptionalArray(final int columnIndex) throws SQLException {
-        return ofNullable(getArray(columnIndex));
+    default <T> Optional<T> getOptionalObject(final int columnIndex, final Class<T> type) throws SQLException {
+        return ofNullable(getObject(columnIndex, type));
     }
 
     /**
-     * See {@link ResultSet#getArray(String)} for the basics of this method.
+     * See {@link ResultSet#getObject(String, Class)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param type
+     *          Class representing the Java data type to convert the designated column to.
+     * @param <T>
+     *          the type of the class modeled by this Class object
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1115,12 +3408,16 @@ public interface ResultSetEx extends ResultSet {
      * @exception java.sql.SQLFeatureNotSupportedException
      *          if the JDBC driver does not support this method
      */
-    default Optional<Array> getOptionalArray(final String columnLabel) throws SQLException {
-        return ofNullable(getArray(columnLabel));
+    default <T> Optional<T> getOptionalObject(final String columnLabel, final Class<T> type)
+            throws SQLException {
+        return ofNullable(getObject(columnLabel, type));
     }
 
     /**
-     * See {@link ResultSet#getBigDecimal(int)} for the basics of this method.
+     * Retrieves the value of the designated column in the current row of this {@code ResultSet}
+     * object as an {@code OffsetDateTime}, as JDBC 4.2 drivers return {@code TIMESTAMP WITH TIME ZONE}
+     * columns. If the driver cannot, the column is read as a {@link Timestamp} and placed at its
+     * offset in the JVM default time zone, without going through a {@link Calendar}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
@@ -1131,12 +3428,44 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<BigDecimal> getOptionalBigDecimal(final int columnIndex) throws SQLException {
-        return ofNullable(getBigDecimal(columnIndex));
+    default Optional<OffsetDateTime> getOptionalOffsetDateTime(final int columnIndex) throws SQLException {
+        final OffsetDateTime value;
+        try {
+            value = getObject(columnIndex, OffsetDateTime.class);
+        }
+        catch (SQLFeatureNotSupportedException | AbstractMethodError unsupported) {
+            return ofNullable(Zones.offsetDateTime(getTimestamp(columnIndex), ZoneId.systemDefault()));
+        }
+        return ofNullable(value);
     }
 
     /**
-     * See {@link ResultSet#getBigDecimal(String)} for the basics of this method.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(int)} does,
+     * expressed at the offset {@code zone} has at that instant.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param zone
+     *          the time zone to express the value in
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<OffsetDateTime> getOptionalOffsetDateTime(final int columnIndex, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnIndex);
+        return value.isPresent() ? of(Zones.offsetDateTime(value.get(), zone)) : value;
+    }
+
+    /**
+     * Retrieves the value of the designated column in the current row of this {@code ResultSet}
+     * object as an {@code OffsetDateTime}, as JDBC 4.2 drivers return {@code TIMESTAMP WITH TIME ZONE}
+     * columns. If the driver cannot, the column is read as a {@link Timestamp} and placed at its
+     * offset in the JVM default time zone, without going through a {@link Calendar}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1148,12 +3477,42 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<BigDecimal> getOptionalBigDecimal(final String columnLabel) throws SQLException {
-        return ofNullable(getBigDecimal(columnLabel));
+    default Optional<OffsetDateTime> getOptionalOffsetDateTime(final String columnLabel) throws SQLException {
+        final OffsetDateTime value;
+        try {
+            value = getObject(columnLabel, OffsetDateTime.class);
+        }
+        catch (SQLFeatureNotSupportedException | AbstractMethodError unsupported) {
+            return ofNullable(Zones.offsetDateTime(getTimestamp(columnLabel), ZoneId.systemDefault()));
+        }
+        return ofNullable(value);
     }
 
     /**
-     * See {@link ResultSet#getBlob(int)} for the basics of this method.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(String)} does,
+     * expressed at the offset {@code zone} has at that instant.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param zone
+     *          the time zone to express the value in
+     * @return
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          called on a closed result set
+     */
+    default Optional<OffsetDateTime> getOptionalOffsetDateTime(final String columnLabel, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnLabel);
+        return value.isPresent() ? of(Zones.offsetDateTime(value.get(), zone)) : value;
+    }
+
+    /**
+     * See {@link ResultSet#getRef(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
@@ -1166,12 +3525,12 @@ public interface ResultSetEx extends ResultSet {
      * @exception java.sql.SQLFeatureNotSupportedException
      *          if the JDBC driver does not support this method
      */
-    default Optional<Blob> getOptionalBlob(final int columnIndex) throws SQLException {
-        return ofNullable(getBlob(columnIndex));
+    default Optional<Ref> getOptionalRef(final int columnIndex) throws SQLException {
+        return ofNullable(getRef(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getBlob(String)} for the basics of this method.
+     * See {@link ResultSet#getRef(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1185,31 +3544,30 @@ public interface ResultSetEx extends ResultSet {
      * @exception java.sql.SQLFeatureNotSupportedException
      *          if the JDBC driver does not support this method
      */
-    default Optional<Blob> getOptionalBlob(final String columnLabel) throws SQLException {
-        return ofNullable(getBlob(columnLabel));
+    default Optional<Ref> getOptionalRef(final String columnLabel) throws SQLException {
+        return ofNullable(getRef(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getBoolean(int)} for the basics of this method.
+     * See {@link ResultSet#getRowId(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<Boolean> getOptionalBoolean(final int columnIndex) throws SQLException {
-        final boolean value = getBoolean(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<RowId> getOptionalRowId(final int columnIndex) throws SQLException {
+        return ofNullable(getRowId(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getBoolean(String)} for the basics of this method.
+     * See {@link ResultSet#getRowId(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1220,16 +3578,15 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<Boolean> getOptionalBoolean(final String columnLabel) throws SQLException {
-        final boolean value = getBoolean(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<RowId> getOptionalRowId(final String columnLabel) throws SQLException {
+        return ofNullable(getRowId(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getByte(int)} for the basics of this method.
+     * See {@link ResultSet#getShort(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
@@ -1240,15 +3597,15 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Byte> getOptionalByte(final int columnIndex) throws SQLException {
-        final byte value = getByte(columnIndex);
+    default Optional<Short> getOptionalShort(final int columnIndex) throws SQLException {
+        final short value = getShort(columnIndex);
         return wasNull()
                 ? empty()
                 : of(value);
     }
 
     /**
-     * See {@link ResultSet#getByte(String)} for the basics of this method.
+     * See {@link ResultSet#getShort(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1260,31 +3617,33 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Byte> getOptionalByte(final String columnLabel) throws SQLException {
-        final byte value = getByte(columnLabel);
+    default Optional<Short> getOptionalShort(final String columnLabel) throws SQLException {
+        final short value = getShort(columnLabel);
         return wasNull()
                 ? empty()
                 : of(value);
     }
 
     /**
-     * See {@link ResultSet#getBytes(int)} for the basics of this method.
+     * See {@link ResultSet#getSQLXML(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<byte[]> getOptionalBytes(final int columnIndex) throws SQLException {
-        return ofNullable(getBytes(columnIndex));
+    default Optional<SQLXML> getOptionalSQLXML(final int columnIndex) throws SQLException {
+        return ofNullable(getSQLXML(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getBytes(String)} for the basics of this method.
+     * See {@link ResultSet#getSQLXML(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1295,13 +3654,15 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<byte[]> getOptionalBytes(final String columnLabel) throws SQLException {
-        return ofNullable(getBytes(columnLabel));
+    default Optional<SQLXML> getOptionalSQLXML(final String columnLabel) throws SQLException {
+        return ofNullable(getSQLXML(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getClob(int)} for the basics of this method.
+     * See {@link ResultSet#getString(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
@@ -1311,15 +3672,14 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Clob> getOptionalClob(final int columnIndex) throws SQLException {
-        return ofNullable(getClob(columnIndex));
+    default Optional<String> getOptionalString(final int columnIndex) throws SQLException {
+        return ofNullable(getString(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getClob(String)} for the basics of this method.
+     * See {@link ResultSet#getString(String)} for the basics of this method.
+     *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
@@ -1329,31 +3689,29 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Clob> getOptionalClob(final String columnLabel) throws SQLException {
-        return ofNullable(getClob(columnLabel));
+    default Optional<String> getOptionalString(final String columnLabel) throws SQLException {
+        return ofNullable(getString(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getDate(int)} for the basics of this method.
+     * See {@link ResultSet#getTime(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Date> getOptionalDate(final int columnIndex) throws SQLException {
-        return ofNullable(getDate(columnIndex));
+    default Optional<Time> getOptionalTime(final int columnIndex) throws SQLException {
+        return ofNullable(getTime(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getDate(String)} for the basics of this method.
+     * See {@link ResultSet#getTime(String)} for the specifics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1365,17 +3723,17 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Date> getOptionalDate(final String columnLabel) throws SQLException {
-        return ofNullable(getDate(columnLabel));
+    default Optional<Time> getOptionalTime(final String columnLabel) throws SQLException {
+        return ofNullable(getTime(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getDate(int, java.util.Calendar)} for the basics of this method.
+     * See {@link ResultSet#getTime(int, java.util.Calendar)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     *          the <code>java.util.Calendar</code> object to use in constructing the time
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1383,19 +3741,19 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Date> getOptionalDate(final int columnIndex, final Calendar cal)
+    default Optional<Time> getOptionalTime(final int columnIndex, final Calendar cal)
             throws SQLException {
-        return ofNullable(getDate(columnIndex, cal));
+        return ofNullable(getTime(columnIndex, cal));
     }
 
     /**
-     * See {@link ResultSet#getDate(String, java.util.Calendar)} for the basics of this method.
+     * See {@link ResultSet#getTime(String, java.util.Calendar)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     *          the <code>java.util.Calendar</code> object to use in constructing the time
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1403,32 +3761,29 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Date> getOptionalDate(final String columnLabel, final Calendar cal)
+    default Optional<Time> getOptionalTime(final String columnLabel, final Calendar cal)
             throws SQLException {
-        return ofNullable(getDate(columnLabel, cal));
+        return ofNullable(getTime(columnLabel, cal));
     }
 
     /**
-     * See {@link ResultSet#getDouble(int)} for the basics of this method.
+     * See {@link ResultSet#getTimestamp(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Double> getOptionalDouble(final int columnIndex) throws SQLException {
-        final double value = getDouble(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<Timestamp> getOptionalTimestamp(final int columnIndex) throws SQLException {
+        return ofNullable(getTimestamp(columnIndex));
     }
 
     /**
-     * See {@link ResultSet#getDouble(String)} for the basics of this method.
+     * See {@link ResultSet#getTimestamp(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1440,38 +3795,38 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Double> getOptionalDouble(final String columnLabel) throws SQLException {
-        final double value = getDouble(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<Timestamp> getOptionalTimestamp(final String columnLabel)
+            throws SQLException {
+        return ofNullable(getTimestamp(columnLabel));
     }
 
     /**
-     * See {@link ResultSet#getFloat(int)} for the basics of this method.
+     * See {@link ResultSet#getTimestamp(int, java.util.Calendar)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the timestamp
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Float> getOptionalFloat(final int columnIndex) throws SQLException {
-        final float value = getFloat(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<Timestamp> getOptionalTimestamp(final int columnIndex, final Calendar cal)
+            throws SQLException {
+        return ofNullable(getTimestamp(columnIndex, cal));
     }
 
     /**
-     * See {@link ResultSet#getFloat(String)} for the basics of this method.
+     * See {@link ResultSet#getTimestamp(String, java.util.Calendar)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param cal
+     *          the <code>java.util.Calendar</code> object to use in constructing the timestamp
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1479,16 +3834,13 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Float> getOptionalFloat(final String columnLabel) throws SQLException {
-        final float value = getFloat(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<Timestamp> getOptionalTimestamp(final String columnLabel, final Calendar cal)
+            throws SQLException {
+        return ofNullable(getTimestamp(columnLabel, cal));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * See {@link ResultSet#getURL(int)} for the basics of this method.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
@@ -1498,15 +3850,15 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<Instant> getOptionalInstant(final int columnIndex) throws SQLException {
-        return getOptionalTimestamp(columnIndex).map(Timestamp::toInstant);
+    default Optional<URL> getOptionalURL(final int columnIndex) throws SQLException {
+        return ofNullable(getURL(columnIndex));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * See {@link ResultSet#getURL(String)} for the basics of this method.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
@@ -1517,78 +3869,79 @@ public interface ResultSetEx extends ResultSet {
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if the JDBC driver does not support this method
      */
-    default Optional<Instant> getOptionalInstant(final String columnLabel) throws SQLException {
-        return getOptionalTimestamp(columnLabel).map(Timestamp::toInstant);
+    default Optional<URL> getOptionalURL(final String columnLabel) throws SQLException {
+        return ofNullable(getURL(columnLabel));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(int)} does,
+     * as a {@code ZonedDateTime} whose zone is the offset of the value.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Optional<Instant> getOptionalInstant(final int columnIndex, final Calendar cal) throws SQLException {
-        return getOptionalTimestamp(columnIndex, cal).map(Timestamp::toInstant);
+    default Optional<ZonedDateTime> getOptionalZonedDateTime(final int columnIndex) throws SQLException {
+        return getOptionalOffsetDateTime(columnIndex).map(OffsetDateTime::toZonedDateTime);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as an {@code Instant}.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(int)} does,
+     * as a {@code ZonedDateTime} at the same instant in {@code zone}.
      *
-     * @param columnLabel
-     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
-     *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param zone
+     *          the time zone to express the value in
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
-     *          if the columnLabel is not valid; if a database access error occurs or this method is
+     *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toInstant()
      */
-    default Optional<Instant> getOptionalInstant(final String columnLabel, final Calendar cal) throws SQLException {
-        return getOptionalTimestamp(columnLabel, cal).map(Timestamp::toInstant);
+    default Optional<ZonedDateTime> getOptionalZonedDateTime(final int columnIndex, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnIndex);
+        return value.isPresent() ? of(Zones.zonedDateTime(value.get(), zone)) : empty();
     }
 
     /**
-     * See {@link ResultSet#getInt(int)} for the basics of this method.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(String)} does,
+     * as a {@code ZonedDateTime} whose zone is the offset of the value.
      *
-     * @param columnIndex
-     *          the first column is 1, the second is 2, ...
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@link Optional#empty() empty} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Integer> getOptionalInt(final int columnIndex) throws SQLException {
-        final int value = getInt(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<ZonedDateTime> getOptionalZonedDateTime(final String columnLabel) throws SQLException {
+        return getOptionalOffsetDateTime(columnLabel).map(OffsetDateTime::toZonedDateTime);
     }
 
     /**
-     * See {@link ResultSet#getInt(String)} for the basics of this method.
+     * Retrieves the value of the designated column as {@link #getOptionalOffsetDateTime(String)} does,
+     * as a {@code ZonedDateTime} at the same instant in {@code zone}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param zone
+     *          the time zone to express the value in
      * @return
      *          the column value; if the value is SQL <code>NULL</code>, the value
      *          {@link Optional#empty() empty} is returned.
@@ -1596,846 +3949,960 @@ public interface ResultSetEx extends ResultSet {
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Integer> getOptionalInt(final String columnLabel) throws SQLException {
-        final int value = getInt(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default Optional<ZonedDateTime> getOptionalZonedDateTime(final String columnLabel, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnLabel);
+        return value.isPresent() ? of(Zones.zonedDateTime(value.get(), zone)) : empty();
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code String}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code null}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
+     * @see #getArray(int)
      */
-    default Optional<LocalDate> getOptionalLocalDate(final int columnIndex) throws SQLException {
-        return getOptionalDate(columnIndex).map(Date::toLocalDate);
+    default String[] getStringArray(final int columnIndex) throws SQLException {
+        return SqlArrays.toStringArray(getArray(columnIndex));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Retrieves the SQL <code>ARRAY</code> in the designated column of the current row as
+     * an array of {@code String}, and {@link Array#free() frees} it. <code>NULL</code>
+     * elements are read as {@code null}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the elements of the column value; if the value is SQL <code>NULL</code>, the value
+     *          {@code null} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
+     * @see #getArray(String)
      */
-    default Optional<LocalDate> getOptionalLocalDate(final String columnLabel) throws SQLException {
-        return getOptionalDate(columnLabel).map(Date::toLocalDate);
+    default String[] getStringArray(final String columnLabel) throws SQLException {
+        return SqlArrays.toStringArray(getArray(columnLabel));
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}. <code>NULL</code> elements are read as {@code null}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param buffer
+     *          the array to read the elements into, from its first index on
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
+     * @see #getStringArray(int)
      */
-    default Optional<LocalDate> getOptionalLocalDate(final int columnIndex, final Calendar cal) throws SQLException {
-        return getOptionalDate(columnIndex, cal).map(Date::toLocalDate);
+    default int getStringArray(final int columnIndex, final String[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readStrings(getArray(columnIndex), buffer);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDate}.
+     * Reads the elements of the SQL <code>ARRAY</code> in the designated column of the current row
+     * into {@code buffer}, and {@link Array#free() frees} it. Elements past the end of {@code buffer}
+     * are not read. A buffer longer than 4096 elements is filled by streaming
+     * {@link Array#getResultSet()}, however few elements the array has, and a shorter one from
+     * {@link Array#getArray()}. <code>NULL</code> elements are read as {@code null}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param buffer
+     *          the array to read the elements into, from its first index on
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of elements read, at most {@code buffer.length}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Date#toLocalDate()
+     * @see #getStringArray(String)
      */
-    default Optional<LocalDate> getOptionalLocalDate(final String columnLabel, final Calendar cal) throws SQLException {
-        return getOptionalDate(columnLabel, cal).map(Date::toLocalDate);
+    default int getStringArray(final String columnLabel, final String[] buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return SqlArrays.readStrings(getArray(columnLabel), buffer);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
-     *
-     * @param columnIndex
-     *          the first column is 1, the second is 2, ...
-     * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
-     * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
-     *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     * @return the cache the temporal getters of this result set go through, or {@code null}
+     *          if they do not cache
+     * @see #setTemporalCache(TemporalCache)
      */
-    default Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex) throws SQLException {
-        return getOptionalTimestamp(columnIndex).map(Timestamp::toLocalDateTime);
+    default TemporalCache getTemporalCache() {
+        return null;
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Makes the {@code getLocalDate}, {@code getLocalDateTime} and {@code getInstant} getters of
+     * this result set, and their {@code getOptionalX} and {@code getCoercedX} counterparts, look
+     * their values up in {@code cache}, which returns equal values as the same instance. Worth it
+     * for columns with few distinct values, such as the dates of a fact table.
      *
-     * @param columnLabel
-     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
-     *          was not specified, then the label is the name of the column
-     * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     * @param cache
+     *          the cache to use, which may be shared with other result sets, or {@code null} to
+     *          stop caching
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
-     *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
+     *          if a database access error occurs
+     * @exception java.sql.SQLFeatureNotSupportedException
+     *          if this result set cannot cache temporal values
      */
-    default Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel) throws SQLException {
-        return getOptionalTimestamp(columnLabel).map(Timestamp::toLocalDateTime);
+    default void setTemporalCache(final TemporalCache cache) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setTemporalCache");
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Appends the text of the SQL <code>CLOB</code> in the designated column of the current row to
+     * {@code text}, streaming it from its {@link Clob#getCharacterStream() character stream}, and
+     * {@link Clob#free() frees} it.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param text
+     *          the builder to append the text to
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of characters appended; if the value is SQL <code>NULL</code>, the value
+     *          {@code -1} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
      */
-    default Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex, final Calendar cal) throws SQLException {
-        return getOptionalTimestamp(columnIndex, cal).map(Timestamp::toLocalDateTime);
+    default int readClobInto(final int columnIndex, final StringBuilder text) throws SQLException {
+        requireNonNull(text, "text");
+        return Clobs.readInto(getClob(columnIndex), text);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalDateTime}.
+     * Appends the text of the SQL <code>CLOB</code> in the designated column of the current row to
+     * {@code text}, streaming it from its {@link Clob#getCharacterStream() character stream}, and
+     * {@link Clob#free() frees} it.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param text
+     *          the builder to append the text to
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of characters appended; if the value is SQL <code>NULL</code>, the value
+     *          {@code -1} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Timestamp#toLocalDateTime()
      */
-    default Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel, final Calendar cal) throws SQLException {
-        return getOptionalTimestamp(columnLabel, cal).map(Timestamp::toLocalDateTime);
+    default int readClobInto(final String columnLabel, final StringBuilder text) throws SQLException {
+        requireNonNull(text, "text");
+        return Clobs.readInto(getClob(columnLabel), text);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * Reads the text of the SQL <code>CLOB</code> in the designated column of the current row into
+     * {@code buffer}, from its position on, and {@link Clob#free() frees} it. Text longer than the
+     * space remaining in {@code buffer} fills it, and the rest is not read.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param buffer
+     *          the buffer to read the text into; its position is advanced past the characters read
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of characters read, at most {@code buffer.remaining()}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned; if the text did not fit, the value
+     *          {@code -2} is returned.
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default Optional<LocalTime> getOptionalLocalTime(final int columnIndex) throws SQLException {
-        return getOptionalTime(columnIndex).map(Time::toLocalTime);
+    default int readClobInto(final int columnIndex, final CharBuffer buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return Clobs.readInto(getClob(columnIndex), buffer);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * Reads the text of the SQL <code>CLOB</code> in the designated column of the current row into
+     * {@code buffer}, from its position on, and {@link Clob#free() frees} it. Text longer than the
+     * space remaining in {@code buffer} fills it, and the rest is not read.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param buffer
+     *          the buffer to read the text into; its position is advanced past the characters read
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          the number of characters read, at most {@code buffer.remaining()}; if the value is SQL
+     *          <code>NULL</code>, the value {@code -1} is returned; if the text did not fit, the value
+     *          {@code -2} is returned.
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default Optional<LocalTime> getOptionalLocalTime(final String columnLabel) throws SQLException {
-        return getOptionalTime(columnLabel).map(Time::toLocalTime);
+    default int readClobInto(final String columnLabel, final CharBuffer buffer) throws SQLException {
+        requireNonNull(buffer, "buffer");
+        return Clobs.readInto(getClob(columnLabel), buffer);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * A view of the current row, to hand to code which takes one row at a time instead of
+     * copying the row into a map or an object for it. The view reads whichever row this
+     * result set is on when one of its getters is called; {@link Row#copy() copy} it to keep
+     * the values of a row after moving on.
+     *
+     * @return
+     *          the view of this result set's rows; the same view on every call where the
+     *          implementation can keep one
+     * @exception SQLException
+     *          if a database access error occurs or this method is called on a closed result set
+     */
+    default Row row() throws SQLException {
+        return new ResultSetRow(this, ResultSetShape.of(this));
+    }
+
+    /**
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBigDecimal(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link BigDecimal}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default Optional<LocalTime> getOptionalLocalTime(final int columnIndex, final Calendar cal) throws SQLException {
-        return getOptionalTime(columnIndex, cal).map(Time::toLocalTime);
+    default CoercionResult<BigDecimal> tryCoerceBigDecimal(final int columnIndex, final CoercionResult<BigDecimal> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBigDecimal(getObject(columnIndex), result);
     }
 
     /**
-     * Retrieves the value of the designated column in the current row
-     * of this {@code ResultSet} object as a {@code LocalTime}.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBigDecimal(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link BigDecimal}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the date
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @see java.sql.Time#toLocalTime()
      */
-    default Optional<LocalTime> getOptionalLocalTime(final String columnLabel, final Calendar cal) throws SQLException {
-        return getOptionalTime(columnLabel, cal).map(Time::toLocalTime);
+    default CoercionResult<BigDecimal> tryCoerceBigDecimal(final String columnLabel, final CoercionResult<BigDecimal> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBigDecimal(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getLong(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBigInteger(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link BigInteger}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Long> getOptionalLong(final int columnIndex) throws SQLException {
-        final long value = getLong(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default CoercionResult<BigInteger> tryCoerceBigInteger(final int columnIndex, final CoercionResult<BigInteger> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBigInteger(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getLong(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBigInteger(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link BigInteger}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Long> getOptionalLong(final String columnLabel) throws SQLException {
-        final long value = getLong(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default CoercionResult<BigInteger> tryCoerceBigInteger(final String columnLabel, final CoercionResult<BigInteger> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBigInteger(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getNClob(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBoolean(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Boolean}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<NClob> getOptionalNClob(final int columnIndex) throws SQLException {
-        return ofNullable(getNClob(columnIndex));
+    default CoercionResult<Boolean> tryCoerceBoolean(final int columnIndex, final CoercionResult<Boolean> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBoolean(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getNClob(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedBoolean(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Boolean}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<NClob> getOptionalNClob(final String columnLabel) throws SQLException {
-        return ofNullable(getNClob(columnLabel));
+    default CoercionResult<Boolean> tryCoerceBoolean(final String columnLabel, final CoercionResult<Boolean> result)
+            throws SQLException {
+        return Coercions.tryCoerceToBoolean(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getNString(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedByte(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Byte}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<String> getOptionalNString(final int columnIndex) throws SQLException {
-        return ofNullable(getNString(columnIndex));
+    default CoercionResult<Byte> tryCoerceByte(final int columnIndex, final CoercionResult<Byte> result)
+            throws SQLException {
+        return Coercions.tryCoerceToByte(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getNString(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedByte(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Byte}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<String> getOptionalNString(final String columnLabel) throws SQLException {
-        return ofNullable(getNString(columnLabel));
+    default CoercionResult<Byte> tryCoerceByte(final String columnLabel, final CoercionResult<Byte> result)
+            throws SQLException {
+        return Coercions.tryCoerceToByte(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedCharacter(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Character}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Object> getOptionalObject(final int columnIndex) throws SQLException {
-        return ofNullable(getObject(columnIndex));
+    default CoercionResult<Character> tryCoerceCharacter(final int columnIndex, final CoercionResult<Character> result)
+            throws SQLException {
+        return Coercions.tryCoerceToCharacter(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedCharacter(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Character}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Object> getOptionalObject(final String columnLabel) throws SQLException {
-        return ofNullable(getObject(columnLabel));
+    default CoercionResult<Character> tryCoerceCharacter(final String columnLabel, final CoercionResult<Character> result)
+            throws SQLException {
+        return Coercions.tryCoerceToCharacter(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(int, java.util.Map)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedDouble(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Double}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param map
-     *          a <code>java.util.Map</code> object that contains the mapping from SQL type names
-     *          to classes in the Java programming language
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Object> getOptionalObject(final int columnIndex, final Map<String,Class<?>> map)
+    default CoercionResult<Double> tryCoerceDouble(final int columnIndex, final CoercionResult<Double> result)
             throws SQLException {
-        return ofNullable(getObject(columnIndex, map));
+        return Coercions.tryCoerceToDouble(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(String, java.util.Map)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedDouble(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Double}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param map
-     *          a <code>java.util.Map</code> object that contains the mapping from SQL type names
-     *          to classes in the Java programming language
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
-     *          if the columnIndex is not valid; if a database access error occurs or this method is
+     *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Object> getOptionalObject(final String columnLabel, final Map<String,Class<?>> map)
+    default CoercionResult<Double> tryCoerceDouble(final String columnLabel, final CoercionResult<Double> result)
             throws SQLException {
-        return ofNullable(getObject(columnLabel, map));
+        return Coercions.tryCoerceToDouble(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(int, Class)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedFloat(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Float}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param type
-     *          Class representing the Java data type to convert the designated
-     * @param <T>
-     *           the type of the class modeled by this Class object column to.
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default <T> Optional<T> getOptionalObject(final int columnIndex, final Class<T> type) throws SQLException {
-        return ofNullable(getObject(columnIndex, type));
+    default CoercionResult<Float> tryCoerceFloat(final int columnIndex, final CoercionResult<Float> result)
+            throws SQLException {
+        return Coercions.tryCoerceToFloat(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getObject(String, Class)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedFloat(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Float}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param type
-     *          Class representing the Java data type to convert the designated column to.
-     * @param <T>
-     *          the type of the class modeled by this Class object
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default <T> Optional<T> getOptionalObject(final String columnLabel, final Class<T> type)
+    default CoercionResult<Float> tryCoerceFloat(final String columnLabel, final CoercionResult<Float> result)
             throws SQLException {
-        return ofNullable(getObject(columnLabel, type));
+        return Coercions.tryCoerceToFloat(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getRef(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedInstant(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link Instant}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Ref> getOptionalRef(final int columnIndex) throws SQLException {
-        return ofNullable(getRef(columnIndex));
+    default CoercionResult<Instant> tryCoerceInstant(final int columnIndex, final CoercionResult<Instant> result)
+            throws SQLException {
+        return Coercions.tryCoerceToInstant(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getRef(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedInstant(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link Instant}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<Ref> getOptionalRef(final String columnLabel) throws SQLException {
-        return ofNullable(getRef(columnLabel));
+    default CoercionResult<Instant> tryCoerceInstant(final String columnLabel, final CoercionResult<Instant> result)
+            throws SQLException {
+        return Coercions.tryCoerceToInstant(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getRowId(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedInteger(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link Integer}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<RowId> getOptionalRowId(final int columnIndex) throws SQLException {
-        return ofNullable(getRowId(columnIndex));
+    default CoercionResult<Integer> tryCoerceInteger(final int columnIndex, final CoercionResult<Integer> result)
+            throws SQLException {
+        return Coercions.tryCoerceToInteger(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getRowId(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedInteger(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link Integer}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<RowId> getOptionalRowId(final String columnLabel) throws SQLException {
-        return ofNullable(getRowId(columnLabel));
+    default CoercionResult<Integer> tryCoerceInteger(final String columnLabel, final CoercionResult<Integer> result)
+            throws SQLException {
+        return Coercions.tryCoerceToInteger(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getShort(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalDate(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalDate}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value returned is
-     *          {@link Optional#empty() empty}.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Short> getOptionalShort(final int columnIndex) throws SQLException {
-        final short value = getShort(columnIndex);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default CoercionResult<LocalDate> tryCoerceLocalDate(final int columnIndex, final CoercionResult<LocalDate> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalDate(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getShort(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalDate(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalDate}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Short> getOptionalShort(final String columnLabel) throws SQLException {
-        final short value = getShort(columnLabel);
-        return wasNull()
-                ? empty()
-                : of(value);
+    default CoercionResult<LocalDate> tryCoerceLocalDate(final String columnLabel, final CoercionResult<LocalDate> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalDate(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getSQLXML(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalDateTime(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalDateTime}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<SQLXML> getOptionalSQLXML(final int columnIndex) throws SQLException {
-        return ofNullable(getSQLXML(columnIndex));
+    default CoercionResult<LocalDateTime> tryCoerceLocalDateTime(final int columnIndex, final CoercionResult<LocalDateTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalDateTime(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getSQLXML(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalDateTime(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalDateTime}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<SQLXML> getOptionalSQLXML(final String columnLabel) throws SQLException {
-        return ofNullable(getSQLXML(columnLabel));
+    default CoercionResult<LocalDateTime> tryCoerceLocalDateTime(final String columnLabel, final CoercionResult<LocalDateTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalDateTime(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getString(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalTime(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalTime}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<String> getOptionalString(final int columnIndex) throws SQLException {
-        return ofNullable(getString(columnIndex));
+    default CoercionResult<LocalTime> tryCoerceLocalTime(final int columnIndex, final CoercionResult<LocalTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalTime(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getString(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLocalTime(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link LocalTime}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<String> getOptionalString(final String columnLabel) throws SQLException {
-        return ofNullable(getString(columnLabel));
+    default CoercionResult<LocalTime> tryCoerceLocalTime(final String columnLabel, final CoercionResult<LocalTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLocalTime(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getTime(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLong(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Long}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Time> getOptionalTime(final int columnIndex) throws SQLException {
-        return ofNullable(getTime(columnIndex));
+    default CoercionResult<Long> tryCoerceLong(final int columnIndex, final CoercionResult<Long> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLong(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getTime(String)} for the specifics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedLong(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Long}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Time> getOptionalTime(final String columnLabel) throws SQLException {
-        return ofNullable(getTime(columnLabel));
+    default CoercionResult<Long> tryCoerceLong(final String columnLabel, final CoercionResult<Long> result)
+            throws SQLException {
+        return Coercions.tryCoerceToLong(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getTime(int, java.util.Calendar)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedOffsetDateTime(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link OffsetDateTime}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the time
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Time> getOptionalTime(final int columnIndex, final Calendar cal)
+    default CoercionResult<OffsetDateTime> tryCoerceOffsetDateTime(final int columnIndex, final CoercionResult<OffsetDateTime> result)
             throws SQLException {
-        return ofNullable(getTime(columnIndex, cal));
+        return Coercions.tryCoerceToOffsetDateTime(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getTime(String, java.util.Calendar)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedOffsetDateTime(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * an {@link OffsetDateTime}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the time
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Time> getOptionalTime(final String columnLabel, final Calendar cal)
+    default CoercionResult<OffsetDateTime> tryCoerceOffsetDateTime(final String columnLabel, final CoercionResult<OffsetDateTime> result)
             throws SQLException {
-        return ofNullable(getTime(columnLabel, cal));
+        return Coercions.tryCoerceToOffsetDateTime(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getTimestamp(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedShort(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Short}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Timestamp> getOptionalTimestamp(final int columnIndex) throws SQLException {
-        return ofNullable(getTimestamp(columnIndex));
+    default CoercionResult<Short> tryCoerceShort(final int columnIndex, final CoercionResult<Short> result)
+            throws SQLException {
+        return Coercions.tryCoerceToShort(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getTimestamp(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedShort(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link Short}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Timestamp> getOptionalTimestamp(final String columnLabel)
+    default CoercionResult<Short> tryCoerceShort(final String columnLabel, final CoercionResult<Short> result)
             throws SQLException {
-        return ofNullable(getTimestamp(columnLabel));
+        return Coercions.tryCoerceToShort(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getTimestamp(int, java.util.Calendar)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedUUID(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link UUID}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the timestamp
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Timestamp> getOptionalTimestamp(final int columnIndex, final Calendar cal)
+    default CoercionResult<UUID> tryCoerceUUID(final int columnIndex, final CoercionResult<UUID> result)
             throws SQLException {
-        return ofNullable(getTimestamp(columnIndex, cal));
+        return Coercions.tryCoerceToUUID(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getTimestamp(String, java.util.Calendar)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedUUID(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link UUID}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
-     * @param cal
-     *          the <code>java.util.Calendar</code> object to use in constructing the timestamp
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
      */
-    default Optional<Timestamp> getOptionalTimestamp(final String columnLabel, final Calendar cal)
+    default CoercionResult<UUID> tryCoerceUUID(final String columnLabel, final CoercionResult<UUID> result)
             throws SQLException {
-        return ofNullable(getTimestamp(columnLabel, cal));
+        return Coercions.tryCoerceToUUID(getObject(columnLabel), result);
     }
 
     /**
-     * See {@link ResultSet#getURL(int)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedZonedDateTime(int)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link ZonedDateTime}.
      *
      * @param columnIndex
      *          the first column is 1, the second is 2, ...
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnIndex is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<URL> getOptionalURL(final int columnIndex) throws SQLException {
-        return ofNullable(getURL(columnIndex));
+    default CoercionResult<ZonedDateTime> tryCoerceZonedDateTime(final int columnIndex, final CoercionResult<ZonedDateTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToZonedDateTime(getObject(columnIndex), result);
     }
 
     /**
-     * See {@link ResultSet#getURL(String)} for the basics of this method.
+     * Coerces the value of the column into {@code result}, as {@link #getCoercedZonedDateTime(String)} does,
+     * but tells a SQL <code>NULL</code> apart from a value which cannot be coerced into
+     * a {@link ZonedDateTime}.
      *
      * @param columnLabel
      *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
      *          was not specified, then the label is the name of the column
+     * @param result
+     *          the result to overwrite, which is best reused across rows
      * @return
-     *          the column value; if the value is SQL <code>NULL</code>, the value
-     *          {@link Optional#empty() empty} is returned.
+     *          {@code result}, holding the coerced value, SQL <code>NULL</code> or the reason
+     *          the value could not be coerced
      * @exception SQLException
      *          if the columnLabel is not valid; if a database access error occurs or this method is
      *          called on a closed result set
-     * @exception java.sql.SQLFeatureNotSupportedException
-     *          if the JDBC driver does not support this method
      */
-    default Optional<URL> getOptionalURL(final String columnLabel) throws SQLException {
-        return ofNullable(getURL(columnLabel));
+    default CoercionResult<ZonedDateTime> tryCoerceZonedDateTime(final String columnLabel, final CoercionResult<ZonedDateTime> result)
+            throws SQLException {
+        return Coercions.tryCoerceToZonedDateTime(getObject(columnLabel), result);
     }
 }
@@ -14,9 +14,16 @@
 
 package com.justrudd.jdbcex;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+
+import com.justrudd.jdbcex.ResultSetShape.Getter;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
@@ -28,383 +35,2004 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.SQLType;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+final class ResultSetExImpl implements ResultSetEx {
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        return inner.absolute(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterLast() throws SQLException {
+        inner.afterLast();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beforeFirst() throws SQLException {
+        inner.beforeFirst();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        inner.cancelRowUpdates();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearWarnings() throws SQLException {
+        inner.clearWarnings();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws SQLException {
+        inner.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> ColumnRef<T> column(final String columnLabel, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        requireNonNull(columnLabel, "columnLabel");
+        requireNonNull(type, "type");
+        requireNonNull(registry, "registry");
+        return ColumnRef.of(shape(), findColumn(columnLabel), columnLabel, type, registry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void deleteRow() throws SQLException {
+        inner.deleteRow();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? columnIndex : inner.findColumn(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean first() throws SQLException {
+        return inner.first();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Array getArray(final int columnIndex) throws SQLException {
+        return inner.getArray(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Array getArray(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getArray(columnIndex) : inner.getArray(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        return inner.getAsciiStream(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getAsciiStream(columnIndex) : inner.getAsciiStream(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        return inner.getBigDecimal(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        return inner.getBigDecimal(columnIndex, scale);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBigDecimal(columnIndex) : inner.getBigDecimal(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBigDecimal(columnIndex, scale) : inner.getBigDecimal(columnLabel, scale);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        return inner.getBinaryStream(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBinaryStream(columnIndex) : inner.getBinaryStream(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        return inner.getBlob(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBlob(columnIndex) : inner.getBlob(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return inner.getBoolean(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBoolean(columnIndex) : inner.getBoolean(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        return inner.getByte(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getByte(columnIndex) : inner.getByte(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        return inner.getBytes(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getBytes(columnIndex) : inner.getBytes(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return inner.getCharacterStream(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getCharacterStream(columnIndex) : inner.getCharacterStream(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        return inner.getClob(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getClob(columnIndex) : inner.getClob(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type) throws SQLException {
+        return getCoerced(columnIndex, type, CoercionRegistry.getDefault());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return registry.coerce(inner.getObject(columnIndex), type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoerced(columnIndex, type)
+                : ResultSetEx.super.getCoerced(columnLabel, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoerced(columnIndex, type, registry)
+                : ResultSetEx.super.getCoerced(columnLabel, type, registry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigDecimal> getCoercedBigDecimal(final int columnIndex) throws SQLException {
+        // floating point values are left to Coercions, which does not expand their binary fractions
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final long value;
+        switch (getter) {
+            case INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            case DECIMAL_INT:
+            case DECIMAL_LONG: {
+                final BigDecimal decimal = inner.getBigDecimal(columnIndex);
+                CoercionTelemetry.recordTyped(start, BigDecimal.class, BigDecimal.class, decimal == null);
+                return ofNullable(decimal);
+            }
+            default:
+                return Coercions.coerceToBigDecimal(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), BigDecimal.class, isNull);
+        return isNull
+                ? empty()
+                : of(BigDecimals.valueOf(value, 0));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigDecimal> getCoercedBigDecimal(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedBigDecimal(columnIndex)
+                : ResultSetEx.super.getCoercedBigDecimal(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigInteger> getCoercedBigInteger(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final long value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (long) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (long) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToBigInteger(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), BigInteger.class, isNull);
+        return isNull
+                ? empty()
+                : of(BigInteger.valueOf(value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigInteger> getCoercedBigInteger(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedBigInteger(columnIndex)
+                : ResultSetEx.super.getCoercedBigInteger(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Boolean> getCoercedBoolean(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final boolean value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex) != 0;
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = (int) inner.getLong(columnIndex) != 0;
+                break;
+            case FLOAT:
+                value = (int) inner.getFloat(columnIndex) != 0;
+                break;
+            case DOUBLE:
+                value = (int) inner.getDouble(columnIndex) != 0;
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex);
+                break;
+            default:
+                return Coercions.coerceToBoolean(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Boolean.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Boolean> getCoercedBoolean(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedBoolean(columnIndex) : ResultSetEx.super.getCoercedBoolean(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Byte> getCoercedByte(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final byte value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = (byte) inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = (byte) inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (byte) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (byte) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? (byte) 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToByte(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Byte.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Byte> getCoercedByte(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedByte(columnIndex) : ResultSetEx.super.getCoercedByte(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Character> getCoercedCharacter(final int columnIndex) throws SQLException {
+        return Coercions.coerceToCharacter(inner.getObject(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Character> getCoercedCharacter(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedCharacter(columnIndex)
+                : ResultSetEx.super.getCoercedCharacter(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Double> getCoercedDouble(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final double value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1.0d : 0.0d;
+                break;
+            default:
+                return Coercions.coerceToDouble(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Double.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Double> getCoercedDouble(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedDouble(columnIndex) : ResultSetEx.super.getCoercedDouble(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCoercedDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final double value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1.0d : 0.0d;
+                break;
+            default:
+                return Coercions.coerceToDouble(inner.getObject(columnIndex), defaultValue);
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Double.class, isNull);
+        return isNull
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCoercedDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedDoubleOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getCoercedDoubleOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Enum<E>> Optional<E> getCoercedEnum(final int columnIndex, final Class<E> type)
+            throws SQLException {
+        return getCoercedEnum(columnIndex, EnumLookup.of(type));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Enum<E>> Optional<E> getCoercedEnum(final int columnIndex, final EnumLookup<E> lookup)
+            throws SQLException {
+        return lookup.find(inner.getObject(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Enum<E>> Optional<E> getCoercedEnum(final String columnLabel, final Class<E> type)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedEnum(columnIndex, type)
+                : ResultSetEx.super.getCoercedEnum(columnLabel, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <E extends Enum<E>> Optional<E> getCoercedEnum(final String columnLabel, final EnumLookup<E> lookup)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedEnum(columnIndex, lookup)
+                : ResultSetEx.super.getCoercedEnum(columnLabel, lookup);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Float> getCoercedFloat(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final float value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (float) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1.0f : 0.0f;
+                break;
+            default:
+                return Coercions.coerceToFloat(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Float.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Float> getCoercedFloat(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedFloat(columnIndex) : ResultSetEx.super.getCoercedFloat(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Integer> getCoercedInteger(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final int value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = (int) inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (int) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (int) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToInteger(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Integer.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Integer> getCoercedInteger(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedInteger(columnIndex) : ResultSetEx.super.getCoercedInteger(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCoercedIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final int value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = (int) inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (int) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (int) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToInteger(inner.getObject(columnIndex), defaultValue);
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Integer.class, isNull);
+        return isNull
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCoercedIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedIntOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getCoercedIntOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getCoercedInstant(final int columnIndex) throws SQLException {
+        switch (shape().getter(columnIndex)) {
+            case TIMESTAMP:
+                if (temporalCache != null) {
+                    final long start = CoercionTelemetry.startTyped();
+                    final Instant value = temporalCache.instant(inner.getTimestamp(columnIndex));
+                    CoercionTelemetry.recordTyped(start, Timestamp.class, Instant.class, value == null);
+                    return ofNullable(value);
+                }
+                return Coercions.coerceToInstant(inner.getTimestamp(columnIndex));
+            default:
+                return cachedInstant(Coercions.coerceToInstant(inner.getObject(columnIndex)));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getCoercedInstant(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getCoercedInstant(columnIndex);
+        }
+        return cachedInstant(ResultSetEx.super.getCoercedInstant(columnLabel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDate> getCoercedLocalDate(final int columnIndex) throws SQLException {
+        switch (shape().getter(columnIndex)) {
+            case DATE:
+                if (temporalCache != null) {
+                    final long start = CoercionTelemetry.startTyped();
+                    final LocalDate value = temporalCache.localDate(inner.getDate(columnIndex));
+                    CoercionTelemetry.recordTyped(start, Date.class, LocalDate.class, value == null);
+                    return ofNullable(value);
+                }
+                return Coercions.coerceToLocalDate(inner.getDate(columnIndex));
+            case TIMESTAMP:
+                return cachedLocalDate(Coercions.coerceToLocalDate(inner.getTimestamp(columnIndex)));
+            default:
+                return cachedLocalDate(Coercions.coerceToLocalDate(inner.getObject(columnIndex)));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDate> getCoercedLocalDate(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getCoercedLocalDate(columnIndex);
+        }
+        return cachedLocalDate(ResultSetEx.super.getCoercedLocalDate(columnLabel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDateTime> getCoercedLocalDateTime(final int columnIndex) throws SQLException {
+        switch (shape().getter(columnIndex)) {
+            case DATE:
+                return cachedLocalDateTime(Coercions.coerceToLocalDateTime(inner.getDate(columnIndex)));
+            case TIMESTAMP:
+                if (temporalCache != null) {
+                    final long start = CoercionTelemetry.startTyped();
+                    final LocalDateTime value = temporalCache.localDateTime(inner.getTimestamp(columnIndex));
+                    CoercionTelemetry.recordTyped(start, Timestamp.class, LocalDateTime.class, value == null);
+                    return ofNullable(value);
+                }
+                return Coercions.coerceToLocalDateTime(inner.getTimestamp(columnIndex));
+            default:
+                return cachedLocalDateTime(Coercions.coerceToLocalDateTime(inner.getObject(columnIndex)));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDateTime> getCoercedLocalDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getCoercedLocalDateTime(columnIndex);
+        }
+        return cachedLocalDateTime(ResultSetEx.super.getCoercedLocalDateTime(columnLabel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalTime> getCoercedLocalTime(final int columnIndex) throws SQLException {
+        switch (shape().getter(columnIndex)) {
+            case TIME:
+                return Coercions.coerceToLocalTime(inner.getTime(columnIndex));
+            case TIMESTAMP:
+                return Coercions.coerceToLocalTime(inner.getTimestamp(columnIndex));
+            default:
+                return Coercions.coerceToLocalTime(inner.getObject(columnIndex));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalTime> getCoercedLocalTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedLocalTime(columnIndex) : ResultSetEx.super.getCoercedLocalTime(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Long> getCoercedLong(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final long value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (long) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (long) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToLong(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Long.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Long> getCoercedLong(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedLong(columnIndex) : ResultSetEx.super.getCoercedLong(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCoercedLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final long value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (long) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (long) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToLong(inner.getObject(columnIndex), defaultValue);
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Long.class, isNull);
+        return isNull
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCoercedLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedLongOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getCoercedLongOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getCoercedOffsetDateTime(final int columnIndex) throws SQLException {
+        return Coercions.coerceToOffsetDateTime(inner.getObject(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getCoercedOffsetDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedOffsetDateTime(columnIndex)
+                : ResultSetEx.super.getCoercedOffsetDateTime(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Short> getCoercedShort(final int columnIndex) throws SQLException {
+        final Getter getter = shape().getter(columnIndex);
+        final long start = CoercionTelemetry.startTyped();
+        final short value;
+        switch (getter) {
+            case INT:
+            case DECIMAL_INT:
+                value = (short) inner.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                value = (short) inner.getLong(columnIndex);
+                break;
+            case FLOAT:
+                value = (short) inner.getFloat(columnIndex);
+                break;
+            case DOUBLE:
+                value = (short) inner.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                value = inner.getBoolean(columnIndex) ? (short) 1 : 0;
+                break;
+            default:
+                return Coercions.coerceToShort(inner.getObject(columnIndex));
+        }
+        final boolean isNull = wasNull(columnIndex);
+        CoercionTelemetry.recordTyped(start, getter.objectType(), Short.class, isNull);
+        return isNull
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Short> getCoercedShort(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? getCoercedShort(columnIndex) : ResultSetEx.super.getCoercedShort(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<UUID> getCoercedUUID(final int columnIndex) throws SQLException {
+        return Coercions.coerceToUUID(inner.getObject(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<UUID> getCoercedUUID(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedUUID(columnIndex)
+                : ResultSetEx.super.getCoercedUUID(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getCoercedZonedDateTime(final int columnIndex) throws SQLException {
+        return Coercions.coerceToZonedDateTime(inner.getObject(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getCoercedZonedDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getCoercedZonedDateTime(columnIndex)
+                : ResultSetEx.super.getCoercedZonedDateTime(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getConcurrency() throws SQLException {
+        return inner.getConcurrency();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCursorName() throws SQLException {
+        return inner.getCursorName();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        return inner.getDate(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        return inner.getDate(columnIndex, cal);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getDate(columnIndex) : inner.getDate(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getDate(columnIndex, cal) : inner.getDate(columnLabel, cal);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return inner.getDouble(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getDouble(columnIndex) : inner.getDouble(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        final double value = inner.getDouble(columnIndex);
+        return wasNull(columnIndex)
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getDoubleOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getDoubleOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return inner.getFetchDirection();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFetchSize() throws SQLException {
+        return inner.getFetchSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        return inner.getFloat(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getFloat(columnIndex) : inner.getFloat(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHoldability() throws SQLException {
+        return inner.getHoldability();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Instant getInstant(final int columnIndex) throws SQLException {
+        if (temporalCache == null) {
+            return ResultSetEx.super.getInstant(columnIndex);
+        }
+        return temporalCache.instant(inner.getTimestamp(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Instant getInstant(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getInstant(columnIndex);
+        }
+        if (temporalCache == null) {
+            return ResultSetEx.super.getInstant(columnLabel);
+        }
+        return temporalCache.instant(inner.getTimestamp(columnLabel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return inner.getInt(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getInt(columnIndex) : inner.getInt(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        final int value = inner.getInt(columnIndex);
+        return wasNull(columnIndex)
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getIntOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getIntOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDate getLocalDate(final int columnIndex) throws SQLException {
+        return readLocalDate(columnIndex, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDate getLocalDate(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getLocalDate(columnIndex);
+        }
+        return readLocalDate(0, columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime getLocalDateTime(final int columnIndex) throws SQLException {
+        return readLocalDateTime(columnIndex, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime getLocalDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getLocalDateTime(columnIndex);
+        }
+        return readLocalDateTime(0, columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalTime getLocalTime(final int columnIndex) throws SQLException {
+        return readLocalTime(columnIndex, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalTime getLocalTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getLocalTime(columnIndex);
+        }
+        return readLocalTime(0, columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return inner.getLong(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getLong(columnIndex) : inner.getLong(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        final long value = inner.getLong(columnIndex);
+        return wasNull(columnIndex)
+                ? defaultValue
+                : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getLongOr(columnIndex, defaultValue)
+                : ResultSetEx.super.getLongOr(columnLabel, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return inner.getMetaData();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        return inner.getNCharacterStream(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getNCharacterStream(columnIndex) : inner.getNCharacterStream(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NClob getNClob(final int columnIndex) throws SQLException {
+        return inner.getNClob(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NClob getNClob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getNClob(columnIndex) : inner.getNClob(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getNString(final int columnIndex) throws SQLException {
+        return inner.getNString(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getNString(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getNString(columnIndex) : inner.getNString(columnLabel);
+    }
 
-final class ResultSetExImpl implements ResultSetEx {
+    /** {@inheritDoc} */
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return inner.getObject(columnIndex);
+    }
 
     /** {@inheritDoc} */
     @Override
-    public boolean absolute(final int row) throws SQLException {
-        return inner.absolute(row);
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        return inner.getObject(columnIndex, map);
     }
 
     /** {@inheritDoc} */
     @Override
-    public void afterLast() throws SQLException {
-        inner.afterLast();
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        return inner.getObject(columnIndex, type);
     }
 
     /** {@inheritDoc} */
     @Override
-    public void beforeFirst() throws SQLException {
-        inner.beforeFirst();
+    public Object getObject(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getObject(columnIndex) : inner.getObject(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public void cancelRowUpdates() throws SQLException {
-        inner.cancelRowUpdates();
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getObject(columnIndex, map) : inner.getObject(columnLabel, map);
     }
 
     /** {@inheritDoc} */
     @Override
-    public void clearWarnings() throws SQLException {
-        inner.clearWarnings();
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getObject(columnIndex, type) : inner.getObject(columnLabel, type);
     }
 
     /** {@inheritDoc} */
     @Override
-    public void close() throws SQLException {
-        inner.close();
+    public Optional<Array> getOptionalArray(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getArray(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public void deleteRow() throws SQLException {
-        inner.deleteRow();
+    public Optional<Array> getOptionalArray(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalArray(columnIndex)
+                : ResultSetEx.super.getOptionalArray(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public int findColumn(final String columnLabel) throws SQLException {
-        return inner.findColumn(columnLabel);
+    public Optional<BigDecimal> getOptionalBigDecimal(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getBigDecimal(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public boolean first() throws SQLException {
-        return inner.first();
+    public Optional<BigDecimal> getOptionalBigDecimal(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalBigDecimal(columnIndex)
+                : ResultSetEx.super.getOptionalBigDecimal(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Array getArray(final int columnIndex) throws SQLException {
-        return inner.getArray(columnIndex);
+    public Optional<Blob> getOptionalBlob(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getBlob(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public Array getArray(final String columnLabel) throws SQLException {
-        return inner.getArray(columnLabel);
+    public Optional<Blob> getOptionalBlob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalBlob(columnIndex)
+                : ResultSetEx.super.getOptionalBlob(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
-        return inner.getAsciiStream(columnIndex);
+    public Optional<Boolean> getOptionalBoolean(final int columnIndex) throws SQLException {
+        final boolean value = inner.getBoolean(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
-        return inner.getAsciiStream(columnLabel);
+    public Optional<Boolean> getOptionalBoolean(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalBoolean(columnIndex)
+                : ResultSetEx.super.getOptionalBoolean(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-        return inner.getBigDecimal(columnIndex);
+    public Optional<Byte> getOptionalByte(final int columnIndex) throws SQLException {
+        final byte value = inner.getByte(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    @Deprecated
-    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
-        return inner.getBigDecimal(columnIndex, scale);
+    public Optional<Byte> getOptionalByte(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalByte(columnIndex)
+                : ResultSetEx.super.getOptionalByte(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
-        return inner.getBigDecimal(columnLabel);
+    public Optional<byte[]> getOptionalBytes(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getBytes(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    @Deprecated
-    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
-        return inner.getBigDecimal(columnLabel, scale);
+    public Optional<byte[]> getOptionalBytes(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalBytes(columnIndex)
+                : ResultSetEx.super.getOptionalBytes(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
-        return inner.getBinaryStream(columnIndex);
+    public Optional<Clob> getOptionalClob(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getClob(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
-        return inner.getBinaryStream(columnLabel);
+    public Optional<Clob> getOptionalClob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalClob(columnIndex)
+                : ResultSetEx.super.getOptionalClob(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Blob getBlob(final int columnIndex) throws SQLException {
-        return inner.getBlob(columnIndex);
+    public Optional<Date> getOptionalDate(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getDate(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public Blob getBlob(final String columnLabel) throws SQLException {
-        return inner.getBlob(columnLabel);
+    public Optional<Date> getOptionalDate(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalDate(columnIndex)
+                : ResultSetEx.super.getOptionalDate(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public boolean getBoolean(final int columnIndex) throws SQLException {
-        return inner.getBoolean(columnIndex);
+    public Optional<Date> getOptionalDate(final int columnIndex, final Calendar cal)
+            throws SQLException {
+        return ofNullable(inner.getDate(columnIndex, cal));
     }
 
     /** {@inheritDoc} */
     @Override
-    public boolean getBoolean(final String columnLabel) throws SQLException {
-        return inner.getBoolean(columnLabel);
+    public Optional<Date> getOptionalDate(final String columnLabel, final Calendar cal)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalDate(columnIndex, cal)
+                : ResultSetEx.super.getOptionalDate(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
     @Override
-    public byte getByte(final int columnIndex) throws SQLException {
-        return inner.getByte(columnIndex);
+    public Optional<Double> getOptionalDouble(final int columnIndex) throws SQLException {
+        final double value = inner.getDouble(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public byte getByte(final String columnLabel) throws SQLException {
-        return inner.getByte(columnLabel);
+    public Optional<Double> getOptionalDouble(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalDouble(columnIndex)
+                : ResultSetEx.super.getOptionalDouble(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public byte[] getBytes(final int columnIndex) throws SQLException {
-        return inner.getBytes(columnIndex);
+    public OptionalDouble getOptionalDoublePrimitive(final int columnIndex) throws SQLException {
+        final double value = inner.getDouble(columnIndex);
+        return wasNull(columnIndex)
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public byte[] getBytes(final String columnLabel) throws SQLException {
-        return inner.getBytes(columnLabel);
+    public OptionalDouble getOptionalDoublePrimitive(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalDoublePrimitive(columnIndex)
+                : ResultSetEx.super.getOptionalDoublePrimitive(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Reader getCharacterStream(final int columnIndex) throws SQLException {
-        return inner.getCharacterStream(columnIndex);
+    public Optional<Float> getOptionalFloat(final int columnIndex) throws SQLException {
+        final float value = inner.getFloat(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Reader getCharacterStream(final String columnLabel) throws SQLException {
-        return inner.getCharacterStream(columnLabel);
+    public Optional<Float> getOptionalFloat(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalFloat(columnIndex)
+                : ResultSetEx.super.getOptionalFloat(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Clob getClob(final int columnIndex) throws SQLException {
-        return inner.getClob(columnIndex);
+    public Optional<Instant> getOptionalInstant(final int columnIndex) throws SQLException {
+        if (temporalCache == null) {
+            return ResultSetEx.super.getOptionalInstant(columnIndex);
+        }
+        return ofNullable(temporalCache.instant(inner.getTimestamp(columnIndex)));
     }
 
     /** {@inheritDoc} */
     @Override
-    public Clob getClob(final String columnLabel) throws SQLException {
-        return inner.getClob(columnLabel);
+    public Optional<Instant> getOptionalInstant(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getOptionalInstant(columnIndex);
+        }
+        if (temporalCache == null) {
+            return ResultSetEx.super.getOptionalInstant(columnLabel);
+        }
+        return ofNullable(temporalCache.instant(inner.getTimestamp(columnLabel)));
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getConcurrency() throws SQLException {
-        return inner.getConcurrency();
+    public Optional<Instant> getOptionalInstant(final int columnIndex, final Calendar cal) throws SQLException {
+        final Timestamp value = inner.getTimestamp(columnIndex, cal);
+        return value == null
+                ? empty()
+                : of(value.toInstant());
     }
 
     /** {@inheritDoc} */
     @Override
-    public String getCursorName() throws SQLException {
-        return inner.getCursorName();
+    public Optional<Instant> getOptionalInstant(final String columnLabel, final Calendar cal) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalInstant(columnIndex, cal)
+                : ResultSetEx.super.getOptionalInstant(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Date getDate(final int columnIndex) throws SQLException {
-        return inner.getDate(columnIndex);
+    public Optional<Integer> getOptionalInt(final int columnIndex) throws SQLException {
+        final int value = inner.getInt(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
-        return inner.getDate(columnIndex, cal);
+    public Optional<Integer> getOptionalInt(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalInt(columnIndex)
+                : ResultSetEx.super.getOptionalInt(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Date getDate(final String columnLabel) throws SQLException {
-        return inner.getDate(columnLabel);
+    public OptionalInt getOptionalIntPrimitive(final int columnIndex) throws SQLException {
+        final int value = inner.getInt(columnIndex);
+        return wasNull(columnIndex)
+                ? OptionalInt.empty()
+                : OptionalInt.of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
-        return inner.getDate(columnLabel, cal);
+    public OptionalInt getOptionalIntPrimitive(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalIntPrimitive(columnIndex)
+                : ResultSetEx.super.getOptionalIntPrimitive(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public double getDouble(final int columnIndex) throws SQLException {
-        return inner.getDouble(columnIndex);
+    public Optional<LocalDate> getOptionalLocalDate(final int columnIndex) throws SQLException {
+        return ofNullable(readLocalDate(columnIndex, null));
     }
 
     /** {@inheritDoc} */
     @Override
-    public double getDouble(final String columnLabel) throws SQLException {
-        return inner.getDouble(columnLabel);
+    public Optional<LocalDate> getOptionalLocalDate(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getOptionalLocalDate(columnIndex);
+        }
+        return ofNullable(readLocalDate(0, columnLabel));
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getFetchDirection() throws SQLException {
-        return inner.getFetchDirection();
+    public Optional<LocalDate> getOptionalLocalDate(final int columnIndex, final Calendar cal) throws SQLException {
+        final Date value = inner.getDate(columnIndex, cal);
+        return value == null
+                ? empty()
+                : of(value.toLocalDate());
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getFetchSize() throws SQLException {
-        return inner.getFetchSize();
+    public Optional<LocalDate> getOptionalLocalDate(final String columnLabel, final Calendar cal) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalLocalDate(columnIndex, cal)
+                : ResultSetEx.super.getOptionalLocalDate(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
     @Override
-    public float getFloat(final int columnIndex) throws SQLException {
-        return inner.getFloat(columnIndex);
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex) throws SQLException {
+        return ofNullable(readLocalDateTime(columnIndex, null));
     }
 
     /** {@inheritDoc} */
     @Override
-    public float getFloat(final String columnLabel) throws SQLException {
-        return inner.getFloat(columnLabel);
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getOptionalLocalDateTime(columnIndex);
+        }
+        return ofNullable(readLocalDateTime(0, columnLabel));
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getHoldability() throws SQLException {
-        return inner.getHoldability();
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex, final Calendar cal) throws SQLException {
+        final Timestamp value = inner.getTimestamp(columnIndex, cal);
+        return value == null
+                ? empty()
+                : of(value.toLocalDateTime());
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getInt(final int columnIndex) throws SQLException {
-        return inner.getInt(columnIndex);
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel, final Calendar cal) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalLocalDateTime(columnIndex, cal)
+                : ResultSetEx.super.getOptionalLocalDateTime(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
     @Override
-    public int getInt(final String columnLabel) throws SQLException {
-        return inner.getInt(columnLabel);
+    public Optional<LocalTime> getOptionalLocalTime(final int columnIndex) throws SQLException {
+        return ofNullable(readLocalTime(columnIndex, null));
     }
 
     /** {@inheritDoc} */
     @Override
-    public long getLong(final int columnIndex) throws SQLException {
-        return inner.getLong(columnIndex);
+    public Optional<LocalTime> getOptionalLocalTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getOptionalLocalTime(columnIndex);
+        }
+        return ofNullable(readLocalTime(0, columnLabel));
     }
 
     /** {@inheritDoc} */
     @Override
-    public long getLong(final String columnLabel) throws SQLException {
-        return inner.getLong(columnLabel);
+    public Optional<LocalTime> getOptionalLocalTime(final int columnIndex, final Calendar cal) throws SQLException {
+        final Time value = inner.getTime(columnIndex, cal);
+        return value == null
+                ? empty()
+                : of(value.toLocalTime());
     }
 
     /** {@inheritDoc} */
     @Override
-    public ResultSetMetaData getMetaData() throws SQLException {
-        return inner.getMetaData();
+    public Optional<LocalTime> getOptionalLocalTime(final String columnLabel, final Calendar cal) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalLocalTime(columnIndex, cal)
+                : ResultSetEx.super.getOptionalLocalTime(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
-        return inner.getNCharacterStream(columnIndex);
+    public Optional<Long> getOptionalLong(final int columnIndex) throws SQLException {
+        final long value = inner.getLong(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
-        return inner.getNCharacterStream(columnLabel);
+    public Optional<Long> getOptionalLong(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalLong(columnIndex)
+                : ResultSetEx.super.getOptionalLong(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public NClob getNClob(final int columnIndex) throws SQLException {
-        return inner.getNClob(columnIndex);
+    public OptionalLong getOptionalLongPrimitive(final int columnIndex) throws SQLException {
+        final long value = inner.getLong(columnIndex);
+        return wasNull(columnIndex)
+                ? OptionalLong.empty()
+                : OptionalLong.of(value);
     }
 
     /** {@inheritDoc} */
     @Override
-    public NClob getNClob(final String columnLabel) throws SQLException {
-        return inner.getNClob(columnLabel);
+    public OptionalLong getOptionalLongPrimitive(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalLongPrimitive(columnIndex)
+                : ResultSetEx.super.getOptionalLongPrimitive(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public String getNString(final int columnIndex) throws SQLException {
-        return inner.getNString(columnIndex);
+    public Optional<NClob> getOptionalNClob(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getNClob(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public String getNString(final String columnLabel) throws SQLException {
-        return inner.getNString(columnLabel);
+    public Optional<NClob> getOptionalNClob(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalNClob(columnIndex)
+                : ResultSetEx.super.getOptionalNClob(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Object getObject(final int columnIndex) throws SQLException {
-        return inner.getObject(columnIndex);
+    public Optional<String> getOptionalNString(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getNString(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
-        return inner.getObject(columnIndex, map);
+    public Optional<String> getOptionalNString(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalNString(columnIndex)
+                : ResultSetEx.super.getOptionalNString(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
-        return inner.getObject(columnIndex, type);
+    public Optional<Object> getOptionalObject(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getObject(columnIndex));
     }
 
     /** {@inheritDoc} */
     @Override
-    public Object getObject(final String columnLabel) throws SQLException {
-        return inner.getObject(columnLabel);
+    public Optional<Object> getOptionalObject(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalObject(columnIndex)
+                : ResultSetEx.super.getOptionalObject(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
-    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
-        return inner.getObject(columnLabel, map);
+    public Optional<Object> getOptionalObject(final int columnIndex, final Map<String,Class<?>> map)
+            throws SQLException {
+        return ofNullable(inner.getObject(columnIndex, map));
     }
 
     /** {@inheritDoc} */
     @Override
-    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
-        return inner.getObject(columnLabel, type);
+    public Optional<Object> getOptionalObject(final String columnLabel, final Map<String,Class<?>> map)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalObject(columnIndex, map)
+                : ResultSetEx.super.getOptionalObject(columnLabel, map);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getOptionalObject(final int columnIndex, final Class<T> type) throws SQLException {
+        return ofNullable(inner.getObject(columnIndex, type));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getOptionalObject(final String columnLabel, final Class<T> type)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalObject(columnIndex, type)
+                : ResultSetEx.super.getOptionalObject(columnLabel, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getOptionalOffsetDateTime(final int columnIndex) throws SQLException {
+        return ofNullable(readOffsetDateTime(columnIndex, null));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getOptionalOffsetDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            return getOptionalOffsetDateTime(columnIndex);
+        }
+        return ofNullable(readOffsetDateTime(0, columnLabel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getOptionalOffsetDateTime(final int columnIndex, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnIndex);
+        return value.isPresent() ? of(Zones.offsetDateTime(value.get(), zone)) : value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<OffsetDateTime> getOptionalOffsetDateTime(final String columnLabel, final ZoneId zone)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalOffsetDateTime(columnIndex, zone)
+                : ResultSetEx.super.getOptionalOffsetDateTime(columnLabel, zone);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Ref> getOptionalRef(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getRef(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Ref> getOptionalRef(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalRef(columnIndex)
+                : ResultSetEx.super.getOptionalRef(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<RowId> getOptionalRowId(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getRowId(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<RowId> getOptionalRowId(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalRowId(columnIndex)
+                : ResultSetEx.super.getOptionalRowId(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<SQLXML> getOptionalSQLXML(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getSQLXML(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<SQLXML> getOptionalSQLXML(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalSQLXML(columnIndex)
+                : ResultSetEx.super.getOptionalSQLXML(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Short> getOptionalShort(final int columnIndex) throws SQLException {
+        final short value = inner.getShort(columnIndex);
+        return wasNull(columnIndex)
+                ? empty()
+                : of(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Short> getOptionalShort(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalShort(columnIndex)
+                : ResultSetEx.super.getOptionalShort(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getOptionalString(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getString(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getOptionalString(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalString(columnIndex)
+                : ResultSetEx.super.getOptionalString(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Time> getOptionalTime(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getTime(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Time> getOptionalTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalTime(columnIndex)
+                : ResultSetEx.super.getOptionalTime(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Time> getOptionalTime(final int columnIndex, final Calendar cal)
+            throws SQLException {
+        return ofNullable(inner.getTime(columnIndex, cal));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Time> getOptionalTime(final String columnLabel, final Calendar cal)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalTime(columnIndex, cal)
+                : ResultSetEx.super.getOptionalTime(columnLabel, cal);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Timestamp> getOptionalTimestamp(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getTimestamp(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Timestamp> getOptionalTimestamp(final String columnLabel)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalTimestamp(columnIndex)
+                : ResultSetEx.super.getOptionalTimestamp(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Timestamp> getOptionalTimestamp(final int columnIndex, final Calendar cal)
+            throws SQLException {
+        return ofNullable(inner.getTimestamp(columnIndex, cal));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Timestamp> getOptionalTimestamp(final String columnLabel, final Calendar cal)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalTimestamp(columnIndex, cal)
+                : ResultSetEx.super.getOptionalTimestamp(columnLabel, cal);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<URL> getOptionalURL(final int columnIndex) throws SQLException {
+        return ofNullable(inner.getURL(columnIndex));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<URL> getOptionalURL(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalURL(columnIndex)
+                : ResultSetEx.super.getOptionalURL(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getOptionalZonedDateTime(final int columnIndex) throws SQLException {
+        return getOptionalOffsetDateTime(columnIndex).map(OffsetDateTime::toZonedDateTime);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getOptionalZonedDateTime(final int columnIndex, final ZoneId zone)
+            throws SQLException {
+        requireNonNull(zone, "zone");
+        final Optional<OffsetDateTime> value = getOptionalOffsetDateTime(columnIndex);
+        return value.isPresent() ? of(Zones.zonedDateTime(value.get(), zone)) : empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getOptionalZonedDateTime(final String columnLabel) throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalZonedDateTime(columnIndex)
+                : ResultSetEx.super.getOptionalZonedDateTime(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ZonedDateTime> getOptionalZonedDateTime(final String columnLabel, final ZoneId zone)
+            throws SQLException {
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0
+                ? getOptionalZonedDateTime(columnIndex, zone)
+                : ResultSetEx.super.getOptionalZonedDateTime(columnLabel, zone);
     }
 
     /** {@inheritDoc} */
@@ -416,7 +2044,8 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public Ref getRef(final String columnLabel) throws SQLException {
-        return inner.getRef(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getRef(columnIndex) : inner.getRef(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -434,7 +2063,8 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public RowId getRowId(final String columnLabel) throws SQLException {
-        return inner.getRowId(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getRowId(columnIndex) : inner.getRowId(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -446,7 +2076,8 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public short getShort(final String columnLabel) throws SQLException {
-        return inner.getShort(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getShort(columnIndex) : inner.getShort(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -458,7 +2089,8 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public SQLXML getSQLXML(final String columnLabel) throws SQLException {
-        return inner.getSQLXML(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getSQLXML(columnIndex) : inner.getSQLXML(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -476,7 +2108,14 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public String getString(final String columnLabel) throws SQLException {
-        return inner.getString(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getString(columnIndex) : inner.getString(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TemporalCache getTemporalCache() {
+        return temporalCache;
     }
 
     /** {@inheritDoc} */
@@ -494,13 +2133,15 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public Time getTime(final String columnLabel) throws SQLException {
-        return inner.getTime(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getTime(columnIndex) : inner.getTime(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
-        return inner.getTime(columnLabel, cal);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getTime(columnIndex, cal) : inner.getTime(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
@@ -518,13 +2159,15 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public Timestamp getTimestamp(final String columnLabel) throws SQLException {
-        return inner.getTimestamp(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getTimestamp(columnIndex) : inner.getTimestamp(columnLabel);
     }
 
     /** {@inheritDoc} */
     @Override
     public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
-        return inner.getTimestamp(columnLabel, cal);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getTimestamp(columnIndex, cal) : inner.getTimestamp(columnLabel, cal);
     }
 
     /** {@inheritDoc} */
@@ -544,7 +2187,8 @@ final class ResultSetExImpl implements ResultSetEx {
     @Override
     @Deprecated
     public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
-        return inner.getUnicodeStream(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getUnicodeStream(columnIndex) : inner.getUnicodeStream(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -556,7 +2200,8 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public URL getURL(final String columnLabel) throws SQLException {
-        return inner.getURL(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        return columnIndex > 0 ? inner.getURL(columnIndex) : inner.getURL(columnLabel);
     }
 
     /** {@inheritDoc} */
@@ -649,6 +2294,15 @@ final class ResultSetExImpl implements ResultSetEx {
         return inner.relative(rows);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Row row() {
+        if (row == null) {
+            row = new ResultSetRow(this, shape());
+        }
+        return row;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean rowDeleted() throws SQLException {
@@ -667,6 +2321,12 @@ final class ResultSetExImpl implements ResultSetEx {
         return inner.rowUpdated();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void setTemporalCache(final TemporalCache cache) {
+        this.temporalCache = cache;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void setFetchDirection(final int direction) throws SQLException {
@@ -688,7 +2348,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateArray(final String columnLabel, final Array x) throws SQLException {
-        inner.updateArray(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateArray(columnIndex, x);
+        }
+        else {
+            inner.updateArray(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -712,19 +2378,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateAsciiStream(final String columnLabel, final InputStream x) throws SQLException {
-        inner.updateAsciiStream(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateAsciiStream(columnIndex, x);
+        }
+        else {
+            inner.updateAsciiStream(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateAsciiStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
-        inner.updateAsciiStream(columnLabel, x, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateAsciiStream(columnIndex, x, length);
+        }
+        else {
+            inner.updateAsciiStream(columnLabel, x, length);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateAsciiStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
-        inner.updateAsciiStream(columnLabel, x, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateAsciiStream(columnIndex, x, length);
+        }
+        else {
+            inner.updateAsciiStream(columnLabel, x, length);
+        }
     }
 
     /** {@inheritDoc} */
@@ -736,7 +2420,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateBigDecimal(final String columnLabel, final BigDecimal x) throws SQLException {
-        inner.updateBigDecimal(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBigDecimal(columnIndex, x);
+        }
+        else {
+            inner.updateBigDecimal(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -760,19 +2450,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateBinaryStream(final String columnLabel, final InputStream x) throws SQLException {
-        inner.updateBinaryStream(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBinaryStream(columnIndex, x);
+        }
+        else {
+            inner.updateBinaryStream(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateBinaryStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
-        inner.updateBinaryStream(columnLabel, x, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBinaryStream(columnIndex, x, length);
+        }
+        else {
+            inner.updateBinaryStream(columnLabel, x, length);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateBinaryStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
-        inner.updateBinaryStream(columnLabel, x, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBinaryStream(columnIndex, x, length);
+        }
+        else {
+            inner.updateBinaryStream(columnLabel, x, length);
+        }
     }
 
     /** {@inheritDoc} */
@@ -796,19 +2504,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateBlob(final String columnLabel, final InputStream inputStream) throws SQLException {
-        inner.updateBlob(columnLabel, inputStream);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBlob(columnIndex, inputStream);
+        }
+        else {
+            inner.updateBlob(columnLabel, inputStream);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateBlob(final String columnLabel, final InputStream inputStream, final long length) throws SQLException {
-        inner.updateBlob(columnLabel, inputStream, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBlob(columnIndex, inputStream, length);
+        }
+        else {
+            inner.updateBlob(columnLabel, inputStream, length);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateBlob(final String columnLabel, final Blob x) throws SQLException {
-        inner.updateBlob(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBlob(columnIndex, x);
+        }
+        else {
+            inner.updateBlob(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -820,7 +2546,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateBoolean(final String columnLabel, final boolean x) throws SQLException {
-        inner.updateBoolean(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBoolean(columnIndex, x);
+        }
+        else {
+            inner.updateBoolean(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -832,7 +2564,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateByte(final String columnLabel, final byte x) throws SQLException {
-        inner.updateByte(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateByte(columnIndex, x);
+        }
+        else {
+            inner.updateByte(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -844,7 +2582,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateBytes(final String columnLabel, final byte[] x) throws SQLException {
-        inner.updateBytes(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateBytes(columnIndex, x);
+        }
+        else {
+            inner.updateBytes(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -868,19 +2612,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
-        inner.updateCharacterStream(columnLabel, reader);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateCharacterStream(columnIndex, reader);
+        }
+        else {
+            inner.updateCharacterStream(columnLabel, reader);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateCharacterStream(final String columnLabel, final Reader reader, final int length) throws SQLException {
-        inner.updateCharacterStream(columnLabel, reader, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateCharacterStream(columnIndex, reader, length);
+        }
+        else {
+            inner.updateCharacterStream(columnLabel, reader, length);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        inner.updateCharacterStream(columnLabel, reader, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateCharacterStream(columnIndex, reader, length);
+        }
+        else {
+            inner.updateCharacterStream(columnLabel, reader, length);
+        }
     }
 
     /** {@inheritDoc} */
@@ -904,19 +2666,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateClob(final String columnLabel, final Reader reader) throws SQLException {
-        inner.updateClob(columnLabel, reader);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateClob(columnIndex, reader);
+        }
+        else {
+            inner.updateClob(columnLabel, reader);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        inner.updateClob(columnLabel, reader, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateClob(columnIndex, reader, length);
+        }
+        else {
+            inner.updateClob(columnLabel, reader, length);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateClob(final String columnLabel, final Clob x) throws SQLException {
-        inner.updateClob(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateClob(columnIndex, x);
+        }
+        else {
+            inner.updateClob(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -928,7 +2708,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateDate(final String columnLabel, final Date x) throws SQLException {
-        inner.updateDate(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateDate(columnIndex, x);
+        }
+        else {
+            inner.updateDate(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -940,7 +2726,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateDouble(final String columnLabel, final double x) throws SQLException {
-        inner.updateDouble(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateDouble(columnIndex, x);
+        }
+        else {
+            inner.updateDouble(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -952,7 +2744,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateFloat(final String columnLabel, final float x) throws SQLException {
-        inner.updateFloat(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateFloat(columnIndex, x);
+        }
+        else {
+            inner.updateFloat(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -964,7 +2762,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateInt(final String columnLabel, final int x) throws SQLException {
-        inner.updateInt(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateInt(columnIndex, x);
+        }
+        else {
+            inner.updateInt(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -976,7 +2780,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateLong(final String columnLabel, final long x) throws SQLException {
-        inner.updateLong(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateLong(columnIndex, x);
+        }
+        else {
+            inner.updateLong(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -994,13 +2804,25 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateNCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
-        inner.updateNCharacterStream(columnLabel, reader);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNCharacterStream(columnIndex, reader);
+        }
+        else {
+            inner.updateNCharacterStream(columnLabel, reader);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateNCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        inner.updateNCharacterStream(columnLabel, reader, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNCharacterStream(columnIndex, reader, length);
+        }
+        else {
+            inner.updateNCharacterStream(columnLabel, reader, length);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1024,19 +2846,37 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateNClob(final String columnLabel, final NClob nClob) throws SQLException {
-        inner.updateNClob(columnLabel, nClob);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNClob(columnIndex, nClob);
+        }
+        else {
+            inner.updateNClob(columnLabel, nClob);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateNClob(final String columnLabel, final Reader reader) throws SQLException {
-        inner.updateNClob(columnLabel, reader);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNClob(columnIndex, reader);
+        }
+        else {
+            inner.updateNClob(columnLabel, reader);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateNClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
-        inner.updateNClob(columnLabel, reader, length);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNClob(columnIndex, reader, length);
+        }
+        else {
+            inner.updateNClob(columnLabel, reader, length);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1048,7 +2888,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateNString(final String columnLabel, final String nString) throws SQLException {
-        inner.updateNString(columnLabel, nString);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNString(columnIndex, nString);
+        }
+        else {
+            inner.updateNString(columnLabel, nString);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1060,7 +2906,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateNull(final String columnLabel) throws SQLException {
-        inner.updateNull(columnLabel);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateNull(columnIndex);
+        }
+        else {
+            inner.updateNull(columnLabel);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1090,25 +2942,49 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateObject(final String columnLabel, final Object x) throws SQLException {
-        inner.updateObject(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateObject(columnIndex, x);
+        }
+        else {
+            inner.updateObject(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateObject(final String columnLabel, final Object x, final int scaleOrLength) throws SQLException {
-        inner.updateObject(columnLabel, x, scaleOrLength);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateObject(columnIndex, x, scaleOrLength);
+        }
+        else {
+            inner.updateObject(columnLabel, x, scaleOrLength);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType) throws SQLException {
-        inner.updateObject(columnLabel, x, targetSqlType);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateObject(columnIndex, x, targetSqlType);
+        }
+        else {
+            inner.updateObject(columnLabel, x, targetSqlType);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
-        inner.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+        }
+        else {
+            inner.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1120,7 +2996,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateRef(final String columnLabel, final Ref x) throws SQLException {
-        inner.updateRef(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateRef(columnIndex, x);
+        }
+        else {
+            inner.updateRef(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1138,7 +3020,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateRowId(final String columnLabel, final RowId x) throws SQLException {
-        inner.updateRowId(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateRowId(columnIndex, x);
+        }
+        else {
+            inner.updateRowId(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1150,7 +3038,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateShort(final String columnLabel, final short x) throws SQLException {
-        inner.updateShort(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateShort(columnIndex, x);
+        }
+        else {
+            inner.updateShort(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1162,7 +3056,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateSQLXML(final String columnLabel, final SQLXML xmlObject) throws SQLException {
-        inner.updateSQLXML(columnLabel, xmlObject);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateSQLXML(columnIndex, xmlObject);
+        }
+        else {
+            inner.updateSQLXML(columnLabel, xmlObject);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1174,7 +3074,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateString(final String columnLabel, final String x) throws SQLException {
-        inner.updateString(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateString(columnIndex, x);
+        }
+        else {
+            inner.updateString(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1186,7 +3092,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateTime(final String columnLabel, final Time x) throws SQLException {
-        inner.updateTime(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateTime(columnIndex, x);
+        }
+        else {
+            inner.updateTime(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1198,7 +3110,13 @@ final class ResultSetExImpl implements ResultSetEx {
     /** {@inheritDoc} */
     @Override
     public void updateTimestamp(final String columnLabel, final Timestamp x) throws SQLException {
-        inner.updateTimestamp(columnLabel, x);
+        final int columnIndex = columnIndex(columnLabel);
+        if (columnIndex > 0) {
+            inner.updateTimestamp(columnIndex, x);
+        }
+        else {
+            inner.updateTimestamp(columnLabel, x);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1213,9 +3131,206 @@ final class ResultSetExImpl implements ResultSetEx {
         return inner.wasNull();
     }
 
+    private LocalDate readLocalDate(final int columnIndex, final String columnLabel) throws SQLException {
+        return readTemporal(columnIndex, columnLabel, LocalDate.class, JavaTimeSupport.LOCAL_DATE,
+                            ResultSetExImpl::legacyLocalDate);
+    }
+
+    private LocalDate legacyLocalDate(final int columnIndex, final String columnLabel) throws SQLException {
+        final Date value = columnLabel == null ? inner.getDate(columnIndex) : inner.getDate(columnLabel);
+        if (temporalCache != null) {
+            return temporalCache.localDate(value);
+        }
+        return value == null ? null : value.toLocalDate();
+    }
+
+    private LocalDateTime readLocalDateTime(final int columnIndex, final String columnLabel) throws SQLException {
+        return readTemporal(columnIndex, columnLabel, LocalDateTime.class, JavaTimeSupport.LOCAL_DATE_TIME,
+                            ResultSetExImpl::legacyLocalDateTime);
+    }
+
+    private LocalDateTime legacyLocalDateTime(final int columnIndex, final String columnLabel) throws SQLException {
+        final Timestamp value = columnLabel == null
+                ? inner.getTimestamp(columnIndex)
+                : inner.getTimestamp(columnLabel);
+        if (temporalCache != null) {
+            return temporalCache.localDateTime(value);
+        }
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    private LocalTime readLocalTime(final int columnIndex, final String columnLabel) throws SQLException {
+        return readTemporal(columnIndex, columnLabel, LocalTime.class, JavaTimeSupport.LOCAL_TIME,
+                            ResultSetExImpl::legacyLocalTime);
+    }
+
+    private LocalTime legacyLocalTime(final int columnIndex, final String columnLabel) throws SQLException {
+        final Time value = columnLabel == null ? inner.getTime(columnIndex) : inner.getTime(columnLabel);
+        return value == null ? null : value.toLocalTime();
+    }
+
+    private OffsetDateTime readOffsetDateTime(final int columnIndex, final String columnLabel) throws SQLException {
+        return readTemporal(columnIndex, columnLabel, OffsetDateTime.class, JavaTimeSupport.OFFSET_DATE_TIME,
+                            ResultSetExImpl::legacyOffsetDateTime);
+    }
+
+    private OffsetDateTime legacyOffsetDateTime(final int columnIndex, final String columnLabel)
+            throws SQLException {
+        final Timestamp value = columnLabel == null
+                ? inner.getTimestamp(columnIndex)
+                : inner.getTimestamp(columnLabel);
+        return Zones.offsetDateTime(value, ZoneId.systemDefault());
+    }
+
+    /**
+     * Reads a java.time value with {@link ResultSet#getObject(int, Class)} if the driver reads
+     * {@code type} natively and the column is one JDBC 4.2 requires it to read into that type,
+     * and with {@code legacy} otherwise. Drivers still reject some of those columns: PgJDBC
+     * will not read a {@code timestamptz} into a {@code LocalDateTime} (SQLState 42821), nor
+     * MySQL some java.time types (S1009). Whatever the SQLState, unless it is a connection
+     * exception (class 08), the legacy getter then answers, and keeps answering for this
+     * result set.
+     * @param columnLabel
+     *          the label of the column to read, or {@code null} to read {@code columnIndex}
+     * @param nativeType
+     *          the {@link JavaTimeSupport} constant of {@code type}
+     */
+    private <T> T readTemporal(final int columnIndex, final String columnLabel, final Class<T> type,
+                               final int nativeType, final LegacyGetter<T> legacy) throws SQLException {
+        if (readsNatively(nativeType) && readsNatively(columnIndex, nativeType)) {
+            try {
+                final T value = columnLabel == null
+                        ? inner.getObject(columnIndex, type)
+                        : inner.getObject(columnLabel, type);
+                return temporalCache == null ? value : temporalCache.cached(value);
+            }
+            catch (SQLFeatureNotSupportedException | AbstractMethodError unsupported) {
+                unsupported(nativeType);
+            }
+            catch (SQLException ex) {
+                if (isConnectionFailure(ex)) {
+                    throw ex;
+                }
+                nativeTypes &= ~nativeType;
+            }
+        }
+        return legacy.read(this, columnIndex, columnLabel);
+    }
+
+    /** A legacy getter, plus the conversion of what it returns, for {@link #readTemporal}. */
+    @FunctionalInterface
+    private interface LegacyGetter<T> {
+        T read(ResultSetExImpl resultSet, int columnIndex, String columnLabel) throws SQLException;
+    }
+
+    /**
+     * @return {@code true} if {@code ex} says the connection failed, as an SQLState of class 08
+     *          (connection exception) does, so the legacy getter would fail too
+     */
+    private static boolean isConnectionFailure(final SQLException ex) {
+        final String sqlState = ex.getSQLState();
+        return ex instanceof SQLTransientConnectionException
+                || ex instanceof SQLNonTransientConnectionException
+                || (sqlState != null && sqlState.startsWith("08"));
+    }
+
+    private boolean readsNatively(final int nativeType) {
+        if (nativeTypes < 0) {
+            nativeTypes = JavaTimeSupport.nativeTypes(inner.getClass());
+        }
+        return (nativeTypes & nativeType) != 0;
+    }
+
+    /**
+     * @return {@code true} if the column at {@code columnIndex} is a {@code DATE}, {@code TIME} or
+     *          {@code TIMESTAMP} matching {@code nativeType}. An {@code OffsetDateTime} is also read
+     *          natively from columns the shape does not know, such as {@code TIMESTAMP WITH TIME ZONE},
+     *          since the legacy getter cannot carry an offset
+     */
+    private boolean readsNatively(final int columnIndex, final int nativeType) {
+        final Getter getter = shape().getter(columnIndex);
+        switch (nativeType) {
+            case JavaTimeSupport.LOCAL_DATE:
+                return getter == Getter.DATE;
+            case JavaTimeSupport.LOCAL_DATE_TIME:
+                return getter == Getter.TIMESTAMP;
+            case JavaTimeSupport.LOCAL_TIME:
+                return getter == Getter.TIME;
+            default:
+                return getter == Getter.TIMESTAMP || getter == Getter.OBJECT;
+        }
+    }
+
+    /** The driver will not support {@code nativeType} on the next row, or in the next result set, either. */
+    private void unsupported(final int nativeType) {
+        nativeTypes &= ~nativeType;
+        JavaTimeSupport.unsupported(inner.getClass(), nativeType);
+    }
+
+    /**
+     * {@link #wasNull()} for the value just read from {@code columnIndex}; the metadata is only
+     * read for it if it is to be trusted or verified.
+     */
+    private boolean wasNull(final int columnIndex) throws SQLException {
+        return notNullPolicy == NotNullPolicy.IGNORE_METADATA
+                ? inner.wasNull()
+                : shape().wasNull(inner, columnIndex);
+    }
+
+    private Optional<Instant> cachedInstant(final Optional<Instant> value) {
+        return temporalCache == null || !value.isPresent() ? value : of(temporalCache.instant(value.get()));
+    }
+
+    private Optional<LocalDate> cachedLocalDate(final Optional<LocalDate> value) {
+        return temporalCache == null || !value.isPresent() ? value : of(temporalCache.localDate(value.get()));
+    }
+
+    private Optional<LocalDateTime> cachedLocalDateTime(final Optional<LocalDateTime> value) {
+        return temporalCache == null || !value.isPresent() ? value : of(temporalCache.localDateTime(value.get()));
+    }
+
+
+    /**
+     * @return the index of the column labelled {@code columnLabel} according to the metadata, or
+     *          {@code 0} to leave looking it up, and reporting it missing, to the driver
+     */
+    private int columnIndex(final String columnLabel) {
+        return shape().columnIndex(columnLabel);
+    }
+
+    /**
+     * The metadata is only read the first time a coercion, a label or a null check needs it,
+     * since plenty of result sets never need it at all.
+     */
+    private ResultSetShape shape() {
+        if (shape == null) {
+            shape = ResultSetShape.of(inner, notNullPolicy);
+        }
+        return shape;
+    }
+
     ResultSetExImpl(final ResultSet inner) {
+        this(inner, NotNullPolicy.IGNORE_METADATA);
+    }
+
+    ResultSetExImpl(final ResultSet inner, final NotNullPolicy notNullPolicy) {
+        this(inner, null, notNullPolicy);
+    }
+
+    ResultSetExImpl(final ResultSet inner, final ResultSetShape shape) {
+        this(inner, shape, shape.notNullPolicy());
+    }
+
+    private ResultSetExImpl(final ResultSet inner, final ResultSetShape shape, final NotNullPolicy notNullPolicy) {
         this.inner = inner;
+        this.shape = shape;
+        this.notNullPolicy = notNullPolicy;
     }
 
     private final ResultSet inner;
+    private final NotNullPolicy notNullPolicy;
+    private ResultSetShape shape;
+    private TemporalCache temporalCache;
+    private int nativeTypes = -1;
+    private Row row;
 }
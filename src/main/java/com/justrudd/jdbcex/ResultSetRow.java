@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The {@link Row} view of a result set: every getter reads the row the result set is on.
+ */
+final class ResultSetRow implements Row {
+
+    /** {@inheritDoc} */
+    @Override
+    public Row copy() throws SQLException {
+        return CopiedRow.of(resultSet, shape);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        return resultSet.findColumn(columnLabel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        return resultSet.getBigDecimal(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return resultSet.getBoolean(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type) throws SQLException {
+        return resultSet.getCoerced(columnIndex, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Optional<T> getCoerced(final int columnIndex, final Class<T> type, final CoercionRegistry registry)
+            throws SQLException {
+        return resultSet.getCoerced(columnIndex, type, registry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getCoercedDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        return resultSet.getCoercedDoubleOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCoercedIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        return resultSet.getCoercedIntOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCoercedLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        return resultSet.getCoercedLongOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return resultSet.getDouble(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDoubleOr(final int columnIndex, final double defaultValue) throws SQLException {
+        return resultSet.getDoubleOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return resultSet.getInt(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIntOr(final int columnIndex, final int defaultValue) throws SQLException {
+        return resultSet.getIntOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return resultSet.getLong(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLongOr(final int columnIndex, final long defaultValue) throws SQLException {
+        return resultSet.getLongOr(columnIndex, defaultValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return resultSet.getObject(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<BigDecimal> getOptionalBigDecimal(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalBigDecimal(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Double> getOptionalDouble(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalDouble(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Instant> getOptionalInstant(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalInstant(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Integer> getOptionalInt(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalInt(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDate> getOptionalLocalDate(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalLocalDate(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<LocalDateTime> getOptionalLocalDateTime(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalLocalDateTime(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Long> getOptionalLong(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalLong(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<String> getOptionalString(final int columnIndex) throws SQLException {
+        return resultSet.getOptionalString(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        return resultSet.getString(columnIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNull(final int columnIndex) throws SQLException {
+        if (shape.trusts(columnIndex)) {
+            return false;
+        }
+        // the cheapest getter which sets wasNull, so numbers are not boxed just to be tested
+        switch (shape.getter(columnIndex)) {
+            case INT:
+            case DECIMAL_INT:
+                resultSet.getInt(columnIndex);
+                break;
+            case LONG:
+            case DECIMAL_LONG:
+                resultSet.getLong(columnIndex);
+                break;
+            case FLOAT:
+            case DOUBLE:
+                resultSet.getDouble(columnIndex);
+                break;
+            case BOOLEAN:
+                resultSet.getBoolean(columnIndex);
+                break;
+            default:
+                if (!shape.isNotNull(columnIndex)) {
+                    return resultSet.getObject(columnIndex) == null;
+                }
+                resultSet.getObject(columnIndex);
+                break;
+        }
+        return shape.wasNull(resultSet, columnIndex);
+    }
+
+    ResultSetRow(final ResultSetEx resultSet, final ResultSetShape shape) {
+        this.resultSet = resultSet;
+        this.shape = shape;
+    }
+
+    private final ResultSetEx resultSet;
+    private final ResultSetShape shape;
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What the {@link ResultSetMetaData} of a result set says about its columns, read once
+ * and kept for the life of the result set.
+ * <p>
+ * For every column it records the cheapest typed getter which yields exactly what
+ * {@link ResultSet#getObject(int)} would have, so coercions can skip materializing the
+ * generic object. Columns the metadata does not pin down are {@link Getter#OBJECT}.
+ * </p>
+ * <p>
+ * Unless its {@link NotNullPolicy} ignores the metadata, it records which columns the metadata
+ * reports as {@link ResultSetMetaData#columnNoNulls NOT NULL}, whose values then need no
+ * {@link ResultSet#wasNull()} check after a typed getter. Otherwise no column is NOT NULL.
+ * </p>
+ * <p>
+ * It also maps column labels to indexes the way JDBC looks labels up: ignoring case, and
+ * to the first of several columns with the same label. A label given exactly as the
+ * metadata reports it is found with one hash lookup; any other casing with a case
+ * insensitive search of the labels.
+ * </p>
+ */
+final class ResultSetShape {
+
+    /** How a column can be read without going through {@link ResultSet#getObject(int)}. */
+    enum Getter {
+        /** A signed integer type which fits an {@code int}: read with {@code getInt}. */
+        INT(Integer.class),
+        /** An integer type which fits a {@code long}: read with {@code getLong}. */
+        LONG(Long.class),
+        /** A {@code DECIMAL}/{@code NUMERIC} of scale 0 which fits an {@code int}. */
+        DECIMAL_INT(BigDecimal.class),
+        /** A {@code DECIMAL}/{@code NUMERIC} of scale 0 which fits a {@code long}. */
+        DECIMAL_LONG(BigDecimal.class),
+        /** A {@code REAL}, which {@code getObject} returns as a {@link Float}. */
+        FLOAT(Float.class),
+        /** A {@code FLOAT} or {@code DOUBLE}, which {@code getObject} returns as a {@link Double}. */
+        DOUBLE(Double.class),
+        /** A {@code BOOLEAN} or single bit {@code BIT}. */
+        BOOLEAN(Boolean.class),
+        DATE(Date.class),
+        TIME(Time.class),
+        TIMESTAMP(Timestamp.class),
+        /** Anything else: read with {@code getObject}. */
+        OBJECT(Object.class);
+
+        /**
+         * @return the class {@code getObject} returns for a column read with this getter;
+         *          {@code Object} for {@link #OBJECT}
+         */
+        Class<?> objectType() {
+            return objectType;
+        }
+
+        Getter(final Class<?> objectType) {
+            this.objectType = objectType;
+        }
+
+        private final Class<?> objectType;
+    }
+
+    /**
+     * Reads the shape of {@code resultSet} from its metadata, which is not trusted about NOT NULL
+     * columns. A driver which cannot describe its columns gets {@link #UNKNOWN}, which reads
+     * everything as an object.
+     */
+    static ResultSetShape of(final ResultSet resultSet) {
+        return of(resultSet, NotNullPolicy.IGNORE_METADATA);
+    }
+
+    /** {@link #of(ResultSet)}, treating NOT NULL columns as {@code notNullPolicy} says. */
+    static ResultSetShape of(final ResultSet resultSet, final NotNullPolicy notNullPolicy) {
+        try {
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            if (metaData == null) {
+                return UNKNOWN;
+            }
+
+            final Getter[] getters = new Getter[metaData.getColumnCount()];
+            final boolean[] notNull = new boolean[getters.length];
+            final boolean trusting = notNullPolicy != NotNullPolicy.IGNORE_METADATA;
+            final Map<String, Integer> ignoringCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            final String[] labels = new String[getters.length];
+            for (int i = 0; i < getters.length; i++) {
+                getters[i] = getter(metaData, i + 1);
+                notNull[i] = trusting && isNotNull(metaData, i + 1);
+                labels[i] = metaData.getColumnLabel(i + 1);
+                if (labels[i] != null) {
+                    ignoringCase.putIfAbsent(labels[i], i + 1);
+                }
+            }
+
+            // a label is only found exactly if no earlier column has it in another case
+            final Map<String, Integer> exactly = new HashMap<>();
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] != null && ignoringCase.get(labels[i]) == i + 1) {
+                    exactly.putIfAbsent(labels[i], i + 1);
+                }
+            }
+            return new ResultSetShape(getters, notNull, notNullPolicy, exactly, ignoringCase);
+        }
+        catch (SQLException ex) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * @return the number of columns; {@code 0} for {@link #UNKNOWN}
+     */
+    int columnCount() {
+        return getters.length;
+    }
+
+    /**
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          how to read the column; {@link Getter#OBJECT} if the index is out of range
+     */
+    Getter getter(final int columnIndex) {
+        if (columnIndex < 1 || columnIndex > getters.length) {
+            return Getter.OBJECT;
+        }
+        return getters[columnIndex - 1];
+    }
+
+    /**
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          {@code true} if the metadata reports the column as never SQL <code>NULL</code>;
+     *          {@code false} if it may be, if that is unknown, or if the index is out of range
+     */
+    boolean isNotNull(final int columnIndex) {
+        return columnIndex >= 1 && columnIndex <= notNull.length && notNull[columnIndex - 1];
+    }
+
+    /**
+     * @return the policy the NOT NULL columns were recorded with
+     */
+    NotNullPolicy notNullPolicy() {
+        return notNullPolicy;
+    }
+
+    /**
+     * @return {@code true} if reading the column needs no {@link ResultSet#wasNull()} call at all:
+     *          it is {@link #isNotNull(int) NOT NULL} and the metadata is trusted unverified
+     */
+    boolean trusts(final int columnIndex) {
+        return notNullPolicy == NotNullPolicy.TRUST_METADATA && isNotNull(columnIndex);
+    }
+
+    /**
+     * {@link ResultSet#wasNull()} for the value just read from a column of {@code resultSet},
+     * which is of this shape, without asking the driver when the column is NOT NULL. If
+     * {@link NotNullPolicy#VERIFY_METADATA verifying} the driver is asked anyway and the metadata
+     * held to its word.
+     * @exception SQLException
+     *          if the column is NOT NULL and verified, but the driver read SQL <code>NULL</code>
+     *          from it; if a database access error occurs
+     */
+    boolean wasNull(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        if (!isNotNull(columnIndex)) {
+            return resultSet.wasNull();
+        }
+        if (notNullPolicy == NotNullPolicy.VERIFY_METADATA && resultSet.wasNull()) {
+            throw new SQLException("column " + columnIndex + " is NOT NULL according to the metadata, "
+                                           + "but the driver read SQL NULL from it");
+        }
+        return false;
+    }
+
+    /**
+     * @param columnLabel
+     *          the label of a column, in any case
+     * @return
+     *          the index of the first column with that label, or {@code 0} if no column has it
+     *          or the labels are not known
+     */
+    int columnIndex(final String columnLabel) {
+        if (columnLabel == null) {
+            return 0;
+        }
+        Integer columnIndex = exactly.get(columnLabel);
+        if (columnIndex == null) {
+            columnIndex = ignoringCase.get(columnLabel);
+        }
+        return columnIndex == null ? 0 : columnIndex;
+    }
+
+    private static Getter getter(final ResultSetMetaData metaData, final int column) throws SQLException {
+        switch (metaData.getColumnType(column)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                // unsigned values may not fit an int, but always fit a long
+                return metaData.isSigned(column) ? Getter.INT : Getter.LONG;
+            case Types.BIGINT:
+                // getObject returns unsigned BIGINTs as BigIntegers
+                return metaData.isSigned(column) ? Getter.LONG : Getter.OBJECT;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                if (metaData.getScale(column) != 0) {
+                    return Getter.OBJECT;
+                }
+                final int precision = metaData.getPrecision(column);
+                if (precision < 1 || precision > MAX_LONG_DIGITS) {
+                    return Getter.OBJECT;
+                }
+                return precision <= MAX_INT_DIGITS ? Getter.DECIMAL_INT : Getter.DECIMAL_LONG;
+            case Types.REAL:
+                return Getter.FLOAT;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Getter.DOUBLE;
+            case Types.BOOLEAN:
+                return Getter.BOOLEAN;
+            case Types.BIT:
+                // wider BITs come back as byte arrays
+                return metaData.getPrecision(column) == 1 ? Getter.BOOLEAN : Getter.OBJECT;
+            case Types.DATE:
+                return Getter.DATE;
+            case Types.TIME:
+                return Getter.TIME;
+            case Types.TIMESTAMP:
+                return Getter.TIMESTAMP;
+            default:
+                return Getter.OBJECT;
+        }
+    }
+
+    /**
+     * Drivers which cannot tell throw, or answer {@link ResultSetMetaData#columnNullableUnknown};
+     * neither loses the rest of the shape.
+     */
+    private static boolean isNotNull(final ResultSetMetaData metaData, final int column) {
+        try {
+            return metaData.isNullable(column) == ResultSetMetaData.columnNoNulls;
+        }
+        catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    /** A shape with no columns, so every column is read with {@code getObject}. */
+    static final ResultSetShape UNKNOWN =
+            new ResultSetShape(new Getter[0], new boolean[0], NotNullPolicy.IGNORE_METADATA,
+                               Collections.emptyMap(), Collections.emptyMap());
+
+    private static final int MAX_INT_DIGITS = 9;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private ResultSetShape(final Getter[] getters,
+                           final boolean[] notNull,
+                           final NotNullPolicy notNullPolicy,
+                           final Map<String, Integer> exactly,
+                           final Map<String, Integer> ignoringCase) {
+        this.getters = getters;
+        this.notNull = notNull;
+        this.notNullPolicy = notNullPolicy;
+        this.exactly = exactly;
+        this.ignoringCase = ignoringCase;
+    }
+
+    private final Getter[] getters;
+    private final boolean[] notNull;
+    private final NotNullPolicy notNullPolicy;
+    private final Map<String, Integer> exactly;
+    private final Map<String, Integer> ignoringCase;
+}
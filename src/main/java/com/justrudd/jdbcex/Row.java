@@ -0,0 +1,812 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The current row of a {@link ResultSetEx}, for code which is handed one row at a time
+ * and would otherwise copy it into a {@code Map} or a small object just to pass it on.
+ * <p>
+ * A row from {@link ResultSetEx#row()} is a view: the same instance is handed out for
+ * the whole iteration, and every getter reads the row the result set is on at the time
+ * it is called, exactly as the result set's getter of the same name would. Nothing is
+ * allocated per row beyond what those getters allocate. A view must not be kept past
+ * the row it was handed out for; {@link #copy()} it instead.
+ * </p>
+ * <p>
+ * A copy holds the values {@link ResultSet#getObject(int)} and {@link ResultSet#getString(int)}
+ * returned when it was made, and answers the typed getters by coercing them, failing where
+ * the live row's getter would fail rather than reading a value it cannot coerce as {@code 0}.
+ * Copies are immutable and stay readable after the result set is closed. Values which the driver only keeps valid while it is open are read out
+ * when the copy is made, so a copy holds the text of a CLOB, the bytes of a BLOB and the
+ * elements of an array rather than their locators.
+ * </p>
+ */
+public interface Row {
+
+    /**
+     * @return
+     *          a copy of the current values of this row, which is unaffected by moving the
+     *          result set; a copy returns itself
+     * @exception SQLException
+     *          if a database access error occurs, the result set is closed, or its metadata
+     *          cannot say what its columns are
+     */
+    Row copy() throws SQLException;
+
+    /**
+     * See {@link ResultSet#findColumn(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column index of the given column label
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    int findColumn(String columnLabel) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getObject(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Object getObject(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getObject(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Object getObject(final String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getString(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    String getString(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getString(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default String getString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getBoolean(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code false} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    boolean getBoolean(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getBoolean(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code false} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default boolean getBoolean(final String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getInt(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    int getInt(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getInt(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default int getInt(final String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getLong(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    long getLong(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getLong(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default long getLong(final String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getDouble(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    double getDouble(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getDouble(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code 0} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default double getDouble(final String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSet#getBigDecimal(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    BigDecimal getBigDecimal(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSet#getBigDecimal(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@code null} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    /**
+     * Reads the column only as far as needed to tell whether it is SQL <code>NULL</code>; a
+     * column the metadata reports as NOT NULL is not read at all if the result set was
+     * {@link JdbcEx#wrap(ResultSet, NotNullPolicy) wrapped}
+     * {@link NotNullPolicy#TRUST_METADATA trusting} it.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          {@code true} if the column value is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    boolean isNull(int columnIndex) throws SQLException;
+
+    /**
+     * Reads the column only as far as needed to tell whether it is SQL <code>NULL</code>; a
+     * column the metadata reports as NOT NULL is not read at all if the result set was
+     * {@link JdbcEx#wrap(ResultSet, NotNullPolicy) wrapped}
+     * {@link NotNullPolicy#TRUST_METADATA trusting} it.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          {@code true} if the column value is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default boolean isNull(final String columnLabel) throws SQLException {
+        return isNull(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getIntOr(int, int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    int getIntOr(int columnIndex, int defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getIntOr(String, int)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default int getIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        return getIntOr(findColumn(columnLabel), defaultValue);
+    }
+
+    /**
+     * See {@link ResultSetEx#getLongOr(int, long)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    long getLongOr(int columnIndex, long defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getLongOr(String, long)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default long getLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        return getLongOr(findColumn(columnLabel), defaultValue);
+    }
+
+    /**
+     * See {@link ResultSetEx#getDoubleOr(int, double)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    double getDoubleOr(int columnIndex, double defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getDoubleOr(String, double)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code>
+     * @return
+     *          the column value, or {@code defaultValue} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default double getDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        return getDoubleOr(findColumn(columnLabel), defaultValue);
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalString(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<String> getOptionalString(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalString(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<String> getOptionalString(final String columnLabel) throws SQLException {
+        return getOptionalString(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalInt(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<Integer> getOptionalInt(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalInt(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<Integer> getOptionalInt(final String columnLabel) throws SQLException {
+        return getOptionalInt(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalLong(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<Long> getOptionalLong(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalLong(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<Long> getOptionalLong(final String columnLabel) throws SQLException {
+        return getOptionalLong(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalDouble(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<Double> getOptionalDouble(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalDouble(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<Double> getOptionalDouble(final String columnLabel) throws SQLException {
+        return getOptionalDouble(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalBigDecimal(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<BigDecimal> getOptionalBigDecimal(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalBigDecimal(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<BigDecimal> getOptionalBigDecimal(final String columnLabel) throws SQLException {
+        return getOptionalBigDecimal(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalInstant(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<Instant> getOptionalInstant(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalInstant(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<Instant> getOptionalInstant(final String columnLabel) throws SQLException {
+        return getOptionalInstant(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalLocalDate(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<LocalDate> getOptionalLocalDate(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalLocalDate(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<LocalDate> getOptionalLocalDate(final String columnLabel) throws SQLException {
+        return getOptionalLocalDate(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getOptionalLocalDateTime(int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    Optional<LocalDateTime> getOptionalLocalDateTime(int columnIndex) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getOptionalLocalDateTime(String)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @return
+     *          the column value; {@link Optional#empty() empty} if it is SQL <code>NULL</code>
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default Optional<LocalDateTime> getOptionalLocalDateTime(final String columnLabel) throws SQLException {
+        return getOptionalLocalDateTime(findColumn(columnLabel));
+    }
+
+    /**
+     * See {@link ResultSetEx#getCoerced(int, Class)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param type
+     *          the type to coerce the value into
+     * @return
+     *          the column value as a {@code type}; {@link Optional#empty() empty} if it is SQL
+     *          <code>NULL</code> or cannot be coerced into a {@code type}
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    <T> Optional<T> getCoerced(int columnIndex, Class<T> type) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getCoerced(String, Class)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the value into
+     * @return
+     *          the column value as a {@code type}; {@link Optional#empty() empty} if it is SQL
+     *          <code>NULL</code> or cannot be coerced into a {@code type}
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type) throws SQLException {
+        return getCoerced(findColumn(columnLabel), type);
+    }
+
+    /**
+     * See {@link ResultSetEx#getCoerced(int, Class, CoercionRegistry)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param type
+     *          the type to coerce the value into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          the column value as a {@code type}; {@link Optional#empty() empty} if it is SQL
+     *          <code>NULL</code> or cannot be coerced into a {@code type}
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    <T> Optional<T> getCoerced(int columnIndex, Class<T> type, CoercionRegistry registry) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getCoerced(String, Class, CoercionRegistry)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param type
+     *          the type to coerce the value into
+     * @param registry
+     *          the converters to coerce with
+     * @return
+     *          the column value as a {@code type}; {@link Optional#empty() empty} if it is SQL
+     *          <code>NULL</code> or cannot be coerced into a {@code type}
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default <T> Optional<T> getCoerced(final String columnLabel, final Class<T> type, final CoercionRegistry registry) throws SQLException {
+        return getCoerced(findColumn(columnLabel), type, registry);
+    }
+
+    /**
+     * See {@link ResultSetEx#getCoercedIntOr(int, int)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into an int, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    int getCoercedIntOr(int columnIndex, int defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getCoercedIntOr(String, int)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into an int, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default int getCoercedIntOr(final String columnLabel, final int defaultValue) throws SQLException {
+        return getCoercedIntOr(findColumn(columnLabel), defaultValue);
+    }
+
+    /**
+     * See {@link ResultSetEx#getCoercedLongOr(int, long)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a long, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    long getCoercedLongOr(int columnIndex, long defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getCoercedLongOr(String, long)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a long, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default long getCoercedLongOr(final String columnLabel, final long defaultValue) throws SQLException {
+        return getCoercedLongOr(findColumn(columnLabel), defaultValue);
+    }
+
+    /**
+     * See {@link ResultSetEx#getCoercedDoubleOr(int, double)} for the basics of this method.
+     *
+     * @param columnIndex
+     *          the first column is 1, the second is 2, ...
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a double, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnIndex is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    double getCoercedDoubleOr(int columnIndex, double defaultValue) throws SQLException;
+
+    /**
+     * See {@link ResultSetEx#getCoercedDoubleOr(String, double)} for the basics of this method.
+     *
+     * @param columnLabel
+     *          The label for the column specified with the SQL AS clause.  If the SQL AS clause
+     *          was not specified, then the label is the name of the column
+     * @param defaultValue
+     *          the value to return if the column value is SQL <code>NULL</code> or cannot be coerced
+     * @return
+     *          the column value coerced into a double, or {@code defaultValue}
+     * @exception SQLException
+     *          if the columnLabel is not valid; if a database access error occurs or the result
+     *          set is closed
+     */
+    default double getCoercedDoubleOr(final String columnLabel, final double defaultValue) throws SQLException {
+        return getCoercedDoubleOr(findColumn(columnLabel), defaultValue);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of {@link ResultSetEx#forEachRow(RowConsumer)} one at a time.
+ * <pre>
+ *     final long[] total = { 0L };
+ *     rs.forEachRow(row -&gt; {
+ *         total[0] += row.getLong(2);
+ *         return true;
+ *     });
+ * </pre>
+ * <p>
+ * SQL <code>NULL</code> reads as {@code 0} from {@link Row#getLong(int)}, so the sum needs one
+ * read per row and no {@link Row#isNull(int)} check, which would read the column a second time.
+ * Where a <code>NULL</code> must be told apart, {@link Row#getLongOr(int, long)} and its siblings
+ * read the column once and take its default instead.
+ * </p>
+ */
+@FunctionalInterface
+public interface RowConsumer {
+
+    /**
+     * @param row
+     *          the view of the current row, the same instance for every row; it is only
+     *          valid until this method returns, unless it is {@link Row#copy() copied}
+     * @return
+     *          {@code true} to go on to the next row, {@code false} to stop
+     * @exception SQLException
+     *          to stop, passed on to the caller of {@link ResultSetEx#forEachRow(RowConsumer)}
+     */
+    boolean accept(Row row) throws SQLException;
+}
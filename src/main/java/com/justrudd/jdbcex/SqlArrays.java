@@ -0,0 +1,376 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Unboxes the elements of a {@link Array java.sql.Array} into arrays of primitives or strings.
+ * <p>
+ * A whole array is read with {@link Array#getArray()}; when the driver already hands back an
+ * array of the wanted type it is returned as is, otherwise each element is converted as the
+ * {@code getCoercedX} methods of {@link ResultSetEx} do. {@code NULL} elements become
+ * {@code 0}, or {@code null} for strings, as they do for {@link ResultSet#getInt(int)} and
+ * its siblings; an element which cannot be coerced is an {@link SQLException}, not a 0.
+ * </p>
+ * <p>
+ * Reading into a caller supplied buffer stops once the buffer is full. A buffer of up to
+ * {@link #STREAMING_THRESHOLD} elements is filled from {@link Array#getArray()}; a larger
+ * one is filled by streaming the rows of {@link Array#getResultSet()} through the typed
+ * getters, so no boxed copy of a large array is built. Which way is taken depends on the
+ * buffer alone, since the length of the array is only known once it has been read: a large
+ * buffer streams even a short array, and an array read whole, without a buffer, never
+ * streams. Slices are not asked for, as drivers reject slices which run past the end of
+ * the array.
+ * </p>
+ * <p>
+ * Every array is {@link Array#free() freed} once read, even if reading fails.
+ * </p>
+ */
+final class SqlArrays {
+
+    static int[] toIntArray(final Array array) throws SQLException {
+        if (array == null) {
+            return null;
+        }
+        try {
+            return ints(array.getArray());
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    static long[] toLongArray(final Array array) throws SQLException {
+        if (array == null) {
+            return null;
+        }
+        try {
+            return longs(array.getArray());
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    static double[] toDoubleArray(final Array array) throws SQLException {
+        if (array == null) {
+            return null;
+        }
+        try {
+            return doubles(array.getArray());
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    static String[] toStringArray(final Array array) throws SQLException {
+        if (array == null) {
+            return null;
+        }
+        try {
+            return strings(array.getArray());
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    /**
+     * @return the number of elements read into {@code buffer}, at most its length, or {@code -1}
+     *          if {@code array} is {@code null}
+     */
+    static int readInts(final Array array, final int[] buffer) throws SQLException {
+        if (array == null) {
+            return -1;
+        }
+        try {
+            if (buffer.length > STREAMING_THRESHOLD) {
+                try (ResultSet rows = array.getResultSet()) {
+                    int count = 0;
+                    while (count < buffer.length && rows.next()) {
+                        buffer[count++] = rows.getInt(VALUE_COLUMN);
+                    }
+                    return count;
+                }
+            }
+            final Object values = array.getArray();
+            if (values instanceof int[]) {
+                final int count = Math.min(((int[]) values).length, buffer.length);
+                System.arraycopy(values, 0, buffer, 0, count);
+                return count;
+            }
+            final Object[] elements = elements(values);
+            final int count = Math.min(elements.length, buffer.length);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = toInt(elements[i], i);
+            }
+            return count;
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    /**
+     * @return the number of elements read into {@code buffer}, at most its length, or {@code -1}
+     *          if {@code array} is {@code null}
+     */
+    static int readLongs(final Array array, final long[] buffer) throws SQLException {
+        if (array == null) {
+            return -1;
+        }
+        try {
+            if (buffer.length > STREAMING_THRESHOLD) {
+                try (ResultSet rows = array.getResultSet()) {
+                    int count = 0;
+                    while (count < buffer.length && rows.next()) {
+                        buffer[count++] = rows.getLong(VALUE_COLUMN);
+                    }
+                    return count;
+                }
+            }
+            final Object values = array.getArray();
+            if (values instanceof long[]) {
+                final int count = Math.min(((long[]) values).length, buffer.length);
+                System.arraycopy(values, 0, buffer, 0, count);
+                return count;
+            }
+            final Object[] elements = elements(values);
+            final int count = Math.min(elements.length, buffer.length);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = toLong(elements[i], i);
+            }
+            return count;
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    /**
+     * @return the number of elements read into {@code buffer}, at most its length, or {@code -1}
+     *          if {@code array} is {@code null}
+     */
+    static int readDoubles(final Array array, final double[] buffer) throws SQLException {
+        if (array == null) {
+            return -1;
+        }
+        try {
+            if (buffer.length > STREAMING_THRESHOLD) {
+                try (ResultSet rows = array.getResultSet()) {
+                    int count = 0;
+                    while (count < buffer.length && rows.next()) {
+                        buffer[count++] = rows.getDouble(VALUE_COLUMN);
+                    }
+                    return count;
+                }
+            }
+            final Object values = array.getArray();
+            if (values instanceof double[]) {
+                final int count = Math.min(((double[]) values).length, buffer.length);
+                System.arraycopy(values, 0, buffer, 0, count);
+                return count;
+            }
+            final Object[] elements = elements(values);
+            final int count = Math.min(elements.length, buffer.length);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = toDouble(elements[i], i);
+            }
+            return count;
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    /**
+     * @return the number of elements read into {@code buffer}, at most its length, or {@code -1}
+     *          if {@code array} is {@code null}
+     */
+    static int readStrings(final Array array, final String[] buffer) throws SQLException {
+        if (array == null) {
+            return -1;
+        }
+        try {
+            if (buffer.length > STREAMING_THRESHOLD) {
+                try (ResultSet rows = array.getResultSet()) {
+                    int count = 0;
+                    while (count < buffer.length && rows.next()) {
+                        buffer[count++] = rows.getString(VALUE_COLUMN);
+                    }
+                    return count;
+                }
+            }
+            final Object values = array.getArray();
+            if (values instanceof String[]) {
+                final int count = Math.min(((String[]) values).length, buffer.length);
+                System.arraycopy(values, 0, buffer, 0, count);
+                return count;
+            }
+            final Object[] elements = elements(values);
+            final int count = Math.min(elements.length, buffer.length);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = toString(elements[i]);
+            }
+            return count;
+        }
+        finally {
+            free(array);
+        }
+    }
+
+    private static int[] ints(final Object values) throws SQLException {
+        if (values instanceof int[]) {
+            return (int[]) values;
+        }
+        final Object[] elements = elements(values);
+        final int[] ints = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            ints[i] = toInt(elements[i], i);
+        }
+        return ints;
+    }
+
+    private static long[] longs(final Object values) throws SQLException {
+        if (values instanceof long[]) {
+            return (long[]) values;
+        }
+        if (values instanceof int[]) {
+            final int[] source = (int[]) values;
+            final long[] longs = new long[source.length];
+            for (int i = 0; i < source.length; i++) {
+                longs[i] = source[i];
+            }
+            return longs;
+        }
+        final Object[] elements = elements(values);
+        final long[] longs = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            longs[i] = toLong(elements[i], i);
+        }
+        return longs;
+    }
+
+    private static double[] doubles(final Object values) throws SQLException {
+        if (values instanceof double[]) {
+            return (double[]) values;
+        }
+        final Object[] elements = elements(values);
+        final double[] doubles = new double[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            doubles[i] = toDouble(elements[i], i);
+        }
+        return doubles;
+    }
+
+    private static String[] strings(final Object values) throws SQLException {
+        if (values instanceof String[]) {
+            return (String[]) values;
+        }
+        final Object[] elements = elements(values);
+        final String[] strings = new String[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            strings[i] = toString(elements[i]);
+        }
+        return strings;
+    }
+
+    private static int toInt(final Object element, final int index) throws SQLException {
+        if (element == null) {
+            return 0;
+        }
+        final int value = Coercions.coerceToInteger(element, 0);
+        if (value == 0 && Coercions.coerceToInteger(element, 1) == 1) {
+            throw notCoercible(element, index, int.class);
+        }
+        return value;
+    }
+
+    private static long toLong(final Object element, final int index) throws SQLException {
+        if (element == null) {
+            return 0L;
+        }
+        final long value = Coercions.coerceToLong(element, 0L);
+        if (value == 0L && Coercions.coerceToLong(element, 1L) == 1L) {
+            throw notCoercible(element, index, long.class);
+        }
+        return value;
+    }
+
+    private static double toDouble(final Object element, final int index) throws SQLException {
+        if (element == null) {
+            return 0.0d;
+        }
+        final double value = Coercions.coerceToDouble(element, 0.0d);
+        if (value == 0.0d && Coercions.coerceToDouble(element, 1.0d) == 1.0d) {
+            throw notCoercible(element, index, double.class);
+        }
+        return value;
+    }
+
+    /**
+     * The failure of an element which the coercion answered with both of two different
+     * defaults, as it only does for a value it cannot coerce at all.
+     */
+    private static SQLException notCoercible(final Object element, final int index, final Class<?> type) {
+        return new SQLDataException("element " + (index + 1) + " of the array, " + element + " ("
+                                            + element.getClass().getName() + "), cannot be coerced into " + type);
+    }
+
+    private static String toString(final Object element) {
+        return element == null ? null : element.toString();
+    }
+
+    /** The elements of whatever array {@link Array#getArray()} returned, boxing primitives if need be. */
+    private static Object[] elements(final Object values) throws SQLException {
+        if (values instanceof Object[]) {
+            return (Object[]) values;
+        }
+        if (values == null || !values.getClass().isArray()) {
+            throw new SQLException("driver returned a non array: " + values);
+        }
+        final int length = java.lang.reflect.Array.getLength(values);
+        final Object[] elements = new Object[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = java.lang.reflect.Array.get(values, i);
+        }
+        return elements;
+    }
+
+    /** Releases {@code array}; drivers older than JDBC 4.0 have nothing to release. */
+    private static void free(final Array array) throws SQLException {
+        try {
+            array.free();
+        }
+        catch (SQLFeatureNotSupportedException | AbstractMethodError ignored) {
+            // the driver holds no resources it lets us release
+        }
+    }
+
+    /** Buffers longer than this are filled from {@link Array#getResultSet()}. */
+    static final int STREAMING_THRESHOLD = 4096;
+
+    /** The column of {@link Array#getResultSet()} holding the element; the first holds its index. */
+    private static final int VALUE_COLUMN = 2;
+
+    private SqlArrays() { }
+}
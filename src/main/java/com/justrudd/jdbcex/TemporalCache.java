@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A bounded cache of the {@link LocalDate}, {@link LocalDateTime} and {@link Instant}
+ * values a {@link ResultSetEx} reads, for columns with few distinct values such as the
+ * dates of a fact table. It is switched on per result set with
+ * {@link ResultSetEx#setTemporalCache(TemporalCache)}, and plugs into the
+ * {@code getLocalDate}, {@code getLocalDateTime} and {@code getInstant} getters and
+ * their {@code getOptionalX} and {@code getCoercedX} counterparts, except for the
+ * overloads taking a {@link java.util.Calendar}.
+ * <p>
+ * A {@link java.sql.Date} or {@link Timestamp} read before is converted by looking up
+ * its epoch millisecond in the cache instead of through the calendar arithmetic of
+ * {@link Date#toLocalDate()} and {@link Timestamp#toLocalDateTime()}, and equal values
+ * come back as the same instance, so a result set of millions of rows retains only as
+ * many date objects as it has distinct dates. Every date is cached; date-times and
+ * instants only if they are a whole multiple of the cache's granularity, which keeps
+ * high resolution timestamps from evicting the values worth keeping.
+ * </p>
+ * <p>
+ * Each kind of value has a direct mapped table of a fixed number of entries, where a
+ * new value replaces the one whose slot it shares, so the cache never grows. A cache
+ * may be shared by result sets on different threads. As with the conversions it
+ * replaces, the local values depend on the JVM default time zone, which must not
+ * change while the cache is in use.
+ * </p>
+ */
+public final class TemporalCache {
+
+    /**
+     * @return a cache of 1024 values of each kind, at a granularity of seconds
+     */
+    public static TemporalCache create() {
+        return create(DEFAULT_ENTRIES, ChronoUnit.SECONDS);
+    }
+
+    /**
+     * @param entries
+     *          the number of values of each kind to keep, rounded up to a power of two
+     * @param granularity
+     *          the unit date-times and instants must be a whole multiple of to be cached;
+     *          one of {@link ChronoUnit#MILLIS}, {@link ChronoUnit#SECONDS},
+     *          {@link ChronoUnit#MINUTES}, {@link ChronoUnit#HOURS} or {@link ChronoUnit#DAYS}
+     * @return a new cache
+     * @throws IllegalArgumentException
+     *          if {@code entries} is not positive or larger than 2<sup>20</sup>, or
+     *          {@code granularity} is not one of the units above
+     */
+    public static TemporalCache create(final int entries, final ChronoUnit granularity) {
+        if (entries < 1 || entries > MAX_ENTRIES) {
+            throw new IllegalArgumentException("entries must be between 1 and " + MAX_ENTRIES + ": " + entries);
+        }
+        switch (requireNonNull(granularity, "granularity")) {
+            case MILLIS:
+            case SECONDS:
+            case MINUTES:
+            case HOURS:
+            case DAYS:
+                return new TemporalCache(Integer.highestOneBit(entries * 2 - 1), granularity.getDuration().toMillis());
+            default:
+                throw new IllegalArgumentException("granularity must be between MILLIS and DAYS: " + granularity);
+        }
+    }
+
+    /**
+     * @return {@code date} as a {@link LocalDate}, or {@code null} if it is {@code null}
+     */
+    LocalDate localDate(final Date date) {
+        if (date == null) {
+            return null;
+        }
+        final long millis = date.getTime();
+        final int slot = slot(millis);
+        final Entry entry = dates[slot];
+        if (entry != null && entry.key == millis) {
+            return (LocalDate) entry.value;
+        }
+        final LocalDate value = localDate(date.toLocalDate());
+        dates[slot] = new Entry(millis, value);
+        return value;
+    }
+
+    /**
+     * @return the cached instance equal to {@code date}, which is cached if there is none;
+     *          {@code null} if it is {@code null}
+     */
+    LocalDate localDate(final LocalDate date) {
+        if (date == null) {
+            return null;
+        }
+        return (LocalDate) canonical(days, date.toEpochDay(), date);
+    }
+
+    /**
+     * @return {@code timestamp} as a {@link LocalDateTime}, or {@code null} if it is {@code null}
+     */
+    LocalDateTime localDateTime(final Timestamp timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        final long millis = timestamp.getTime();
+        if (!isCached(millis, timestamp.getNanos())) {
+            return timestamp.toLocalDateTime();
+        }
+        final int slot = slot(millis);
+        final Entry entry = timestamps[slot];
+        if (entry != null && entry.key == millis) {
+            return (LocalDateTime) entry.value;
+        }
+        final LocalDateTime value = localDateTime(timestamp.toLocalDateTime());
+        timestamps[slot] = new Entry(millis, value);
+        return value;
+    }
+
+    /**
+     * @return the cached instance equal to {@code dateTime}, which is cached if there is
+     *          none and it is a multiple of the granularity; {@code null} if it is {@code null}
+     */
+    LocalDateTime localDateTime(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        final long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (Math.abs(seconds) > MAX_CACHED_SECONDS) {
+            return dateTime;
+        }
+        final long millis = seconds * 1000 + dateTime.getNano() / NANOS_PER_MILLI;
+        if (!isCached(millis, dateTime.getNano())) {
+            return dateTime;
+        }
+        return (LocalDateTime) canonical(dateTimes, millis, dateTime);
+    }
+
+    /**
+     * @return {@code timestamp} as an {@link Instant}, or {@code null} if it is {@code null}
+     */
+    Instant instant(final Timestamp timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        final long millis = timestamp.getTime();
+        if (!isCached(millis, timestamp.getNanos())) {
+            return timestamp.toInstant();
+        }
+        final Entry entry = instants[slot(millis)];
+        if (entry != null && entry.key == millis) {
+            return (Instant) entry.value;
+        }
+        return (Instant) canonical(instants, millis, timestamp.toInstant());
+    }
+
+    /**
+     * @return the cached instance equal to {@code instant}, which is cached if there is
+     *          none and it is a multiple of the granularity; {@code null} if it is {@code null}
+     */
+    Instant instant(final Instant instant) {
+        if (instant == null) {
+            return null;
+        }
+        final long seconds = instant.getEpochSecond();
+        if (Math.abs(seconds) > MAX_CACHED_SECONDS) {
+            return instant;
+        }
+        final long millis = seconds * 1000 + instant.getNano() / NANOS_PER_MILLI;
+        if (!isCached(millis, instant.getNano())) {
+            return instant;
+        }
+        return (Instant) canonical(instants, millis, instant);
+    }
+
+    /**
+     * @return the cached instance equal to {@code value} if it is a {@link LocalDate},
+     *          {@link LocalDateTime} or {@link Instant}, as the methods above cache them;
+     *          {@code value} itself otherwise
+     */
+    @SuppressWarnings("unchecked")
+    <T> T cached(final T value) {
+        if (value instanceof LocalDate) {
+            return (T) localDate((LocalDate) value);
+        }
+        if (value instanceof LocalDateTime) {
+            return (T) localDateTime((LocalDateTime) value);
+        }
+        if (value instanceof Instant) {
+            return (T) instant((Instant) value);
+        }
+        return value;
+    }
+
+    /**
+     * @param nanos
+     *          the nanosecond of the second, which must have no digits below milliseconds
+     */
+    private boolean isCached(final long millis, final int nanos) {
+        return nanos % NANOS_PER_MILLI == 0 && millis % granularityMillis == 0;
+    }
+
+    private Object canonical(final Entry[] table, final long key, final Object value) {
+        final int slot = slot(key);
+        final Entry entry = table[slot];
+        if (entry != null && entry.key == key) {
+            return entry.value;
+        }
+        table[slot] = new Entry(key, value);
+        return value;
+    }
+
+    private int slot(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+
+    /**
+     * A key and its value. Entries are immutable and replaced whole, so a thread reading a
+     * slot another is writing sees either entry, never a key with another key's value.
+     */
+    private static final class Entry {
+        Entry(final long key, final Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        final long key;
+        final Object value;
+    }
+
+    private static final int DEFAULT_ENTRIES = 1024;
+    private static final int MAX_ENTRIES = 1 << 20;
+    private static final int NANOS_PER_MILLI = 1000000;
+    /** Beyond this, a count of epoch milliseconds could overflow a long. */
+    private static final long MAX_CACHED_SECONDS = Long.MAX_VALUE / 1000 - 1;
+
+    private TemporalCache(final int size, final long granularityMillis) {
+        this.mask = size - 1;
+        this.granularityMillis = granularityMillis;
+        this.dates = new Entry[size];
+        this.days = new Entry[size];
+        this.timestamps = new Entry[size];
+        this.dateTimes = new Entry[size];
+        this.instants = new Entry[size];
+    }
+
+    private final int mask;
+    private final long granularityMillis;
+    private final Entry[] dates;
+    private final Entry[] days;
+    private final Entry[] timestamps;
+    private final Entry[] dateTimes;
+    private final Entry[] instants;
+}
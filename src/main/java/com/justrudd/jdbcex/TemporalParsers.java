@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * Parsers for ISO-8601 strings which return {@code null} wherever {@link LocalDate#parse(CharSequence)},
+ * {@link LocalDateTime#parse(CharSequence)}, {@link LocalTime#parse(CharSequence)},
+ * {@link Instant#parse(CharSequence)}, {@link OffsetDateTime#parse(CharSequence)} or
+ * {@link ZonedDateTime#parse(CharSequence)} would throw a {@link DateTimeParseException}.
+ * <p>
+ * The fixed width shapes databases actually produce ({@code yyyy-MM-dd},
+ * {@code HH:mm[:ss[.fffffffff]]}, their combination with {@code T}, and that followed by
+ * {@code Z}) are decoded by hand, straight into the java.time value. Anything else that
+ * could still be ISO-8601 (expanded years, offsets, leap seconds, ...) is handed to the
+ * formatter, as are all offset and zoned date-times; anything that cannot be ISO-8601 is
+ * rejected without it.
+ * </p>
+ */
+final class TemporalParsers {
+
+    static LocalDate parseLocalDate(final String s) {
+        final int date = isoDate(s, 0, s.length());
+        if (date >= 0) {
+            return LocalDate.of(year(date), month(date), day(date));
+        }
+        return date == NOT_ISO ? fallback(s, LocalDate::parse, true) : null;
+    }
+
+    static LocalDateTime parseLocalDateTime(final String s) {
+        final int len = s.length();
+        if (len > DATE_LENGTH && s.charAt(DATE_LENGTH) == 'T') {
+            final int date = isoDate(s, 0, DATE_LENGTH);
+            final long time = isoTime(s, DATE_LENGTH + 1, len, false);
+            if (date >= 0 && time >= 0) {
+                return LocalDateTime.of(LocalDate.of(year(date), month(date), day(date)), LocalTime.ofNanoOfDay(time));
+            }
+            if (date != NOT_ISO && time != NOT_ISO) {
+                return null;
+            }
+        }
+        return fallback(s, LocalDateTime::parse, true);
+    }
+
+    static LocalTime parseLocalTime(final String s) {
+        final long time = isoTime(s, 0, s.length(), false);
+        if (time >= 0) {
+            return LocalTime.ofNanoOfDay(time);
+        }
+        return time == NOT_ISO ? fallback(s, LocalTime::parse, false) : null;
+    }
+
+    static Instant parseInstant(final String s) {
+        final int len = s.length();
+        if (len > DATE_LENGTH && s.charAt(DATE_LENGTH) == 'T' && s.charAt(len - 1) == 'Z') {
+            final int date = isoDate(s, 0, DATE_LENGTH);
+            final long time = isoTime(s, DATE_LENGTH + 1, len - 1, true);
+            if (date >= 0 && time >= 0) {
+                final long epochDay = epochDay(year(date), month(date), day(date));
+                return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + time / NANOS_PER_SECOND,
+                                             time % NANOS_PER_SECOND);
+            }
+            // out of range values may still be a leap second or end of day, both of which
+            // ISO_INSTANT accepts, so let the formatter decide
+        }
+        return fallback(s, Instant::parse, true);
+    }
+
+    static OffsetDateTime parseOffsetDateTime(final String s) {
+        return fallback(s, OffsetDateTime::parse, true);
+    }
+
+    static ZonedDateTime parseZonedDateTime(final String s) {
+        return fallback(s, ZonedDateTime::parse, true);
+    }
+
+    /**
+     * Decodes {@code yyyy-MM-dd} in {@code s[from, end)}.
+     * @return the date packed as {@code yyyyMMdd}, {@link #NOT_ISO} or {@link #OUT_OF_RANGE}
+     */
+    private static int isoDate(final String s, final int from, final int end) {
+        if (end - from != DATE_LENGTH || s.charAt(from + 4) != '-' || s.charAt(from + 7) != '-') {
+            return NOT_ISO;
+        }
+        final int century = twoDigits(s, from);
+        final int yearOfCentury = twoDigits(s, from + 2);
+        final int month = twoDigits(s, from + 5);
+        final int day = twoDigits(s, from + 8);
+        if ((century | yearOfCentury | month | day) < 0) {
+            return NOT_ISO;
+        }
+
+        final int year = century * 100 + yearOfCentury;
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return OUT_OF_RANGE;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Decodes {@code HH:mm[:ss[.fffffffff]]} in {@code s[from, end)}.
+     * @return the nano of day, {@link #NOT_ISO} or {@link #OUT_OF_RANGE}
+     */
+    private static long isoTime(final String s, final int from, final int end, final boolean secondsRequired) {
+        final int len = end - from;
+        if (len != 5 && len != 8 && (len < 10 || len > 18)) {
+            return NOT_ISO;
+        }
+        if (len == 5 && secondsRequired) {
+            return NOT_ISO;
+        }
+        if (s.charAt(from + 2) != ':') {
+            return NOT_ISO;
+        }
+
+        final int hour = twoDigits(s, from);
+        final int minute = twoDigits(s, from + 3);
+        int second = 0;
+        int nano = 0;
+        if (len > 5) {
+            if (s.charAt(from + 5) != ':') {
+                return NOT_ISO;
+            }
+            second = twoDigits(s, from + 6);
+        }
+        if (len > 8) {
+            if (s.charAt(from + 8) != '.') {
+                return NOT_ISO;
+            }
+            for (int i = from + 9; i < end; i++) {
+                final int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return NOT_ISO;
+                }
+                nano = nano * 10 + digit;
+            }
+            for (int i = len; i < 18; i++) {
+                nano *= 10;
+            }
+        }
+        if ((hour | minute | second) < 0) {
+            return NOT_ISO;
+        }
+
+        if (hour > 23 || minute > 59 || second > 59) {
+            return OUT_OF_RANGE;
+        }
+        return ((hour * 60L + minute) * 60L + second) * NANOS_PER_SECOND + nano;
+    }
+
+    private static int twoDigits(final String s, final int at) {
+        final int tens = s.charAt(at) - '0';
+        final int ones = s.charAt(at + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        if (month == 2) {
+            return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /** {@link LocalDate#toEpochDay()} for a non-negative year, without creating the {@link LocalDate}. */
+    private static long epochDay(final int year, final int month, final int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!IsoChronology.INSTANCE.isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int year(final int date) {
+        return date / 10000;
+    }
+
+    private static int month(final int date) {
+        return date / 100 % 100;
+    }
+
+    private static int day(final int date) {
+        return date % 100;
+    }
+
+    /**
+     * Parses with the formatter, but only if {@code s} could be ISO-8601 at all; every ISO
+     * date starts with a digit or the sign of an expanded year, every time with a digit.
+     */
+    private static <T> T fallback(final String s, final Function<String, T> parser, final boolean signedYear) {
+        if (s.isEmpty()) {
+            return null;
+        }
+        final char first = s.charAt(0);
+        if (!(first >= '0' && first <= '9') && !(signedYear && (first == '+' || first == '-'))) {
+            return null;
+        }
+        try {
+            return parser.apply(s);
+        }
+        catch (DateTimeParseException expected) {
+            return null;
+        }
+    }
+
+    private static final int NOT_ISO = -1;
+    private static final int OUT_OF_RANGE = -2;
+
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    private TemporalParsers() { }
+}
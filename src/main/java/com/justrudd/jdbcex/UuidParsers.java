@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Decoders for the forms UUID columns come back in, which return {@code null} for
+ * anything malformed rather than throwing as {@link UUID#fromString(String)} does.
+ * <p>
+ * Strings must be the canonical 36 character form, or the same 32 hex digits without
+ * the dashes, in either case. Every digit is one table lookup, and validity is checked
+ * once per UUID rather than once per character.
+ * </p>
+ */
+final class UuidParsers {
+
+    static UUID parseUUID(final String s) {
+        // the width of each dash, so the same offsets serve both forms
+        final int dash;
+        if (s.length() == CANONICAL_LENGTH) {
+            if (s.charAt(8) != '-' || s.charAt(13) != '-' || s.charAt(18) != '-' || s.charAt(23) != '-') {
+                return null;
+            }
+            dash = 1;
+        }
+        else if (s.length() == COMPACT_LENGTH) {
+            dash = 0;
+        }
+        else {
+            return null;
+        }
+
+        final long timeLow = hex(s, 0, 8);
+        final long timeMid = hex(s, 8 + dash, 4);
+        final long timeHigh = hex(s, 12 + 2 * dash, 4);
+        final long clockSeq = hex(s, 16 + 3 * dash, 4);
+        final long node = hex(s, 20 + 4 * dash, 12);
+        if ((timeLow | timeMid | timeHigh | clockSeq | node) < 0) {
+            return null;
+        }
+        return new UUID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+    }
+
+    /**
+     * @return the UUID whose most significant byte is {@code bytes[0]}, as stored by
+     *          {@code BINARY(16)} columns, or {@code null} unless there are exactly 16 bytes
+     */
+    static UUID fromBytes(final byte[] bytes) {
+        if (bytes.length != 16) {
+            return null;
+        }
+
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = msb << 8 | (bytes[i] & 0xFF);
+        }
+        for (int i = 8; i < 16; i++) {
+            lsb = lsb << 8 | (bytes[i] & 0xFF);
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Decodes at most 12 hex digits. An invalid digit sets every bit, and no more than
+     * 48 shifts follow it, so the result is negative if and only if a digit was invalid.
+     */
+    private static long hex(final String s, final int from, final int count) {
+        long value = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = s.charAt(i);
+            value = value << 4 | (c < HEX_DIGITS.length ? HEX_DIGITS[c] : INVALID);
+        }
+        return value;
+    }
+
+    private static final int CANONICAL_LENGTH = 36;
+    private static final int COMPACT_LENGTH = 32;
+
+    private static final long INVALID = -1L;
+
+    /** The value of every hex digit, indexed by character; {@link #INVALID} for the rest of Latin-1. */
+    private static final long[] HEX_DIGITS = new long[256];
+    static {
+        Arrays.fill(HEX_DIGITS, INVALID);
+        for (char c = '0'; c <= '9'; c++) {
+            HEX_DIGITS[c] = c - '0';
+        }
+        for (char c = 'a'; c <= 'f'; c++) {
+            HEX_DIGITS[c] = c - 'a' + 10;
+            HEX_DIGITS[Character.toUpperCase(c)] = c - 'a' + 10;
+        }
+    }
+
+    private UuidParsers() { }
+}
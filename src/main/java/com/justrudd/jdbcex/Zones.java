@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Places instants in time zones without a {@link java.util.Calendar}. The {@link ZoneRules}
+ * of each zone are looked up once and kept; {@link ZoneOffset#getRules()} in particular
+ * creates new rules on every call.
+ */
+final class Zones {
+
+    /**
+     * @return the rules of {@code zone}
+     */
+    static ZoneRules rules(final ZoneId zone) {
+        final ZoneRules rules = RULES.get(zone);
+        if (rules != null) {
+            return rules;
+        }
+        final ZoneRules created = zone.getRules();
+        if (RULES.size() < MAX_ZONES) {
+            RULES.putIfAbsent(zone, created);
+        }
+        return created;
+    }
+
+    /**
+     * @return the instant of {@code timestamp} at its offset in {@code zone}, or {@code null}
+     *          if {@code timestamp} is {@code null}
+     */
+    static OffsetDateTime offsetDateTime(final Timestamp timestamp, final ZoneId zone) {
+        if (timestamp == null) {
+            return null;
+        }
+        return offsetDateTime(Math.floorDiv(timestamp.getTime(), MILLIS_PER_SECOND), timestamp.getNanos(), zone);
+    }
+
+    /**
+     * @return {@code instant} at its offset in {@code zone}
+     */
+    static OffsetDateTime offsetDateTime(final Instant instant, final ZoneId zone) {
+        return offsetDateTime(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * @return the same instant as {@code dateTime} at its offset in {@code zone}
+     */
+    static OffsetDateTime offsetDateTime(final OffsetDateTime dateTime, final ZoneId zone) {
+        final ZoneOffset offset = offset(dateTime.toEpochSecond(), zone);
+        return offset.equals(dateTime.getOffset()) ? dateTime : dateTime.withOffsetSameInstant(offset);
+    }
+
+    /**
+     * @return the same instant as {@code dateTime} in {@code zone}
+     */
+    static ZonedDateTime zonedDateTime(final OffsetDateTime dateTime, final ZoneId zone) {
+        final long epochSecond = dateTime.toEpochSecond();
+        final ZoneOffset offset = offset(epochSecond, zone);
+        final LocalDateTime local = offset.equals(dateTime.getOffset())
+                ? dateTime.toLocalDateTime()
+                : LocalDateTime.ofEpochSecond(epochSecond, dateTime.getNano(), offset);
+        return zonedDateTime(local, offset, zone);
+    }
+
+    /**
+     * @return {@code instant} in {@code zone}
+     */
+    static ZonedDateTime zonedDateTime(final Instant instant, final ZoneId zone) {
+        final ZoneOffset offset = offset(instant.getEpochSecond(), zone);
+        return zonedDateTime(LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset),
+                             offset, zone);
+    }
+
+    private static OffsetDateTime offsetDateTime(final long epochSecond, final int nano, final ZoneId zone) {
+        final ZoneOffset offset = offset(epochSecond, zone);
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(epochSecond, nano, offset), offset);
+    }
+
+    private static ZonedDateTime zonedDateTime(final LocalDateTime local, final ZoneOffset offset, final ZoneId zone) {
+        // ofLocal validates the offset against the rules of the zone, which an offset does not need
+        return zone instanceof ZoneOffset
+                ? ZonedDateTime.ofLocal(local, zone, null)
+                : ZonedDateTime.ofInstant(local, offset, zone);
+    }
+
+    private static ZoneOffset offset(final long epochSecond, final ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return (ZoneOffset) zone;
+        }
+        final ZoneRules rules = rules(zone);
+        return rules.isFixedOffset()
+                ? rules.getOffset(Instant.EPOCH)
+                : rules.getOffset(Instant.ofEpochSecond(epochSecond));
+    }
+
+    /** Offsets are not kept, and there are only a few hundred regions. */
+    private static final int MAX_ZONES = 1024;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private static final ConcurrentMap<ZoneId, ZoneRules> RULES = new ConcurrentHashMap<>();
+
+    private Zones() { }
+}
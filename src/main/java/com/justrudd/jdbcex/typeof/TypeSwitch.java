@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex.typeof;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A precompiled equivalent of a {@code whenTypeOf(o).is(...).thenReturn(...)} chain.
+ * <p>
+ * The cases are declared once and the resulting switch is immutable and thread-safe,
+ * so it is meant to be kept in a {@code static final} field:
+ * </p>
+ * <pre>
+ *     private static final TypeSwitch&lt;Object, Long&gt; TO_LONG =
+ *         TypeSwitch.&lt;Object, Long&gt;builder()
+ *             .is(Long.class, identity())
+ *             .is(Number.class, Number::longValue)
+ *             .is(String.class, Long::parseLong)
+ *             .orElse(o -&gt; null);
+ * </pre>
+ * <p>
+ * Cases are matched in declaration order, exactly like the fluent chain. The first
+ * matching case for a runtime class is resolved once and cached in a {@link ClassValue},
+ * so {@link #apply(Object)} is a single lookup plus a call and does not allocate.
+ * </p>
+ * @param <S>
+ *          the type of the values being switched on
+ * @param <R>
+ *          the type of the result
+ */
+public final class TypeSwitch<S, R> {
+
+    public static <S, R> Builder<S, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Applies the first case whose type is assignable from the runtime class of
+     * {@code object}. A {@code null} object never matches a case.
+     * @param object
+     *          the value to switch on
+     * @return
+     *          the result of the matching case, or of the fallback if no case matched
+     * @throws NoSuchElementException
+     *          if no case matched and the switch was created with {@link Builder#build()}
+     */
+    public R apply(final S object) {
+        if (object == null) {
+            return otherwise.apply(null);
+        }
+        return cases.get(object.getClass()).apply(object);
+    }
+
+    /**
+     * @param type
+     *          a runtime class
+     * @return
+     *          {@code true} if one of the cases (rather than the fallback) handles
+     *          values of {@code type}
+     */
+    public boolean handles(final Class<?> type) {
+        return cases.get(type) != otherwise;
+    }
+
+    /**
+     * Resolves the case {@link #apply(Object)} would apply to non-null values of
+     * {@code type}, so a caller seeing many values of one class can skip the lookup.
+     * @param type
+     *          a runtime class
+     * @return
+     *          the result function of the first case whose type is assignable from
+     *          {@code type}, or the fallback if none is
+     */
+    @SuppressWarnings("unchecked")
+    public Function<S, R> resolve(final Class<?> type) {
+        return (Function<S, R>) cases.get(type);
+    }
+
+    public static final class Builder<S, R> {
+
+        /**
+         * Adds a case which is applied when the value is an instance of {@code type}
+         * and no earlier case matched.
+         */
+        public <T> Builder<S, R> is(final Class<T> type, final Function<? super T, ? extends R> result) {
+            types.add(type);
+            results.add(result);
+            return this;
+        }
+
+        /**
+         * Adds a case which returns {@code result} when the value is an instance of
+         * {@code type} and no earlier case matched.
+         */
+        public Builder<S, R> is(final Class<?> type, final R result) {
+            return is(type, v -> result);
+        }
+
+        /**
+         * @return a switch which applies {@code otherwise} when no case matches
+         */
+        public TypeSwitch<S, R> orElse(final Function<? super S, ? extends R> otherwise) {
+            return new TypeSwitch<>(types, results, otherwise);
+        }
+
+        /**
+         * @return a switch which returns {@code result} when no case matches
+         */
+        public TypeSwitch<S, R> orElse(final R result) {
+            return orElse(v -> result);
+        }
+
+        /**
+         * @return a switch which throws {@link NoSuchElementException} when no case matches
+         */
+        public TypeSwitch<S, R> build() {
+            return orElse(v -> {
+                throw new NoSuchElementException(Objects.toString(v));
+            });
+        }
+
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Function<?, ? extends R>> results = new ArrayList<>();
+
+        private Builder() { }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypeSwitch(final List<Class<?>> types,
+                       final List<Function<?, ? extends R>> results,
+                       final Function<? super S, ? extends R> otherwise) {
+        final Class<?>[] caseTypes = types.toArray(new Class<?>[types.size()]);
+        final Function<Object, ? extends R>[] caseResults =
+                results.toArray((Function<Object, ? extends R>[]) new Function<?, ?>[results.size()]);
+
+        // only ever handed values of type S
+        this.otherwise = (Function<Object, ? extends R>) otherwise;
+        this.cases = new ClassValue<Function<Object, ? extends R>>() {
+            @Override
+            protected Function<Object, ? extends R> computeValue(final Class<?> type) {
+                for (int i = 0; i < caseTypes.length; i++) {
+                    if (caseTypes[i].isAssignableFrom(type)) {
+                        return caseResults[i];
+                    }
+                }
+                return TypeSwitch.this.otherwise;
+            }
+        };
+    }
+
+    private final ClassValue<Function<Object, ? extends R>> cases;
+    private final Function<Object, ? extends R> otherwise;
+}
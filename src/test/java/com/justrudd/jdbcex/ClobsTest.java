@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClobsTest {
+
+    @Before
+    public void setUp() {
+        mockClob = mock(Clob.class);
+    }
+
+    @Test
+    public void nullClobIsNull() throws SQLException {
+        assertThat(Clobs.toString(null)).isNull();
+        assertThat(Clobs.readInto(null, new StringBuilder())).isEqualTo(-1);
+        assertThat(Clobs.readInto(null, CharBuffer.allocate(1))).isEqualTo(-1);
+    }
+
+    @Test
+    public void textLongerThanAChunkReadWhole() throws SQLException {
+        final String text = text(20_000);
+        withText(text);
+
+        assertThat(Clobs.toString(mockClob)).isEqualTo(text);
+
+        verify(mockClob).free();
+    }
+
+    @Test
+    public void successiveCallsIndependent() throws SQLException {
+        withText("first");
+        assertThat(Clobs.toString(mockClob)).isEqualTo("first");
+        withText("2nd");
+        assertThat(Clobs.toString(mockClob)).isEqualTo("2nd");
+    }
+
+    @Test
+    public void textAppendedToBuilder() throws SQLException {
+        withText("world");
+        final StringBuilder text = new StringBuilder("hello ");
+
+        assertThat(Clobs.readInto(mockClob, text)).isEqualTo(5);
+
+        assertThat(text.toString()).isEqualTo("hello world");
+        verify(mockClob).free();
+    }
+
+    @Test
+    public void heapBufferFilledUpToItsLimit() throws SQLException {
+        withText("abcdef");
+        final CharBuffer buffer = CharBuffer.allocate(6);
+        buffer.put('>');
+        buffer.limit(4);
+
+        assertThat(Clobs.readInto(mockClob, buffer)).isEqualTo(Clobs.TRUNCATED);
+
+        buffer.flip();
+        assertThat(buffer.toString()).isEqualTo(">abc");
+        verify(mockClob).free();
+    }
+
+    @Test
+    public void directBufferFilled() throws SQLException {
+        withText(text(10_000));
+        final CharBuffer buffer = ByteBuffer.allocateDirect(2 * 20_000).asCharBuffer();
+
+        assertThat(Clobs.readInto(mockClob, buffer)).isEqualTo(10_000);
+
+        buffer.flip();
+        assertThat(buffer.toString()).isEqualTo(text(10_000));
+    }
+
+    @Test
+    public void textExactlyFillingBufferNotTruncated() throws SQLException {
+        withText("abc");
+        final CharBuffer buffer = CharBuffer.allocate(3);
+
+        assertThat(Clobs.readInto(mockClob, buffer)).isEqualTo(3);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void directBufferTruncated() throws SQLException {
+        withText(text(10_000));
+        final CharBuffer buffer = ByteBuffer.allocateDirect(2 * 4_000).asCharBuffer();
+
+        assertThat(Clobs.readInto(mockClob, buffer)).isEqualTo(Clobs.TRUNCATED);
+
+        buffer.flip();
+        assertThat(buffer.toString()).isEqualTo(text(4_000));
+        verify(mockClob).free();
+    }
+
+    @Test
+    public void shortTextPartlyFillsBuffer() throws SQLException {
+        withText("ab");
+        final CharBuffer buffer = CharBuffer.allocate(8);
+
+        assertThat(Clobs.readInto(mockClob, buffer)).isEqualTo(2);
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void unsupportedFreeIgnored() throws SQLException {
+        withText("a");
+        doThrow(new SQLFeatureNotSupportedException()).when(mockClob).free();
+
+        assertThat(Clobs.toString(mockClob)).isEqualTo("a");
+    }
+
+    @Test(expected = SQLException.class)
+    public void readFailureWrappedAndClobFreed() throws SQLException {
+        when(mockClob.getCharacterStream()).thenReturn(new Reader() {
+            @Override
+            public int read(final char[] chunk, final int offset, final int length) throws IOException {
+                throw new IOException("gone");
+            }
+
+            @Override
+            public void close() { }
+        });
+
+        try {
+            Clobs.readInto(mockClob, new StringBuilder());
+        }
+        finally {
+            verify(mockClob).free();
+        }
+    }
+
+    private void withText(final String text) throws SQLException {
+        when(mockClob.getCharacterStream()).thenReturn(new StringReader(text));
+    }
+
+    private static String text(final int length) {
+        final StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        return text.toString();
+    }
+
+    private Clob mockClob;
+}
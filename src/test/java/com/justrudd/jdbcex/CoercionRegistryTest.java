@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static com.justrudd.jdbcex.OptionalAssertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class CoercionRegistryTest {
+
+    @Test
+    public void emptyWhenNullValueCoerced() {
+        final Optional<Long> opt = registry.coerce(null, Long.class);
+        assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void sameObjectWhenValueIsAlreadyTargetType() {
+        final UUID uuid = UUID.randomUUID();
+        final Optional<UUID> opt = registry.coerce(uuid, UUID.class);
+        assertThat(opt).isPresentAndSameAs(uuid);
+    }
+
+    @Test
+    public void builtInCoercionsApplyWithoutRegistration() {
+        final Optional<Long> opt = registry.coerce(new BigDecimal("1976.7"), Long.class);
+        assertThat(opt).isPresentAndEqualTo(1976L);
+    }
+
+    @Test
+    public void primitiveTargetIsCoercedIntoItsWrapper() {
+        final Optional<Integer> opt = registry.coerce("1976", int.class);
+        assertThat(opt).isPresentAndEqualTo(1976);
+    }
+
+    @Test
+    public void emptyWhenNoCoercionIsKnown() {
+        final Optional<UUID> opt = registry.coerce(new ArrayList<>(), UUID.class);
+        assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void registeredConverterApplies() {
+        registry.register(String.class, UUID.class, UUID::fromString);
+
+        final UUID uuid = UUID.randomUUID();
+        final Optional<UUID> opt = registry.coerce(uuid.toString(), UUID.class);
+        assertThat(opt).isPresentAndEqualTo(uuid);
+    }
+
+    @Test
+    public void registeredConverterAppliesToSubtypesOfItsSource() {
+        registry.register(Number.class, Duration.class, n -> Duration.ofMillis(n.longValue()));
+
+        final Optional<Duration> opt = registry.coerce(1500, Duration.class);
+        assertThat(opt).isPresentAndEqualTo(Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void emptyWhenRegisteredConverterReturnsNull() {
+        registry.register(String.class, Duration.class, s -> null);
+
+        final Optional<Duration> opt = registry.coerce("PT1S", Duration.class);
+        assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void laterRegistrationTakesPrecedence() {
+        registry.register(Object.class, Duration.class, o -> Duration.ofSeconds(1));
+        assertThat(registry.coerce("x", Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(1));
+
+        // registering after a lookup must not be hidden by the cache
+        registry.register(String.class, Duration.class, Duration::parse);
+        assertThat(registry.coerce("PT2S", Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(2));
+        assertThat(registry.coerce(7, Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void registeredConverterTakesPrecedenceOverBuiltIn() {
+        registry.register(String.class, Boolean.class, "ja"::equals);
+
+        assertThat(registry.coerce("ja", Boolean.class)).isPresentAndEqualTo(true);
+        assertThat(registry.coerce(1, Boolean.class)).isPresentAndEqualTo(true);
+    }
+
+    @Test
+    public void registrationsDoNotLeakBetweenRegistries() {
+        registry.register(String.class, Duration.class, Duration::parse);
+
+        assertThat(CoercionRegistry.create().coerce("PT1S", Duration.class)).isEmpty();
+    }
+
+    @Test
+    public void discardedRegistryConvertersCollectable() throws InterruptedException {
+        final WeakReference<Function<String, Duration>> reference = registerAndCoerce("P");
+
+        awaitCollected(reference);
+    }
+
+    @Test
+    public void replacedCacheCollectable() throws ReflectiveOperationException, InterruptedException {
+        registry.register(String.class, Duration.class, Duration::parse);
+        assertThat(registry.coerce("PT1S", Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(1));
+        final Field cache = CoercionRegistry.class.getDeclaredField("cache");
+        cache.setAccessible(true);
+        final WeakReference<Object> reference = new WeakReference<>(cache.get(registry));
+
+        registry.register(String.class, UUID.class, UUID::fromString);
+        assertThat(registry.coerce("PT2S", Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(2));
+        awaitCollected(reference);
+    }
+
+    private static WeakReference<Function<String, Duration>> registerAndCoerce(final String prefix) {
+        // captures prefix, so that each converter is a new object
+        final Function<String, Duration> converter = s -> Duration.parse(prefix + s);
+        final CoercionRegistry discarded = CoercionRegistry.create().register(String.class, Duration.class, converter);
+        assertThat(discarded.coerce("T1S", Duration.class)).isPresentAndEqualTo(Duration.ofSeconds(1));
+        return new WeakReference<>(converter);
+    }
+
+    private static void awaitCollected(final WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(reference.get()).isNull();
+    }
+
+    private final CoercionRegistry registry = CoercionRegistry.create();
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.justrudd.jdbcex.CoercionResult.Failure;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+
+public class CoercionResultTest {
+
+    @Test
+    public void newResultIsNull() {
+        final CoercionResult<Long> result = new CoercionResult<>();
+        assertThat(result.isNull()).isTrue();
+        assertThat(result.isPresent()).isFalse();
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getFailure()).isEqualTo(Failure.NONE);
+    }
+
+    @Test
+    public void coercedValueIsPresent() {
+        final CoercionResult<Long> result = Coercions.tryCoerceToLong("1976", new CoercionResult<>());
+        assertThat(result.isPresent()).isTrue();
+        assertThat(result.isNull()).isFalse();
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.get()).isEqualTo(1976L);
+        assertThat(result.getSourceType()).isEqualTo(String.class);
+        OptionalAssertions.assertThat(result.toOptional()).isPresentAndEqualTo(1976L);
+    }
+
+    @Test
+    public void nullValueIsNull() {
+        final CoercionResult<Long> result = Coercions.tryCoerceToLong(null, new CoercionResult<>());
+        assertThat(result.isNull()).isTrue();
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getSourceType()).isNull();
+        assertThat(result.orElse(-1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void malformedValueIsInvalid() {
+        final CoercionResult<BigDecimal> result = Coercions.tryCoerceToBigDecimal("12,50", new CoercionResult<>());
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.isNull()).isFalse();
+        assertThat(result.getFailure()).isEqualTo(Failure.INVALID_VALUE);
+        assertThat(result.getSourceType()).isEqualTo(String.class);
+    }
+
+    @Test
+    public void valueOfUnknownTypeIsUnsupported() {
+        final CoercionResult<Integer> result = Coercions.tryCoerceToInteger(new ArrayList<>(), new CoercionResult<>());
+        assertThat(result.getFailure()).isEqualTo(Failure.UNSUPPORTED_TYPE);
+        assertThat(result.getSourceType()).isEqualTo(ArrayList.class);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void getThrowsWhenFailed() {
+        Coercions.tryCoerceToShort("x", new CoercionResult<>()).get();
+    }
+
+    @Test
+    public void resultIsOverwrittenWhenReused() {
+        final CoercionResult<Long> result = new CoercionResult<>();
+        assertThat(Coercions.tryCoerceToLong("x", result).isFailed()).isTrue();
+        assertThat(Coercions.tryCoerceToLong(7, result).get()).isEqualTo(7L);
+        assertThat(Coercions.tryCoerceToLong(null, result).isNull()).isTrue();
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.isPresent()).isFalse();
+    }
+}
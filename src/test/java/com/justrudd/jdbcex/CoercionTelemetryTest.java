@@ -0,0 +1,229 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.justrudd.jdbcex.CoercionTelemetry.Counts;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoercionTelemetryTest {
+
+    @Before
+    public void setUp() {
+        CoercionTelemetry.reset();
+    }
+
+    @After
+    public void tearDown() {
+        CoercionTelemetry.disable();
+        CoercionTelemetry.reset();
+    }
+
+    @Test
+    public void nothingCountedWhileDisabled() {
+        Coercions.coerceToLong("1976");
+        assertThat(CoercionTelemetry.isEnabled()).isFalse();
+        assertThat(CoercionTelemetry.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void successesAndFailuresCountedBySourceAndTarget() {
+        CoercionTelemetry.enable();
+        Coercions.coerceToLong("1976");
+        Coercions.coerceToLong("07/04");
+        Coercions.coerceToLong("2016");
+        Coercions.coerceToLong(7);
+        Coercions.coerceToBigDecimal("12.50");
+
+        assertThat(counts(String.class, Long.class).getSuccesses()).isEqualTo(2);
+        assertThat(counts(String.class, Long.class).getFailures()).isEqualTo(1);
+        assertThat(counts(String.class, Long.class).getFailureRate()).isEqualTo(1.0d / 3);
+        assertThat(counts(Integer.class, Long.class).getSuccesses()).isEqualTo(1);
+        assertThat(counts(String.class, BigDecimal.class).getSuccesses()).isEqualTo(1);
+        assertThat(CoercionTelemetry.snapshot()).hasSize(3);
+    }
+
+    @Test
+    public void nullValuesNotCounted() {
+        CoercionTelemetry.enable();
+        Coercions.coerceToLong(null);
+        Coercions.coerceToLong(null, -1L);
+        assertThat(CoercionTelemetry.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void primitiveCoercionsCounted() {
+        CoercionTelemetry.enable();
+        assertThat(Coercions.coerceToLong(7, -1L)).isEqualTo(7L);
+        assertThat(Coercions.coerceToInteger("x", -1)).isEqualTo(-1);
+        assertThat(Coercions.coerceToDouble(1.5f, -1.0d)).isEqualTo(1.5d);
+
+        assertThat(counts(Integer.class, Long.class).getSuccesses()).isEqualTo(1);
+        assertThat(counts(String.class, Integer.class).getFailures()).isEqualTo(1);
+        assertThat(counts(Float.class, Double.class).getSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    public void registryCoercionsCounted() {
+        CoercionTelemetry.enable();
+        final CoercionRegistry registry = CoercionRegistry.create()
+                .register(String.class, StringBuilder.class, s -> s.isEmpty() ? null : new StringBuilder(s));
+        registry.coerce("abc", StringBuilder.class);
+        registry.coerce("", StringBuilder.class);
+        registry.coerce("1976", int.class);
+
+        assertThat(counts(String.class, StringBuilder.class).getSuccesses()).isEqualTo(1);
+        assertThat(counts(String.class, StringBuilder.class).getFailures()).isEqualTo(1);
+        assertThat(counts(String.class, Integer.class).getSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    public void typedColumnReadsCounted() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(anyInt())).thenReturn(true);
+        when(metaData.isNullable(anyInt())).thenReturn(ResultSetMetaData.columnNullable);
+        when(resultSet.getLong(1)).thenReturn(42L);
+        final ResultSetEx resultSetEx = new ResultSetExImpl(resultSet);
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+
+        CoercionTelemetry.enable();
+        assertThat(resultSetEx.getCoercedLong(1)).isEqualTo(Optional.of(42L));
+        assertThat(resultSetEx.getCoercedInteger(1)).isEqualTo(Optional.of(42));
+        assertThat(id.get(resultSet)).isEqualTo(42L);
+        assertThat(id.getLong(resultSet)).isEqualTo(42L);
+
+        assertThat(counts(Long.class, Long.class).getSuccesses()).isEqualTo(3);
+        assertThat(counts(Long.class, Integer.class).getSuccesses()).isEqualTo(1);
+        verify(resultSet, never()).getObject(1);
+    }
+
+    @Test
+    public void typedColumnReadsOfNullNotCounted() throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.isSigned(anyInt())).thenReturn(true);
+        when(metaData.isNullable(anyInt())).thenReturn(ResultSetMetaData.columnNullable);
+        when(resultSet.wasNull()).thenReturn(true);
+        final ResultSetEx resultSetEx = new ResultSetExImpl(resultSet);
+
+        CoercionTelemetry.enable();
+        assertThat(resultSetEx.getCoercedDoubleOr(1, -1.0d)).isEqualTo(-1.0d);
+        assertThat(CoercionTelemetry.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void nanosAccumulated() {
+        CoercionTelemetry.enable();
+        final CoercionRegistry registry = CoercionRegistry.create()
+                .register(String.class, Long.class, s -> {
+                    final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+                    while (System.nanoTime() < end) {
+                        Thread.yield();
+                    }
+                    return 1L;
+                });
+        registry.coerce("slow", Long.class);
+        assertThat(counts(String.class, Long.class).getNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    public void countsKeptAfterDisablingAndDiscardedByReset() {
+        CoercionTelemetry.enable();
+        Coercions.coerceToLong("1976");
+        CoercionTelemetry.disable();
+        Coercions.coerceToLong("1976");
+        assertThat(counts(String.class, Long.class).getSuccesses()).isEqualTo(1);
+
+        CoercionTelemetry.reset();
+        assertThat(CoercionTelemetry.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void concurrentCoercionsAllCounted() throws InterruptedException {
+        CoercionTelemetry.enable();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    Coercions.coerceToInteger("42");
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(counts(String.class, Integer.class).getSuccesses()).isEqualTo(40_000);
+    }
+
+    @Test
+    public void resetGenerationCollectable() throws Exception {
+        CoercionTelemetry.enable();
+        Coercions.coerceToLong("1976");
+        Coercions.coerceToInteger(7L);
+        final WeakReference<Object> generation = new WeakReference<>(counters());
+
+        CoercionTelemetry.reset();
+        Coercions.coerceToLong("1976");
+        for (int i = 0; i < 50 && generation.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(generation.get()).isNull();
+    }
+
+    private static Object counters() throws ReflectiveOperationException {
+        final Field counters = CoercionTelemetry.class.getDeclaredField("counters");
+        counters.setAccessible(true);
+        return counters.get(null);
+    }
+
+    private static Counts counts(final Class<?> sourceType, final Class<?> targetType) {
+        final List<Counts> snapshot = CoercionTelemetry.snapshot();
+        for (final Counts counts : snapshot) {
+            if (counts.getSourceType() == sourceType && counts.getTargetType() == targetType) {
+                return counts;
+            }
+        }
+        throw new AssertionError("no counts of " + sourceType + " -> " + targetType + " in " + snapshot);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static com.justrudd.jdbcex.typeof.TypeOf.whenTypeOf;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Compares the whenTypeOf chains Coercions used to walk on every call with the
+ * precompiled TypeSwitch instances that replaced them, measured through the coerceToX
+ * entry points. The chains call the same parsers and wrap the result like those entry
+ * points, so only the dispatch differs.
+ * Run with: mvn -Pbenchmarks verify -Djmh.args=CoercionsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoercionsBenchmark {
+
+    @Benchmark
+    public Object bigDecimalChain() {
+        final Object o = next();
+        if (o == null) {
+            return empty();
+        }
+
+        return ofNullable(whenTypeOf(o)
+                .is(BigDecimal.class).thenReturn(identity())
+                .is(BigInteger.class).thenReturn(BigDecimal::new)
+                .is(Byte.class).thenReturn(v -> BigDecimals.valueOf(v.longValue(), 0))
+                .is(Short.class).thenReturn(v -> BigDecimals.valueOf(v.longValue(), 0))
+                .is(Integer.class).thenReturn(v -> BigDecimals.valueOf(v.longValue(), 0))
+                .is(Long.class).thenReturn(v -> BigDecimals.valueOf(v.longValue(), 0))
+                .is(Double.class).thenReturn(CoercionsBenchmark::doubleToBigDecimal)
+                .is(Float.class).thenReturn(CoercionsBenchmark::floatToBigDecimal)
+                .is(Number.class).thenReturn(v -> NumberParsers.parseBigDecimal(v.toString()))
+                .is(Boolean.class).thenReturn(v -> v ? BigDecimal.ONE : BigDecimal.ZERO)
+                .is(Character.class).thenReturn(c -> Character.isDigit(c)
+                        ? BigDecimals.valueOf(Character.digit(c, 10), 0)
+                        : null)
+                .is(String.class).thenReturn(NumberParsers::parseBigDecimal)
+                .orElse(v -> null));
+    }
+
+    @Benchmark
+    public Object bigDecimalSwitch() {
+        return Coercions.coerceToBigDecimal(next());
+    }
+
+    @Benchmark
+    public Object longChain() {
+        final Object o = next();
+        if (o == null) {
+            return empty();
+        }
+
+        return ofNullable(whenTypeOf(o)
+                .is(Long.class).thenReturn(identity())
+                .is(Number.class).thenReturn(Number::longValue)
+                .is(Boolean.class).thenReturn(v -> v ? (long) 1 : 0)
+                .is(Character.class).thenReturn(c -> Character.isDigit(c)
+                        ? (long) Character.digit(c, 10)
+                        : null)
+                .is(String.class).thenReturn(NumberParsers::parseLong)
+                .orElse(v -> null));
+    }
+
+    @Benchmark
+    public Object longSwitch() {
+        return Coercions.coerceToLong(next());
+    }
+
+    private static BigDecimal doubleToBigDecimal(final Double d) {
+        final BigDecimal whole = BigDecimals.fromWholeDouble(d);
+        return whole != null
+                ? whole
+                : NumberParsers.parseBigDecimal(d.toString());
+    }
+
+    private static BigDecimal floatToBigDecimal(final Float f) {
+        final BigDecimal whole = BigDecimals.fromWholeFloat(f);
+        return whole != null
+                ? whole
+                : NumberParsers.parseBigDecimal(f.toString());
+    }
+
+    private Object next() {
+        final Object o = VALUES[index];
+        index = (index + 1) % VALUES.length;
+        return o;
+    }
+
+    private static final Object[] VALUES = {
+        42L, 7, new BigDecimal("12.50"), (short) 3, BigInteger.TEN, 1.5d, true, 100L, 9, BigDecimal.ONE
+    };
+
+    private int index;
+}
@@ -14,9 +14,12 @@
 
 package com.justrudd.jdbcex;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -86,6 +89,50 @@ public class Coercions_BigDecimalTest {
         OptionalAssertions.assertThat(opt).isPresentAndEqualTo(new BigDecimal(d.toString()));
     }
 
+    @Test
+    public void doubleValuesCoercedAsTheirStringForm() {
+        final List<Double> doubles = new ArrayList<>(Arrays.asList(
+                0.0, -0.0, 1.0, -1.0, 100.0, 123.0, 9999999.0, -9999999.0, 1e7, -1e7, 1e15, 1e300,
+                0.001, 0.5, 12.25, Double.MIN_VALUE, Double.MAX_VALUE));
+        for (int i = 0; i < 500; i++) {
+            doubles.add((double) (random.nextInt() >> random.nextInt(32)));
+            doubles.add(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+        }
+        for (final Double d : doubles) {
+            final Optional<BigDecimal> opt = Coercions.coerceToBigDecimal(d);
+            assertThat(opt.get()).as("coercing %s", d).isEqualTo(new BigDecimal(d.toString()));
+        }
+    }
+
+    @Test
+    public void floatValuesCoercedAsTheirStringForm() {
+        final List<Float> floats = new ArrayList<>(Arrays.asList(
+                0.0f, -0.0f, 1.0f, -1.0f, 100.0f, 9999999.0f, 1e7f, 16777217.0f, 0.1f, Float.MAX_VALUE));
+        for (int i = 0; i < 500; i++) {
+            floats.add((float) (random.nextInt() >> random.nextInt(32)));
+            floats.add(random.nextFloat());
+        }
+        for (final Float f : floats) {
+            final Optional<BigDecimal> opt = Coercions.coerceToBigDecimal(f);
+            assertThat(opt.get()).as("coercing %s", f).isEqualTo(new BigDecimal(f.toString()));
+        }
+    }
+
+    @Test
+    public void emptyWhenNonFiniteDoubleValueCoerced() {
+        OptionalAssertions.assertThat(Coercions.coerceToBigDecimal(Double.NaN)).isEmpty();
+        OptionalAssertions.assertThat(Coercions.coerceToBigDecimal(Double.POSITIVE_INFINITY)).isEmpty();
+        OptionalAssertions.assertThat(Coercions.coerceToBigDecimal(Float.NEGATIVE_INFINITY)).isEmpty();
+    }
+
+    @Test
+    public void commonValuesShared() {
+        final Optional<BigDecimal> hundred = Coercions.coerceToBigDecimal("100.00");
+        OptionalAssertions.assertThat(Coercions.coerceToBigDecimal("100.00")).isPresentAndSameAs(hundred.get());
+        OptionalAssertions.assertThat(Coercions.coerceToBigDecimal(1L))
+                .isPresentAndSameAs(Coercions.coerceToBigDecimal(1).get());
+    }
+
     @Test
     public void radix10DigitCharacterValueCoerced() {
         final Character c = '4';
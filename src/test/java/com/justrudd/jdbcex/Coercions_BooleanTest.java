@@ -14,9 +14,16 @@
 
 package com.justrudd.jdbcex;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -195,6 +202,41 @@ public class Coercions_BooleanTest {
         OptionalAssertions.assertThat(opt).isPresentAndEqualTo(false);
     }
 
+    @Test
+    public void upperCaseTCharacterValueCoercedToTrue() {
+        final Character c = 'T';
+        final Optional<Boolean> opt = Coercions.coerceToBoolean(c);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(true);
+    }
+
+    @Test
+    public void upperCaseYCharacterValueCoercedToTrue() {
+        final Character c = 'Y';
+        final Optional<Boolean> opt = Coercions.coerceToBoolean(c);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(true);
+    }
+
+    @Test
+    public void upperCaseFCharacterValueCoercedToFalse() {
+        final Character c = 'F';
+        final Optional<Boolean> opt = Coercions.coerceToBoolean(c);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(false);
+    }
+
+    @Test
+    public void upperCaseNCharacterValueCoercedToFalse() {
+        final Character c = 'N';
+        final Optional<Boolean> opt = Coercions.coerceToBoolean(c);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(false);
+    }
+
+    @Test
+    public void emptyWhenNonAsciiCharacterCoerced() {
+        final Character c = (char) ('t' + 0x100);
+        final Optional<Boolean> opt = Coercions.coerceToBoolean(c);
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
     @Test
     public void emptyWhenNonExpectedCharacterCoerced() {
         final Character c = 'z';
@@ -307,6 +349,61 @@ public class Coercions_BooleanTest {
         OptionalAssertions.assertThat(opt).isEmpty();
     }
 
+    @Test
+    public void stringValuesCoercedIgnoringCase() {
+        for (final String s : Arrays.asList("T", "Y", "TRUE", "True", "tRuE", "YES", "Yes", "ON", "oN")) {
+            OptionalAssertions.assertThat(Coercions.coerceToBoolean(s)).as(s).isPresentAndEqualTo(true);
+        }
+        for (final String s : Arrays.asList("F", "N", "FALSE", "False", "NO", "No", "OFF", "Off")) {
+            OptionalAssertions.assertThat(Coercions.coerceToBoolean(s)).as(s).isPresentAndEqualTo(false);
+        }
+    }
+
+    @Test
+    public void emptyWhenNearMissStringValueCoerced() {
+        // each differs from a spelling in a character whose case bit is already set
+        for (final String s : Arrays.asList("x", "tru", "truee", "ye", "o", "of", "nO!", "\u0154rue", "y\u00c5s", "t\u0000")) {
+            OptionalAssertions.assertThat(Coercions.coerceToBoolean(s)).as(s).isEmpty();
+        }
+    }
+
+    @Test
+    public void charSequenceValueCoerced() {
+        OptionalAssertions.assertThat(Coercions.coerceToBoolean(new StringBuilder("Yes"))).isPresentAndEqualTo(true);
+        OptionalAssertions.assertThat(Coercions.coerceToBoolean(CharBuffer.wrap("off"))).isPresentAndEqualTo(false);
+        OptionalAssertions.assertThat(Coercions.coerceToBoolean(new StringBuilder("maybe"))).isEmpty();
+    }
+
+    @Test
+    public void stringValueCoercedWithoutAllocating() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof ThreadMXBean && ((ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final ThreadMXBean threads = (ThreadMXBean) bean;
+        final long thread = Thread.currentThread().getId();
+        final String[] flags = { "Y", "N", "true", "FALSE", "yes", "No", "on", "OFF", "1", "0", "?" };
+
+        int trues = coerceFlags(flags, 10_000);
+        final long before = threads.getThreadAllocatedBytes(thread);
+        trues += coerceFlags(flags, 100_000);
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(trues).isEqualTo(5 * 110_000);
+        // allows for the odd object the VM allocates on its own, but not one per call
+        assertThat(allocated).as("bytes allocated by %s coercions", 100_000 * flags.length).isLessThan(10_000L);
+    }
+
+    private static int coerceFlags(final String[] flags, final int rounds) {
+        int trues = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (final String flag : flags) {
+                if (Coercions.coerceToBoolean(flag).orElse(false)) {
+                    trues++;
+                }
+            }
+        }
+        return trues;
+    }
+
     @Test
     public void emptyWhenOtherTypeValueCoerced() {
         final List<String> strings = new ArrayList<>();
@@ -15,6 +15,7 @@
 package com.justrudd.jdbcex;
 
 import static com.justrudd.jdbcex.OptionalAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -137,6 +138,21 @@ public class Coercions_DoubleTest {
         assertThat(opt).isEmpty();
     }
 
+    @Test
+    public void defaultWhenNullValueCoercedToPrimitive() {
+        assertThat(Coercions.coerceToDouble(null, -1.0d)).isEqualTo(-1.0d);
+    }
+
+    @Test
+    public void numberValueCoercedToPrimitive() {
+        assertThat(Coercions.coerceToDouble((byte) 12, -1.0d)).isEqualTo(12.0d);
+    }
+
+    @Test
+    public void defaultWhenUnparseableStringIsCoercedToPrimitive() {
+        assertThat(Coercions.coerceToDouble("blah", -1.0d)).isEqualTo(-1.0d);
+    }
+
     private final Random random = new Random();
 
 }
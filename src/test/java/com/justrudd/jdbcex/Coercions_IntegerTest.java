@@ -15,6 +15,7 @@
 package com.justrudd.jdbcex;
 
 import static com.justrudd.jdbcex.OptionalAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -137,6 +138,21 @@ public class Coercions_IntegerTest {
         assertThat(opt).isEmpty();
     }
 
+    @Test
+    public void defaultWhenNullValueCoercedToPrimitive() {
+        assertThat(Coercions.coerceToInteger(null, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void numberValueCoercedToPrimitive() {
+        assertThat(Coercions.coerceToInteger(10.9023d, -1)).isEqualTo(10);
+    }
+
+    @Test
+    public void defaultWhenUnparseableStringIsCoercedToPrimitive() {
+        assertThat(Coercions.coerceToInteger("blah", -1)).isEqualTo(-1);
+    }
+
     private final Random random = new Random();
 
 }
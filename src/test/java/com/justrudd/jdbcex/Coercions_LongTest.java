@@ -15,6 +15,7 @@
 package com.justrudd.jdbcex;
 
 import static com.justrudd.jdbcex.OptionalAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -136,6 +137,27 @@ public class Coercions_LongTest {
         assertThat(opt).isEmpty();
     }
 
+    @Test
+    public void defaultWhenNullValueCoercedToPrimitive() {
+        assertThat(Coercions.coerceToLong(null, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void numberValueCoercedToPrimitive() {
+        final Double d = 10.9023d;
+        assertThat(Coercions.coerceToLong(d, -1L)).isEqualTo(d.longValue());
+    }
+
+    @Test
+    public void radix10StringCoercedToPrimitive() {
+        assertThat(Coercions.coerceToLong("96876912", -1L)).isEqualTo(96876912L);
+    }
+
+    @Test
+    public void defaultWhenNonRadix10StringIsCoercedToPrimitive() {
+        assertThat(Coercions.coerceToLong("blah", -1L)).isEqualTo(-1L);
+    }
+
     private final Random random = new Random();
 
 }
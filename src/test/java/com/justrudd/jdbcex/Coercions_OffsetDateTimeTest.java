@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import org.junit.Test;
+
+public class Coercions_OffsetDateTimeTest {
+
+    @Test
+    public void emptyWhenNullValueCoerced() {
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(null);
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void sameObjectWhenOffsetDateTimeCoerced() {
+        final OffsetDateTime value = OffsetDateTime.now();
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndSameAs(value);
+    }
+
+    @Test
+    public void zonedDateTimeValueIsProperlyCoerced() {
+        final ZonedDateTime value = BICENTENNIAL.atZoneSameInstant(ZoneId.of("America/New_York"));
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(value.toOffsetDateTime());
+    }
+
+    @Test
+    public void instantValueIsPlacedInTheDefaultZone() {
+        final Instant value = BICENTENNIAL.toInstant();
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(value.atZone(ZoneId.systemDefault()).toOffsetDateTime());
+    }
+
+    @Test
+    public void timestampValueIsPlacedInTheDefaultZone() {
+        final Timestamp value = Timestamp.from(BICENTENNIAL.toInstant());
+        value.setNanos(123456789);
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(
+                value.toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+    }
+
+    @Test
+    public void stringValueIsProperlyCoerced() {
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime("1976-07-04T12:00:00Z");
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(BICENTENNIAL);
+    }
+
+    @Test
+    public void badStringValueReturnsEmpty() {
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime("1976-07-04T12:00:00");
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void emptyWhenUnexpectedTypeCoerced() {
+        final Optional<OffsetDateTime> opt = Coercions.coerceToOffsetDateTime(1L);
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    private static final OffsetDateTime BICENTENNIAL = OffsetDateTime.of(1976, 7, 4, 12, 0, 0, 0, ZoneOffset.UTC);
+}
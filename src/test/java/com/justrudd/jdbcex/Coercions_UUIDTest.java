@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static com.justrudd.jdbcex.OptionalAssertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.Test;
+
+public class Coercions_UUIDTest {
+    @Test
+    public void emptyWhenNullValueCoerced() {
+        final Optional<UUID> opt = Coercions.coerceToUUID(null);
+        assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void sameObjectWhenUUIDValueCoerced() {
+        final UUID uuid = UUID.randomUUID();
+        final Optional<UUID> opt = Coercions.coerceToUUID(uuid);
+        assertThat(opt).isPresentAndSameAs(uuid);
+    }
+
+    @Test
+    public void canonicalStringsProperlyCoerced() {
+        for (int i = 0; i < 1000; i++) {
+            final UUID uuid = new UUID(random(), random());
+            assertThat(Coercions.coerceToUUID(uuid.toString())).isPresentAndEqualTo(uuid);
+            assertThat(Coercions.coerceToUUID(uuid.toString().toUpperCase())).isPresentAndEqualTo(uuid);
+        }
+    }
+
+    @Test
+    public void stringsWithoutDashesProperlyCoerced() {
+        final UUID uuid = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+        final Optional<UUID> opt = Coercions.coerceToUUID("0F8FAD5BD9CB469FA16570867728950E");
+        assertThat(opt).isPresentAndEqualTo(uuid);
+    }
+
+    @Test
+    public void extremeValuesProperlyCoerced() {
+        assertThat(Coercions.coerceToUUID("00000000-0000-0000-0000-000000000000"))
+                .isPresentAndEqualTo(new UUID(0, 0));
+        assertThat(Coercions.coerceToUUID("ffffffff-ffff-ffff-ffff-ffffffffffff"))
+                .isPresentAndEqualTo(new UUID(-1, -1));
+    }
+
+    @Test
+    public void emptyWhenMalformedStringIsCoerced() {
+        final String[] malformed = {
+            "", "blah", "0f8fad5b-d9cb-469f-a165-70867728950", "0f8fad5b-d9cb-469f-a165-70867728950e0",
+            "0f8fad5bd9cb-469f-a165-70867728950e-", "0f8fad5b-d9cb-469f-a165-70867728950g",
+            "0f8fad5b-d9cb-469f-a165-7086772895 e", "0f8fad5b-d9cb-469f-a165-70867728950á",
+            "0f8fad5b-d9cb-469f-a165-70867728950ａ", "1-1-1-1-1", "{0f8fad5b-d9cb-469f-a165-70867728950e}"
+        };
+        for (final String s : malformed) {
+            assertThat(Coercions.coerceToUUID(s)).as(s).isEmpty();
+        }
+    }
+
+    @Test
+    public void sixteenBytesProperlyCoerced() {
+        final UUID uuid = UUID.randomUUID();
+        final byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        final Optional<UUID> opt = Coercions.coerceToUUID(bytes);
+        assertThat(opt).isPresentAndEqualTo(uuid);
+    }
+
+    @Test
+    public void emptyWhenWrongNumberOfBytesIsCoerced() {
+        assertThat(Coercions.coerceToUUID(new byte[15])).isEmpty();
+        assertThat(Coercions.coerceToUUID(new byte[17])).isEmpty();
+    }
+
+    @Test
+    public void emptyWhenUnknownTypeIsCoerced() {
+        final List<String> strings = new ArrayList<>();
+        final Optional<UUID> opt = Coercions.coerceToUUID(strings);
+        assertThat(opt).isEmpty();
+    }
+
+    private long random() {
+        return random.nextLong();
+    }
+
+    private final Random random = new Random();
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import org.junit.Test;
+
+public class Coercions_ZonedDateTimeTest {
+
+    @Test
+    public void emptyWhenNullValueCoerced() {
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(null);
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void sameObjectWhenZonedDateTimeCoerced() {
+        final ZonedDateTime value = ZonedDateTime.now();
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndSameAs(value);
+    }
+
+    @Test
+    public void offsetDateTimeValueIsProperlyCoerced() {
+        final OffsetDateTime value = OffsetDateTime.of(1976, 7, 4, 8, 0, 0, 0, ZoneOffset.ofHours(-4));
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(value.toZonedDateTime());
+    }
+
+    @Test
+    public void instantValueIsPlacedInTheDefaultZone() {
+        final Instant value = BICENTENNIAL.toInstant();
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(value.atZone(ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void timestampValueIsPlacedInTheDefaultZone() {
+        final Timestamp value = Timestamp.from(BICENTENNIAL.toInstant());
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(value);
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(value.toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void stringValueIsProperlyCoerced() {
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime("1976-07-04T08:00:00-04:00[America/New_York]");
+        OptionalAssertions.assertThat(opt).isPresentAndEqualTo(BICENTENNIAL.withZoneSameInstant(ZoneId.of("America/New_York")));
+    }
+
+    @Test
+    public void badStringValueReturnsEmpty() {
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime("hello world");
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    @Test
+    public void emptyWhenUnexpectedTypeCoerced() {
+        final Optional<ZonedDateTime> opt = Coercions.coerceToZonedDateTime(1L);
+        OptionalAssertions.assertThat(opt).isEmpty();
+    }
+
+    private static final ZonedDateTime BICENTENNIAL = ZonedDateTime.of(1976, 7, 4, 12, 0, 0, 0, ZoneOffset.UTC);
+}
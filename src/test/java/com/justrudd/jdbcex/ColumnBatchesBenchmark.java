@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Compares coercing a column of ROWS integers into longs one cell at a time with doing
+ * it in one fetchCoercedLongs batch. Both read every row of the same result set; run
+ * with the gc profiler to see the per cell Optionals disappear:
+ * mvn -Pbenchmarks verify -Djmh.args="ColumnBatchesBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnBatchesBenchmark {
+
+    @Setup
+    public void setUp() {
+        final Object[][] rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new Object[] { i % 10 == 0 ? null : 1_000_007 + i };
+        }
+        resultSet = new ResultSetExImpl(new InMemoryResultSet(new String[] { "quantity" }, rows));
+    }
+
+    @Benchmark
+    public long cellAtATime() throws SQLException {
+        resultSet.beforeFirst();
+        long sum = 0;
+        while (resultSet.next()) {
+            final Optional<Long> value = resultSet.getCoercedLong(QUANTITY);
+            if (value.isPresent()) {
+                sum += value.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long batch() throws SQLException {
+        resultSet.beforeFirst();
+        final int count = resultSet.fetchCoercedLongs(QUANTITY, values, nulls, ROWS);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private static final int ROWS = 1024;
+    private static final int QUANTITY = 1;
+
+    private ResultSetEx resultSet;
+    private final long[] values = new long[ROWS];
+    private final BitSet nulls = new BitSet(ROWS);
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.BitSet;
+import org.junit.After;
+import org.junit.Test;
+
+public class ColumnBatchesTest {
+
+    @After
+    public void tearDown() {
+        CoercionTelemetry.disable();
+        CoercionTelemetry.reset();
+    }
+
+    @Test
+    public void valuesCoercedAndNullsFlagged() throws SQLException {
+        final ResultSetEx resultSet = resultSet(1, null, 3L, "4", "x", new BigDecimal("6.7"));
+        final long[] out = new long[8];
+        final BitSet nulls = new BitSet();
+
+        assertThat(resultSet.fetchCoercedLongs(1, out, nulls, 8)).isEqualTo(6);
+
+        assertThat(out).containsExactly(1L, 0L, 3L, 4L, 0L, 6L, 0L, 0L);
+        assertThat(nulls.toString()).isEqualTo("{1, 4}");
+        assertThat(resultSet.next()).isFalse();
+    }
+
+    @Test
+    public void stopsAtMaxRowsOnLastRowRead() throws SQLException {
+        final ResultSetEx resultSet = resultSet(1, 2, 3);
+        final int[] out = new int[2];
+
+        assertThat(resultSet.fetchCoercedInts(1, out, null, 2)).isEqualTo(2);
+        assertThat(out).containsExactly(1, 2);
+        assertThat(resultSet.getInt(1)).isEqualTo(2);
+
+        assertThat(resultSet.fetchCoercedInts(1, out, null, 2)).isEqualTo(1);
+        assertThat(out[0]).isEqualTo(3);
+    }
+
+    @Test
+    public void staleNullBitsCleared() throws SQLException {
+        final ResultSetEx resultSet = resultSet(1.5d, 2.5f);
+        final double[] out = new double[2];
+        final BitSet nulls = new BitSet();
+        nulls.set(0, 4);
+
+        assertThat(resultSet.fetchCoercedDoubles(1, out, nulls, 2)).isEqualTo(2);
+
+        assertThat(out).containsExactly(1.5d, 2.5d);
+        assertThat(nulls.toString()).isEqualTo("{2, 3}");
+    }
+
+    @Test
+    public void columnFoundByLabel() throws SQLException {
+        final ResultSetEx resultSet = resultSet("7", true);
+        final long[] out = new long[2];
+
+        assertThat(resultSet.fetchCoercedLongs("value", out, null, 2)).isEqualTo(2);
+
+        assertThat(out).containsExactly(7L, 1L);
+    }
+
+    @Test
+    public void coercionsCountedWhileTelemetryIsOn() throws SQLException {
+        CoercionTelemetry.enable();
+        final ResultSetEx resultSet = resultSet("1", "x");
+
+        resultSet.fetchCoercedInts(1, new int[2], null, 2);
+
+        final CoercionTelemetry.Counts counts = CoercionTelemetry.snapshot().get(0);
+        assertThat(counts.getSourceType()).isEqualTo(String.class);
+        assertThat(counts.getTargetType()).isEqualTo(Integer.class);
+        assertThat(counts.getSuccesses()).isEqualTo(1L);
+        assertThat(counts.getFailures()).isEqualTo(1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxRowsLargerThanOutRejected() throws SQLException {
+        resultSet(1).fetchCoercedLongs(1, new long[1], null, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxRowsRejected() throws SQLException {
+        resultSet(1).fetchCoercedLongs(1, new long[1], null, -1);
+    }
+
+    private static ResultSetEx resultSet(final Object... values) {
+        final Object[][] rows = new Object[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            rows[i] = new Object[] { values[i] };
+        }
+        return new ResultSetExImpl(new InMemoryResultSet(new String[] { "value" }, rows));
+    }
+}
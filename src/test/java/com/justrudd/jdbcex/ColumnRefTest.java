@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnRefTest {
+
+    @Before
+    public void beforeEachTest() throws SQLException {
+        mockResultSet = mock(ResultSet.class);
+        mockMetaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(4);
+        when(mockMetaData.isSigned(anyInt())).thenReturn(true);
+        when(mockMetaData.isNullable(anyInt())).thenReturn(ResultSetMetaData.columnNullable);
+        column(1, "ID", Types.BIGINT);
+        column(2, "NAME", Types.VARCHAR);
+        column(3, "SCORE", Types.DOUBLE);
+        column(4, "QTY", Types.INTEGER);
+        resultSetEx = new ResultSetExImpl(mockResultSet);
+    }
+
+    @Test
+    public void bindsTheColumnOnce() throws SQLException {
+        final ColumnRef<Long> id = resultSetEx.column("id", Long.class);
+
+        assertThat(id.columnIndex()).isEqualTo(1);
+        assertThat(id.columnLabel()).isEqualTo("id");
+        assertThat(id.type()).isEqualTo(Long.class);
+        verify(mockResultSet, never()).findColumn("id");
+    }
+
+    @Test
+    public void primitiveTypesAreWrapped() throws SQLException {
+        assertThat(resultSetEx.column("ID", long.class).type()).isEqualTo(Long.class);
+    }
+
+    @Test(expected = SQLException.class)
+    public void unknownLabelIsInvalid() throws SQLException {
+        when(mockResultSet.findColumn("nope")).thenThrow(new SQLException("nope"));
+
+        resultSetEx.column("nope", Long.class);
+    }
+
+    @Test
+    public void readsIntegersWithTypedGetter() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(42L);
+
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+
+        assertThat(id.getLong(mockResultSet)).isEqualTo(42L);
+        assertThat(id.get(mockResultSet)).isEqualTo(42L);
+        assertThat(id.getInt(mockResultSet)).isEqualTo(42);
+        assertThat(id.getDouble(mockResultSet)).isEqualTo(42.0d);
+        verify(mockResultSet, never()).getObject(1);
+    }
+
+    @Test
+    public void readsNullWithTypedGetter() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+
+        assertThat(id.get(mockResultSet)).isNull();
+        assertThat(id.getLong(mockResultSet)).isEqualTo(0L);
+    }
+
+    @Test
+    public void notNullColumnSkipsWasNull() throws SQLException {
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+
+        final ColumnRef<Long> id = new ResultSetExImpl(mockResultSet, NotNullPolicy.TRUST_METADATA)
+                .column("ID", Long.class);
+
+        assertThat(id.get(mockResultSet)).isEqualTo(0L);
+        verify(mockResultSet, never()).wasNull();
+
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNullable);
+        assertThat(id.matches(mockResultSet)).isFalse();
+    }
+
+    @Test
+    public void notNullColumnChecksWasNullUnlessTrusted() throws SQLException {
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+
+        assertThat(id.get(mockResultSet)).isNull();
+    }
+
+    @Test
+    public void narrowsAsCoercionWould() throws SQLException {
+        when(mockResultSet.getDouble(3)).thenReturn(2.75d);
+        when(mockResultSet.getInt(4)).thenReturn(7);
+
+        assertThat(resultSetEx.column("SCORE", Integer.class).get(mockResultSet)).isEqualTo(2);
+        assertThat(resultSetEx.column("SCORE", Long.class).getLong(mockResultSet)).isEqualTo(2L);
+        assertThat(resultSetEx.column("QTY", Double.class).get(mockResultSet)).isEqualTo(7.0d);
+    }
+
+    @Test
+    public void realColumnReadAsFloat() throws SQLException {
+        column(3, "SCORE", Types.REAL);
+        when(mockResultSet.getFloat(3)).thenReturn(0.1f);
+
+        assertThat(resultSetEx.column("SCORE", Double.class).get(mockResultSet)).isEqualTo((double) 0.1f);
+        assertThat(resultSetEx.column("SCORE", Double.class).getDouble(mockResultSet)).isEqualTo((double) 0.1f);
+        verify(mockResultSet, never()).getDouble(3);
+    }
+
+    @Test
+    public void otherTypesGoThroughTheRegistry() throws SQLException {
+        when(mockResultSet.getObject(1)).thenReturn(42L);
+        when(mockResultSet.getObject(2)).thenReturn("12.50");
+        final CoercionRegistry registry = CoercionRegistry.create()
+                .register(Long.class, String.class, l -> "#" + l);
+
+        assertThat(resultSetEx.column("ID", String.class, registry).get(mockResultSet)).isEqualTo("#42");
+        assertThat(resultSetEx.column("ID", BigDecimal.class).get(mockResultSet)).isEqualTo(new BigDecimal(42));
+        assertThat(resultSetEx.column("NAME", BigDecimal.class).get(mockResultSet))
+                .isEqualTo(new BigDecimal("12.50"));
+        assertThat(resultSetEx.column("NAME", Long.class).getLong(mockResultSet)).isEqualTo(0L);
+        assertThat(resultSetEx.column("NAME", Double.class).getDouble(mockResultSet)).isEqualTo(12.5d);
+    }
+
+    @Test
+    public void registeredConverterTakesPrecedenceOverTypedGetter() throws SQLException {
+        when(mockResultSet.getObject(1)).thenReturn(1L << 32);
+        when(mockResultSet.getLong(1)).thenReturn(1L << 32);
+        final CoercionRegistry registry = CoercionRegistry.create()
+                .register(Long.class, Integer.class, l -> l < Integer.MIN_VALUE || l > Integer.MAX_VALUE
+                        ? null
+                        : l.intValue());
+
+        assertThat(resultSetEx.column("ID", Integer.class, registry).get(mockResultSet)).isNull();
+        assertThat(resultSetEx.column("ID", Integer.class).get(mockResultSet)).isEqualTo(0);
+        assertThat(resultSetEx.column("ID", Long.class, registry).get(mockResultSet)).isEqualTo(1L << 32);
+        verify(mockResultSet).getObject(1);
+    }
+
+    @Test
+    public void isReusableAcrossResultSetsOfTheSameShape() throws SQLException {
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+        final ResultSet other = new InMemoryResultSet(new String[] { "ID" }, new Object[] { 7L });
+        other.next();
+
+        assertThat(id.matches(mockResultSet)).isTrue();
+        assertThat(id.getLong(other)).isEqualTo(7L);
+    }
+
+    @Test
+    public void doesNotMatchResultSetsOfAnotherShape() throws SQLException {
+        final ColumnRef<Long> id = resultSetEx.column("ID", Long.class);
+
+        column(1, "ID", Types.VARCHAR);
+        assertThat(id.matches(mockResultSet)).isFalse();
+
+        column(1, "OTHER", Types.BIGINT);
+        assertThat(id.matches(mockResultSet)).isFalse();
+
+        assertThat(id.matches(new InMemoryResultSet(new String[] { "ID" }))).isFalse();
+    }
+
+    private void column(final int columnIndex, final String label, final int sqlType) throws SQLException {
+        when(mockMetaData.getColumnLabel(columnIndex)).thenReturn(label);
+        when(mockMetaData.getColumnType(columnIndex)).thenReturn(sqlType);
+    }
+
+    private ResultSet mockResultSet;
+    private ResultSetMetaData mockMetaData;
+    private ResultSetEx resultSetEx;
+}
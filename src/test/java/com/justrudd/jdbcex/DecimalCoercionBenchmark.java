@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Compares Coercions.coerceToBigDecimal, which builds short decimal strings from an unscaled
+ * long and shares the small values, with the BigDecimal string constructor.
+ * Run with: mvn -Pbenchmarks verify -Djmh.args="DecimalCoercionBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalCoercionBenchmark {
+
+    @Benchmark
+    public Object decimalFromString() {
+        return new BigDecimal(nextDecimal());
+    }
+
+    @Benchmark
+    public Object decimalSwitch() {
+        return Coercions.coerceToBigDecimal(nextDecimal());
+    }
+
+    private String nextDecimal() {
+        final String s = DECIMAL_STRINGS[decimalIndex];
+        decimalIndex = (decimalIndex + 1) % DECIMAL_STRINGS.length;
+        return s;
+    }
+
+    private static final String[] DECIMAL_STRINGS = {
+        "0.00", "19.99", "100.00", "-42.5", "1234567.8901", "3", "0.0001", "987654321.12"
+    };
+
+    private int decimalIndex;
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class EnumLookupTest {
+
+    enum Status {
+        ACTIVE("A", 10), INACTIVE("I", 20), DELETED("D", 30);
+
+        Status(final String letter, final int number) {
+            this.letter = letter;
+            this.number = number;
+        }
+
+        final String letter;
+        final int number;
+    }
+
+    enum Clash {
+        open, OPEN
+    }
+
+    @Test
+    public void matchesEveryNameExactly() {
+        final EnumLookup<TimeUnit> lookup = EnumLookup.of(TimeUnit.class);
+        for (final TimeUnit unit : TimeUnit.values()) {
+            assertThat(lookup.get(unit.name())).isSameAs(unit);
+        }
+        assertThat(lookup.get("seconds")).isNull();
+        assertThat(lookup.get("")).isNull();
+        assertThat(lookup.get("NOPE")).isNull();
+    }
+
+    @Test
+    public void sharedLookupPerEnum() {
+        assertThat(EnumLookup.of(Status.class)).isSameAs(EnumLookup.of(Status.class));
+    }
+
+    @Test
+    public void matchesOrdinalsOfAnyIntegralType() {
+        final EnumLookup<Status> lookup = EnumLookup.of(Status.class);
+        assertThat(lookup.get(0)).isSameAs(Status.ACTIVE);
+        assertThat(lookup.get(1L)).isSameAs(Status.INACTIVE);
+        assertThat(lookup.get((short) 2)).isSameAs(Status.DELETED);
+        assertThat(lookup.get(BigInteger.ONE)).isSameAs(Status.INACTIVE);
+        assertThat(lookup.get(new BigDecimal("2.00"))).isSameAs(Status.DELETED);
+        assertThat(lookup.get(1.0d)).isSameAs(Status.INACTIVE);
+        assertThat(lookup.get(3)).isNull();
+        assertThat(lookup.get(-1)).isNull();
+        assertThat(lookup.get(1.5d)).isNull();
+        assertThat(lookup.get(new BigDecimal("1.5"))).isNull();
+        assertThat(lookup.get(Long.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    public void constantsAreReturnedAsIs() {
+        assertThat(EnumLookup.of(Status.class).get(Status.DELETED)).isSameAs(Status.DELETED);
+        assertThat(EnumLookup.of(Status.class).get(TimeUnit.DAYS)).isNull();
+    }
+
+    @Test
+    public void nothingMatchesNullOrOtherTypes() {
+        assertThat(EnumLookup.of(Status.class).get(null)).isNull();
+        assertThat(EnumLookup.of(Status.class).get(new Object())).isNull();
+        assertThat(EnumLookup.of(Status.class).find(null).isPresent()).isFalse();
+    }
+
+    @Test
+    public void matchesNamesIgnoringCase() {
+        final EnumLookup<TimeUnit> lookup = EnumLookup.ofIgnoreCase(TimeUnit.class);
+        for (final TimeUnit unit : TimeUnit.values()) {
+            assertThat(lookup.get(unit.name().toLowerCase())).isSameAs(unit);
+            assertThat(lookup.get(unit.name())).isSameAs(unit);
+        }
+        assertThat(lookup.get("mInUtEs")).isSameAs(TimeUnit.MINUTES);
+        assertThat(lookup.get("minute")).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void namesWhichOnlyDifferInCaseCannotBeIgnored() {
+        EnumLookup.ofIgnoreCase(Clash.class);
+    }
+
+    @Test
+    public void matchesStringCodes() {
+        final EnumLookup<Status> lookup = EnumLookup.byCode(Status.class, s -> s.letter);
+        assertThat(lookup.get("A")).isSameAs(Status.ACTIVE);
+        assertThat(lookup.get('I')).isSameAs(Status.INACTIVE);
+        assertThat(lookup.get("D")).isSameAs(Status.DELETED);
+        assertThat(lookup.get("ACTIVE")).isNull();
+        assertThat(lookup.get(0)).isNull();
+    }
+
+    @Test
+    public void matchesNumericCodes() {
+        final EnumLookup<Status> lookup = EnumLookup.byCode(Status.class, s -> s.number);
+        assertThat(lookup.get(10)).isSameAs(Status.ACTIVE);
+        assertThat(lookup.get(20L)).isSameAs(Status.INACTIVE);
+        assertThat(lookup.get(new BigDecimal("30"))).isSameAs(Status.DELETED);
+        assertThat(lookup.get("30")).isSameAs(Status.DELETED);
+        assertThat(lookup.get(0)).isNull();
+        assertThat(lookup.get("x")).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void codesMustBeUnique() {
+        EnumLookup.byCode(Status.class, s -> "same");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void codesMustBeStringsOrIntegers() {
+        EnumLookup.byCode(Status.class, s -> 1.5d);
+    }
+
+    @Test
+    public void registryCoercesIntoEnums() {
+        final CoercionRegistry registry = CoercionRegistry.create();
+        assertThat(registry.coerce("DELETED", Status.class).get()).isSameAs(Status.DELETED);
+        assertThat(registry.coerce(0, Status.class).get()).isSameAs(Status.ACTIVE);
+        assertThat(registry.coerce("nope", Status.class).isPresent()).isFalse();
+    }
+}
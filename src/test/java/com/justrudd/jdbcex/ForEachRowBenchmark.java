@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Compares summing a column of ROWS longs with the while (next()) loop over getOptionalLong
+ * against forEachRow. forEachRow closes its result set, so every invocation of both wraps
+ * the rows afresh; that cost is the same for both and does not grow with ROWS. Run with the
+ * gc profiler to see the per row Optionals disappear:
+ * mvn -Pbenchmarks verify -Djmh.args="ForEachRowBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForEachRowBenchmark {
+
+    @Setup
+    public void setUp() {
+        rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new Object[] { i % 10 == 0 ? null : 1_000_000_007L + i };
+        }
+    }
+
+    @Benchmark
+    public long whileNext() throws SQLException {
+        long sum = 0;
+        try (ResultSetEx resultSet = resultSet()) {
+            while (resultSet.next()) {
+                final Optional<Long> value = resultSet.getOptionalLong(ID);
+                if (value.isPresent()) {
+                    sum += value.get();
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachRow() throws SQLException {
+        sum = 0;
+        resultSet().forEachRow(row -> {
+            if (!row.isNull(ID)) {
+                sum += row.getLong(ID);
+            }
+            return true;
+        });
+        return sum;
+    }
+
+    private ResultSetEx resultSet() {
+        return new ResultSetExImpl(new InMemoryResultSet(LABELS, rows));
+    }
+
+    private static final int ROWS = 1024;
+    private static final int ID = 1;
+    private static final String[] LABELS = { "id" };
+
+    private Object[][] rows;
+    private long sum;
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * One benchmark per family of ResultSetEx getters, each read through the interface as
+ * applications do: optional objects, optional primitives and their *Or forms, the Calendar
+ * conversions, the java.time getters, the coercions, and reads by label. Compare a run
+ * against one of an earlier build to see what a change to ResultSetExImpl costs or saves:
+ * mvn -Pbenchmarks verify -Djmh.args="GetterFamiliesBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GetterFamiliesBenchmark {
+
+    @Setup
+    public void setUp() throws SQLException {
+        resultSet = new ResultSetExImpl(new InMemoryResultSet(
+                new String[] { "id", "name", "price", "created", "day", "at", "flag", "ratio", "bytes", "uuid",
+                               "state", "letter", "offset" },
+                new Object[] { 1_000_000_007L, "widget", new BigDecimal("12.50"),
+                               Timestamp.valueOf("2016-07-04 12:30:00"), Date.valueOf("2016-07-04"),
+                               Time.valueOf("12:30:00"), Boolean.TRUE, 0.25d, new byte[] { 1, 2, 3 },
+                               "123e4567-e89b-12d3-a456-426614174000", "RUNNABLE", "x",
+                               "2016-07-04T12:30:00+02:00" }));
+        resultSet.next();
+    }
+
+    @Benchmark
+    public Object optionalString() throws SQLException {
+        return resultSet.getOptionalString(NAME);
+    }
+
+    @Benchmark
+    public Object optionalNString() throws SQLException {
+        return resultSet.getOptionalNString(NAME);
+    }
+
+    @Benchmark
+    public Object optionalBigDecimal() throws SQLException {
+        return resultSet.getOptionalBigDecimal(PRICE);
+    }
+
+    @Benchmark
+    public Object optionalObject() throws SQLException {
+        return resultSet.getOptionalObject(NAME);
+    }
+
+    @Benchmark
+    public Object optionalBytes() throws SQLException {
+        return resultSet.getOptionalBytes(BYTES);
+    }
+
+    @Benchmark
+    public Object optionalTimestamp() throws SQLException {
+        return resultSet.getOptionalTimestamp(CREATED);
+    }
+
+    @Benchmark
+    public Object optionalDate() throws SQLException {
+        return resultSet.getOptionalDate(DAY);
+    }
+
+    @Benchmark
+    public Object optionalLong() throws SQLException {
+        return resultSet.getOptionalLong(ID);
+    }
+
+    @Benchmark
+    public Object optionalLongPrimitive() throws SQLException {
+        return resultSet.getOptionalLongPrimitive(ID);
+    }
+
+    @Benchmark
+    public long longOr() throws SQLException {
+        return resultSet.getLongOr(ID, -1L);
+    }
+
+    @Benchmark
+    public Object optionalBoolean() throws SQLException {
+        return resultSet.getOptionalBoolean(FLAG);
+    }
+
+    @Benchmark
+    public Object optionalDouble() throws SQLException {
+        return resultSet.getOptionalDouble(RATIO);
+    }
+
+    @Benchmark
+    public Object optionalInstantWithCalendar() throws SQLException {
+        return resultSet.getOptionalInstant(CREATED, calendar);
+    }
+
+    @Benchmark
+    public Object optionalLocalDateWithCalendar() throws SQLException {
+        return resultSet.getOptionalLocalDate(DAY, calendar);
+    }
+
+    @Benchmark
+    public Object optionalLocalTimeWithCalendar() throws SQLException {
+        return resultSet.getOptionalLocalTime(AT, calendar);
+    }
+
+    @Benchmark
+    public Object optionalLocalDateTimeWithCalendar() throws SQLException {
+        return resultSet.getOptionalLocalDateTime(CREATED, calendar);
+    }
+
+    @Benchmark
+    public Object optionalInstant() throws SQLException {
+        return resultSet.getOptionalInstant(CREATED);
+    }
+
+    @Benchmark
+    public Object optionalLocalDateTime() throws SQLException {
+        return resultSet.getOptionalLocalDateTime(CREATED);
+    }
+
+    @Benchmark
+    public Object optionalZonedDateTime() throws SQLException {
+        return resultSet.getOptionalZonedDateTime(CREATED, UTC);
+    }
+
+    @Benchmark
+    public Object coercedLong() throws SQLException {
+        return resultSet.getCoercedLong(ID);
+    }
+
+    @Benchmark
+    public long coercedLongOr() throws SQLException {
+        return resultSet.getCoercedLongOr(ID, -1L);
+    }
+
+    @Benchmark
+    public Object coercedToClass() throws SQLException {
+        return resultSet.getCoerced(PRICE, Double.class);
+    }
+
+    @Benchmark
+    public Object coercedEnum() throws SQLException {
+        return resultSet.getCoercedEnum(STATE, Thread.State.class);
+    }
+
+    @Benchmark
+    public Object coercedUUID() throws SQLException {
+        return resultSet.getCoercedUUID(UUID);
+    }
+
+    @Benchmark
+    public Object coercedCharacter() throws SQLException {
+        return resultSet.getCoercedCharacter(LETTER);
+    }
+
+    @Benchmark
+    public Object coercedOffsetDateTime() throws SQLException {
+        return resultSet.getCoercedOffsetDateTime(OFFSET);
+    }
+
+    @Benchmark
+    public Object optionalStringByLabel() throws SQLException {
+        return resultSet.getOptionalString("name");
+    }
+
+    @Benchmark
+    public Object coercedLongByLabel() throws SQLException {
+        return resultSet.getCoercedLong("id");
+    }
+
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int PRICE = 3;
+    private static final int CREATED = 4;
+    private static final int DAY = 5;
+    private static final int AT = 6;
+    private static final int FLAG = 7;
+    private static final int RATIO = 8;
+    private static final int BYTES = 9;
+    private static final int UUID = 10;
+    private static final int STATE = 11;
+    private static final int LETTER = 12;
+    private static final int OFFSET = 13;
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    private ResultSetEx resultSet;
+    private final Calendar calendar = Calendar.getInstance();
+}
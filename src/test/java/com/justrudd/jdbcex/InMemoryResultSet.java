@@ -0,0 +1,1062 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/*
+ * A forward only result set over rows held in memory, for benchmarks and tests. Reading a cell
+ * never allocates: objects are returned as stored and primitives are unboxed from them,
+ * so any allocation a benchmark reports comes from the code under test. Calendars are
+ * ignored: stored dates and times are returned as they are.
+ */
+final class InMemoryResultSet implements ResultSet {
+
+    InMemoryResultSet(final String[] labels, final Object[]... rows) {
+        this.labels = labels;
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkOpen();
+        if (row < rows.length) {
+            row++;
+        }
+        return row < rows.length;
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        checkOpen();
+        row = -1;
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        checkOpen();
+        return row < rows.length ? row + 1 : 0;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        checkOpen();
+        return wasNull;
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        checkOpen();
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(columnLabel)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("no such column: " + columnLabel);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        checkOpen();
+        if (row < 0 || row >= rows.length) {
+            throw new SQLException("not on a row");
+        }
+        if (columnIndex < 1 || columnIndex > labels.length) {
+            throw new SQLException("no such column: " + columnIndex);
+        }
+        final Object value = rows[row][columnIndex - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final Object value = getObject(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        final Object value = getObject(columnIndex);
+        return value instanceof Boolean ? (Boolean) value : number(value).intValue() != 0;
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).byteValue();
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).shortValue();
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).intValue();
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).longValue();
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).floatValue();
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return number(getObject(columnIndex)).doubleValue();
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        final Object value = getObject(columnIndex);
+        return value == null || value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        return (Timestamp) getObject(columnIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBigDecimal");
+    }
+
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        return (byte[]) getObject(columnIndex);
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        return (Date) getObject(columnIndex);
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        return (Time) getObject(columnIndex);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getAsciiStream");
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getUnicodeStream");
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBinaryStream");
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBigDecimal");
+    }
+
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getAsciiStream");
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getUnicodeStream");
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBinaryStream");
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getWarnings");
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw new SQLFeatureNotSupportedException("clearWarnings");
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCursorName");
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getMetaData");
+    }
+
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isBeforeFirst");
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isAfterLast");
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isFirst");
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw new SQLFeatureNotSupportedException("isLast");
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        throw new SQLFeatureNotSupportedException("afterLast");
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        throw new SQLFeatureNotSupportedException("first");
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        throw new SQLFeatureNotSupportedException("last");
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        throw new SQLFeatureNotSupportedException("absolute");
+    }
+
+    @Override
+    public boolean relative(final int rows) throws SQLException {
+        throw new SQLFeatureNotSupportedException("relative");
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        throw new SQLFeatureNotSupportedException("previous");
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFetchDirection");
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFetchDirection");
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        throw new SQLFeatureNotSupportedException("setFetchSize");
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getFetchSize");
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getType");
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getConcurrency");
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        throw new SQLFeatureNotSupportedException("rowUpdated");
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        throw new SQLFeatureNotSupportedException("rowInserted");
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        throw new SQLFeatureNotSupportedException("rowDeleted");
+    }
+
+    @Override
+    public void updateNull(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNull");
+    }
+
+    @Override
+    public void updateBoolean(final int columnIndex, final boolean x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBoolean");
+    }
+
+    @Override
+    public void updateByte(final int columnIndex, final byte x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateByte");
+    }
+
+    @Override
+    public void updateShort(final int columnIndex, final short x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateShort");
+    }
+
+    @Override
+    public void updateInt(final int columnIndex, final int x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateInt");
+    }
+
+    @Override
+    public void updateLong(final int columnIndex, final long x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateLong");
+    }
+
+    @Override
+    public void updateFloat(final int columnIndex, final float x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateFloat");
+    }
+
+    @Override
+    public void updateDouble(final int columnIndex, final double x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateDouble");
+    }
+
+    @Override
+    public void updateBigDecimal(final int columnIndex, final BigDecimal x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBigDecimal");
+    }
+
+    @Override
+    public void updateString(final int columnIndex, final String x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateString");
+    }
+
+    @Override
+    public void updateBytes(final int columnIndex, final byte[] x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBytes");
+    }
+
+    @Override
+    public void updateDate(final int columnIndex, final Date x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateDate");
+    }
+
+    @Override
+    public void updateTime(final int columnIndex, final Time x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateTime");
+    }
+
+    @Override
+    public void updateTimestamp(final int columnIndex, final Timestamp x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateTimestamp");
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateObject");
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateObject");
+    }
+
+    @Override
+    public void updateNull(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNull");
+    }
+
+    @Override
+    public void updateBoolean(final String columnLabel, final boolean x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBoolean");
+    }
+
+    @Override
+    public void updateByte(final String columnLabel, final byte x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateByte");
+    }
+
+    @Override
+    public void updateShort(final String columnLabel, final short x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateShort");
+    }
+
+    @Override
+    public void updateInt(final String columnLabel, final int x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateInt");
+    }
+
+    @Override
+    public void updateLong(final String columnLabel, final long x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateLong");
+    }
+
+    @Override
+    public void updateFloat(final String columnLabel, final float x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateFloat");
+    }
+
+    @Override
+    public void updateDouble(final String columnLabel, final double x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateDouble");
+    }
+
+    @Override
+    public void updateBigDecimal(final String columnLabel, final BigDecimal x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBigDecimal");
+    }
+
+    @Override
+    public void updateString(final String columnLabel, final String x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateString");
+    }
+
+    @Override
+    public void updateBytes(final String columnLabel, final byte[] x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBytes");
+    }
+
+    @Override
+    public void updateDate(final String columnLabel, final Date x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateDate");
+    }
+
+    @Override
+    public void updateTime(final String columnLabel, final Time x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateTime");
+    }
+
+    @Override
+    public void updateTimestamp(final String columnLabel, final Timestamp x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateTimestamp");
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final int length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateObject");
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateObject");
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("insertRow");
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateRow");
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("deleteRow");
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("refreshRow");
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw new SQLFeatureNotSupportedException("cancelRowUpdates");
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("moveToInsertRow");
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw new SQLFeatureNotSupportedException("moveToCurrentRow");
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getStatement");
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public Ref getRef(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRef");
+    }
+
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBlob");
+    }
+
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getClob");
+    }
+
+    @Override
+    public Array getArray(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getArray");
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public Ref getRef(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRef");
+    }
+
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getBlob");
+    }
+
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getClob");
+    }
+
+    @Override
+    public Array getArray(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getArray");
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        return getDate(columnIndex);
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+        return getTime(columnIndex);
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+        return getTimestamp(columnIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getURL");
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getURL");
+    }
+
+    @Override
+    public void updateRef(final int columnIndex, final Ref x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateRef");
+    }
+
+    @Override
+    public void updateRef(final String columnLabel, final Ref x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateRef");
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final Blob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final Blob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Clob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Clob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateArray(final int columnIndex, final Array x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateArray");
+    }
+
+    @Override
+    public void updateArray(final String columnLabel, final Array x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateArray");
+    }
+
+    @Override
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRowId");
+    }
+
+    @Override
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getRowId");
+    }
+
+    @Override
+    public void updateRowId(final int columnIndex, final RowId x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateRowId");
+    }
+
+    @Override
+    public void updateRowId(final String columnLabel, final RowId x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateRowId");
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        throw new SQLFeatureNotSupportedException("getHoldability");
+    }
+
+    @Override
+    public void updateNString(final int columnIndex, final String x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNString");
+    }
+
+    @Override
+    public void updateNString(final String columnLabel, final String x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNString");
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final NClob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final NClob x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public NClob getNClob(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNClob");
+    }
+
+    @Override
+    public NClob getNClob(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNClob");
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSQLXML");
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getSQLXML");
+    }
+
+    @Override
+    public void updateSQLXML(final int columnIndex, final SQLXML x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateSQLXML");
+    }
+
+    @Override
+    public void updateSQLXML(final String columnLabel, final SQLXML x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateSQLXML");
+    }
+
+    @Override
+    public String getNString(final int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    public String getNString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNCharacterStream");
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getNCharacterStream");
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNCharacterStream");
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNCharacterStream");
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader x, final long length) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNCharacterStream");
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNCharacterStream");
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateAsciiStream");
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBinaryStream");
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateCharacterStream");
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateBlob");
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateClob");
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader x) throws SQLException {
+        throw new SQLFeatureNotSupportedException("updateNClob");
+    }
+
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getObject");
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("result set is closed");
+        }
+    }
+
+    /** SQL <code>NULL</code> reads as zero, as it does through any driver. */
+    private static Number number(final Object value) throws SQLException {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        throw new SQLException("not a number: " + value);
+    }
+
+    private final String[] labels;
+    private final Object[][] rows;
+    private int row = -1;
+    private boolean wasNull;
+    private boolean closed;
+}
@@ -16,8 +16,17 @@ package com.justrudd.jdbcex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -26,6 +35,7 @@ public class JdbcExTest {
     @Before
     public void beforeEachTest() {
         rs = mock(ResultSet.class);
+        JavaTimeSupport.reset(rs.getClass());
     }
 
     @Test
@@ -42,5 +52,43 @@ public class JdbcExTest {
         assertThat(reWrapped).isSameAs(wrapped);
     }
 
+    @Test
+    public void resultSetWrapTakesNotNullPolicyPerResultSet() throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(metaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.getLong(1)).thenReturn(0L);
+        when(rs.wasNull()).thenReturn(true);
+
+        assertThat(JdbcEx.wrap(rs, NotNullPolicy.TRUST_METADATA).getLongOr(1, -1L)).isEqualTo(0L);
+        verify(rs, never()).wasNull();
+        assertThat(JdbcEx.wrap(rs).getLongOr(1, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    public void resultSetWrapProbesJavaTimeSupport() throws SQLException {
+        final Statement statement = mock(Statement.class);
+        final Connection connection = mock(Connection.class);
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(rs.getStatement()).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getJDBCMajorVersion()).thenReturn(4);
+        when(metaData.getJDBCMinorVersion()).thenReturn(2);
+
+        assertThat(JavaTimeSupport.nativeTypes(rs.getClass())).isEqualTo(JavaTimeSupport.OFFSET_DATE_TIME);
+        JdbcEx.wrap(rs);
+        assertThat(JavaTimeSupport.nativeTypes(rs.getClass()) & JavaTimeSupport.LOCAL_DATE_TIME).isNotZero();
+    }
+
+    @Test
+    public void resultSetWithoutStatementLeavesJavaTimeSupportOpen() {
+        JdbcEx.wrap(rs);
+        assertThat(JavaTimeSupport.nativeTypes(rs.getClass())).isEqualTo(JavaTimeSupport.OFFSET_DATE_TIME);
+    }
+
     private ResultSet rs;
 }
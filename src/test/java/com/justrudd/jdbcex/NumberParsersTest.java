@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.Test;
+
+/*
+ * Every parser must agree with the JDK method it replaces: same value where the JDK
+ * succeeds, null where the JDK throws.
+ */
+public class NumberParsersTest {
+
+    @Test
+    public void byteMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseByte, Byte::parseByte);
+    }
+
+    @Test
+    public void shortMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseShort, Short::parseShort);
+    }
+
+    @Test
+    public void intMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseInt, Integer::parseInt);
+    }
+
+    @Test
+    public void longMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseLong, Long::parseLong);
+    }
+
+    @Test
+    public void doubleMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseDouble, Double::parseDouble);
+    }
+
+    @Test
+    public void floatMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseFloat, Float::parseFloat);
+    }
+
+    @Test
+    public void bigIntegerMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseBigInteger, BigInteger::new);
+    }
+
+    @Test
+    public void bigDecimalMatchesJdk() {
+        assertMatchesJdk(NumberParsers::parseBigDecimal, BigDecimal::new);
+    }
+
+    private static <T> void assertMatchesJdk(final Function<String, T> parser, final Function<String, T> jdk) {
+        for (final String s : inputs()) {
+            T expected;
+            try {
+                expected = jdk.apply(s);
+            }
+            catch (NumberFormatException ex) {
+                expected = null;
+            }
+            assertThat(parser.apply(s)).as("parsing \"%s\"", s).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> inputs() {
+        final List<String> inputs = new ArrayList<>(Arrays.asList(
+                "", " ", "-", "+", "--1", "+-1", "1-", "0", "-0", "+0", "00", "007",
+                "1", "-1", "+1", "12", "127", "128", "-128", "-129", "255", "256",
+                "32767", "32768", "-32768", "-32769",
+                "2147483647", "2147483648", "-2147483648", "-2147483649", "4294967296",
+                "9223372036854775807", "9223372036854775808",
+                "-9223372036854775808", "-9223372036854775809", "99999999999999999999999",
+                " 1", "1 ", "1_000", "1,000", "abc", "1a", "0x10", "0X1F", "#10",
+                "١٢", "１２", "-٣",
+                ".", "-.", ".5", "-.5", "5.", "5.5", "1.2.3", "1e", "1e+", "1e-", "1e5", "1E5",
+                "1e+5", "1e-5", "e5", ".e5", "1.5e10", "-1.5E-10", "1e400", "1e-400",
+                "1.0f", "1.0F", "1.0d", "1.0D", "1.0ff", "1f", "1e5d", "1.5x",
+                " 1.5 ", "\t1.5\n", "NaN", "-NaN", "+NaN", "nan", "NaNx", "Infinity", "-Infinity",
+                "+Infinity", "infinity", "Infinityx", "Inf",
+                "0x1p3", "0x1.8p1", "-0X.8P-1", "0x1.p0", "0x.p0", "0x1", "0x1p", "0x1p+", "0x1pf",
+                "0x1p1f", "0xgp1", "0x1p١",
+                "1e١", "1١.5", "1e2147483647", "1e-2147483648", "1e2147483648",
+                "1e9999999999", "1e0000000000005", "1e00000000000", "0.1e-2147483647",
+                "1.5e-2147483647", "123456789012345678901234567890.123456789",
+                "0.00", "-0.00", "+0.0", "000.000", "100.00", "100.000", "-100.00", "101.00", "0.0001",
+                "123456789012345678", "-123456789012345678", "1234567890123456789", "12345678901234567.8",
+                "1234567890123456.78", "0.123456789012345678", "0.1234567890123456789", "-.000000000000000001",
+                "..5", "5..", "-5.", "+.0", "1.-5", "1.+5"));
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            inputs.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+            inputs.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            inputs.add(Float.toString(random.nextFloat()));
+            inputs.add(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(12)).toPlainString());
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Compares the boxing Optional getters with their primitive counterparts. The values
+ * are outside the Integer/Long caches, so every box is a real allocation; run with the
+ * gc profiler to see gc.alloc.rate.norm fall to zero for the *Or getters and tryCoerceLong:
+ * mvn -Pbenchmarks verify -Djmh.args="PrimitiveGettersBenchmark -prof gc"
+ * The *ByLabel and columnRef* pairs show what resolving a label once saves on every row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveGettersBenchmark {
+
+    @Setup
+    public void setUp() throws SQLException {
+        resultSet = new ResultSetExImpl(new InMemoryResultSet(
+                new String[] { "id", "quantity" },
+                new Object[] { 1_000_000_007L, 1_000_007 }));
+        resultSet.next();
+        quantityRef = resultSet.column("quantity", Long.class);
+    }
+
+    @Benchmark
+    public Object optionalInt() throws SQLException {
+        return resultSet.getOptionalInt(QUANTITY);
+    }
+
+    @Benchmark
+    public Object optionalIntPrimitive() throws SQLException {
+        return resultSet.getOptionalIntPrimitive(QUANTITY);
+    }
+
+    @Benchmark
+    public int intOr() throws SQLException {
+        return resultSet.getIntOr(QUANTITY, -1);
+    }
+
+    @Benchmark
+    public Object optionalLong() throws SQLException {
+        return resultSet.getOptionalLong(ID);
+    }
+
+    @Benchmark
+    public Object optionalLongPrimitive() throws SQLException {
+        return resultSet.getOptionalLongPrimitive(ID);
+    }
+
+    @Benchmark
+    public long longOr() throws SQLException {
+        return resultSet.getLongOr(ID, -1L);
+    }
+
+    @Benchmark
+    public Object coercedLong() throws SQLException {
+        return resultSet.getCoercedLong(QUANTITY);
+    }
+
+    @Benchmark
+    public long coercedLongOr() throws SQLException {
+        return resultSet.getCoercedLongOr(QUANTITY, -1L);
+    }
+
+    @Benchmark
+    public Object tryCoerceLong() throws SQLException {
+        return resultSet.tryCoerceLong(ID, longResult);
+    }
+
+    @Benchmark
+    public long coercedLongOrByLabel() throws SQLException {
+        return resultSet.getCoercedLongOr("quantity", -1L);
+    }
+
+    @Benchmark
+    public long columnRefLong() throws SQLException {
+        return quantityRef.getLong(resultSet);
+    }
+
+    @Benchmark
+    public Object coercedByLabel() throws SQLException {
+        return resultSet.getCoerced("quantity", Long.class);
+    }
+
+    @Benchmark
+    public Object columnRefGet() throws SQLException {
+        return quantityRef.get(resultSet);
+    }
+
+    private static final int ID = 1;
+    private static final int QUANTITY = 2;
+
+    private ResultSetEx resultSet;
+    private ColumnRef<Long> quantityRef;
+    private final CoercionResult<Long> longResult = new CoercionResult<>();
+}
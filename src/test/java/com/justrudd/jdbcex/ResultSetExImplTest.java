@@ -21,37 +21,57 @@ import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.CharBuffer;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Date;
 import java.sql.NClob;
 import java.sql.Ref;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.RowId;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
@@ -65,12 +85,43 @@ public class ResultSetExImplTest {
     @Before
     public void beforeEachTest() {
         mockResultSet = mock(ResultSet.class);
-        resultSetEx = new ResultSetExImpl(mockResultSet);
+        JavaTimeSupport.reset(mockResultSet.getClass());
+        resultSetEx = new ResultSetExImpl(mockResultSet, ResultSetShape.UNKNOWN);
 
         anyColumnIndex = RANDOM.nextInt(10) + 1;
         anyColumnName = Long.toHexString(RANDOM.nextLong());
     }
 
+    @Test
+    public void emptyCoercedReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn(null);
+
+        OptionalAssertions.assertThat(resultSetEx.getCoerced(anyColumnIndex, Long.class)).isEmpty();
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void presentCoercedReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("1976");
+
+        OptionalAssertions.assertThat(resultSetEx.getCoerced(anyColumnName, Long.class)).isPresentAndEqualTo(1976L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void presentCoercedReturnedByIndexWithRegistry() throws SQLException {
+        final CoercionRegistry registry = CoercionRegistry.create()
+                .register(String.class, Duration.class, Duration::parse);
+        when(mockResultSet.getObject(anyInt())).thenReturn("PT1M");
+
+        OptionalAssertions.assertThat(resultSetEx.getCoerced(anyColumnIndex, Duration.class, registry))
+                .isPresentAndEqualTo(Duration.ofMinutes(1));
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
     @Test
     public void emptyCoercedBigDecimalReturnedByIndex() throws SQLException {
         when(mockResultSet.getObject(anyInt())).thenReturn(null);
@@ -297,6 +348,25 @@ public class ResultSetExImplTest {
         verify(mockResultSet, only()).getObject(eq(anyColumnName));
     }
 
+    @Test
+    public void emptyCoercedEnumReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn("FORTNIGHTS");
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedEnum(anyColumnIndex, TimeUnit.class)).isEmpty();
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void presentCoercedEnumReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("days");
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedEnum(anyColumnName, EnumLookup.ofIgnoreCase(TimeUnit.class)))
+                .isPresentAndSameAs(TimeUnit.DAYS);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
     @Test
     public void emptyCoercedFloatReturnedByIndex() throws SQLException {
         when(mockResultSet.getObject(anyInt())).thenReturn(null);
@@ -563,6 +633,153 @@ public class ResultSetExImplTest {
         verify(mockResultSet, only()).getObject(eq(anyColumnName));
     }
 
+    @Test
+    public void defaultCoercedLongOrReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn(null);
+
+        assertThat(resultSetEx.getCoercedLongOr(anyColumnIndex, -1L)).isEqualTo(-1L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void presentCoercedLongOrReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn(1976);
+
+        assertThat(resultSetEx.getCoercedLongOr(anyColumnIndex, -1L)).isEqualTo(1976L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void defaultCoercedLongOrReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("blah");
+
+        assertThat(resultSetEx.getCoercedLongOr(anyColumnName, -1L)).isEqualTo(-1L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void presentCoercedLongOrReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("1988");
+
+        assertThat(resultSetEx.getCoercedLongOr(anyColumnName, -1L)).isEqualTo(1988L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void coercedLongReadWithTypedGetterForIntegerColumn() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.INTEGER);
+        when(mockResultSet.getInt(anyInt())).thenReturn(1976);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        OptionalAssertions.assertThat(planned.getCoercedLong(anyColumnIndex)).isPresentAndEqualTo(1976L);
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getMetaData();
+        inOrder.verify(mockResultSet, times(1)).getInt(eq(anyColumnIndex));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void coercedDoubleOfRealColumnMatchesTheFloatGetObjectReturns() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.REAL);
+        when(mockResultSet.getFloat(anyInt())).thenReturn(0.1f);
+        when(mockResultSet.getDouble(anyInt())).thenReturn(0.1d);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        OptionalAssertions.assertThat(planned.getCoercedDouble(anyColumnIndex))
+                .isPresentAndEqualTo(Float.valueOf(0.1f).doubleValue());
+        assertThat(planned.getCoercedDoubleOr(anyColumnIndex, -1.0d)).isEqualTo(Float.valueOf(0.1f).doubleValue());
+        OptionalAssertions.assertThat(planned.getCoercedDouble(anyColumnIndex))
+                .isPresentAndEqualTo(Coercions.coerceToDouble(0.1f).get());
+
+        verify(mockResultSet, never()).getDouble(anyInt());
+    }
+
+    @Test
+    public void coercedBigDecimalOfIntegerColumnShared() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.INTEGER);
+        when(mockResultSet.getInt(anyInt())).thenReturn(7);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        assertThat(planned.getCoercedBigDecimal(anyColumnIndex).get()).isSameAs(BigDecimals.valueOf(7, 0));
+    }
+
+    @Test
+    public void coercedBigDecimalOfDecimalColumnReadWithGetBigDecimal() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.DECIMAL);
+        when(mockResultSet.getMetaData().getPrecision(anyInt())).thenReturn(9);
+        final BigDecimal value = new BigDecimal("1976");
+        when(mockResultSet.getBigDecimal(anyInt())).thenReturn(value);
+
+        assertThat(planned.getCoercedBigDecimal(anyColumnIndex).get()).isSameAs(value);
+
+        when(mockResultSet.getBigDecimal(anyInt())).thenReturn(null);
+        OptionalAssertions.assertThat(planned.getCoercedBigDecimal(anyColumnIndex)).isEmpty();
+        verify(mockResultSet, never()).getObject(anyInt());
+    }
+
+    @Test
+    public void emptyCoercedIntegerReadWithTypedGetterForNullBigintColumn() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.BIGINT);
+        when(mockResultSet.getLong(anyInt())).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        OptionalAssertions.assertThat(planned.getCoercedInteger(anyColumnIndex)).isEmpty();
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getMetaData();
+        inOrder.verify(mockResultSet, times(1)).getLong(eq(anyColumnIndex));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void coercedLocalDateReadWithTypedGetterForTimestampColumn() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.TIMESTAMP);
+        final LocalDateTime value = LocalDateTime.of(1976, 7, 4, 12, 0);
+        when(mockResultSet.getTimestamp(anyInt())).thenReturn(Timestamp.valueOf(value));
+
+        OptionalAssertions.assertThat(planned.getCoercedLocalDate(anyColumnIndex))
+                .isPresentAndEqualTo(value.toLocalDate());
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getMetaData();
+        inOrder.verify(mockResultSet, times(1)).getTimestamp(eq(anyColumnIndex));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void coercedLongReadWithGetObjectForVarcharColumn() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.VARCHAR);
+        when(mockResultSet.getObject(anyInt())).thenReturn("1976");
+
+        OptionalAssertions.assertThat(planned.getCoercedLong(anyColumnIndex)).isPresentAndEqualTo(1976L);
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getMetaData();
+        inOrder.verify(mockResultSet, times(1)).getObject(eq(anyColumnIndex));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void metaDataReadOnceForManyCoercions() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.DOUBLE);
+        when(mockResultSet.getDouble(anyInt())).thenReturn(19.76d);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        assertThat(planned.getCoercedDoubleOr(anyColumnIndex, -1.0d)).isEqualTo(19.76d);
+        assertThat(planned.getCoercedIntOr(anyColumnIndex, -1)).isEqualTo(19);
+        OptionalAssertions.assertThat(planned.getCoercedShort(anyColumnIndex)).isPresentAndEqualTo((short) 19);
+
+        verify(mockResultSet, times(1)).getMetaData();
+        verify(mockResultSet, times(3)).getDouble(eq(anyColumnIndex));
+    }
+
     @Test
     public void emptyCoercedShortReturnedByIndex() throws SQLException {
         when(mockResultSet.getObject(anyInt())).thenReturn(null);
@@ -601,6 +818,556 @@ public class ResultSetExImplTest {
         verify(mockResultSet, only()).getObject(eq(anyColumnName));
     }
 
+    @Test
+    public void emptyCoercedUUIDReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn(null);
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedUUID(anyColumnIndex)).isEmpty();
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void presentCoercedUUIDReturnedByName() throws SQLException {
+        final UUID value = UUID.randomUUID();
+        when(mockResultSet.getObject(anyString())).thenReturn(value.toString());
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedUUID(anyColumnName)).isPresentAndEqualTo(value);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void coercedLongTriedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn("1976");
+        final CoercionResult<Long> result = new CoercionResult<>();
+
+        assertThat(resultSetEx.tryCoerceLong(anyColumnIndex, result)).isSameAs(result);
+        assertThat(result.get()).isEqualTo(1976L);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void nullCoercedUUIDTriedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn(null);
+        final CoercionResult<UUID> result = new CoercionResult<>();
+
+        assertThat(resultSetEx.tryCoerceUUID(anyColumnName, result).isNull()).isTrue();
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void failedCoercedLocalDateTriedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("07/04/1976");
+        final CoercionResult<LocalDate> result = new CoercionResult<>();
+
+        assertThat(resultSetEx.tryCoerceLocalDate(anyColumnName, result).getFailure())
+                .isEqualTo(CoercionResult.Failure.INVALID_VALUE);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void temporalCacheOffByDefault() throws SQLException {
+        assertThat(resultSetEx.getTemporalCache()).isNull();
+    }
+
+    @Test
+    public void cachedLocalDateReturnedByIndex() throws SQLException {
+        when(mockResultSet.getDate(anyInt())).thenReturn(Date.valueOf("1976-07-04"), Date.valueOf("1976-07-04"));
+        resultSetEx.setTemporalCache(TemporalCache.create());
+
+        final LocalDate first = resultSetEx.getLocalDate(anyColumnIndex);
+        assertThat(first).isEqualTo(LocalDate.of(1976, 7, 4));
+        OptionalAssertions.assertThat(resultSetEx.getOptionalLocalDate(anyColumnIndex)).isPresentAndSameAs(first);
+
+        verify(mockResultSet, times(2)).getDate(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void cachedLocalDateTimeReturnedByName() throws SQLException {
+        when(mockResultSet.getTimestamp(anyString()))
+                .thenReturn(Timestamp.valueOf("1976-07-04 12:00:00"), Timestamp.valueOf("1976-07-04 12:00:00"), null);
+        resultSetEx.setTemporalCache(TemporalCache.create());
+
+        final LocalDateTime first = resultSetEx.getLocalDateTime(anyColumnName);
+        OptionalAssertions.assertThat(resultSetEx.getOptionalLocalDateTime(anyColumnName)).isPresentAndSameAs(first);
+        OptionalAssertions.assertThat(resultSetEx.getOptionalLocalDateTime(anyColumnName)).isEmpty();
+    }
+
+    @Test
+    public void cachedCoercedInstantReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString())).thenReturn("1976-07-04T12:00:00Z", "1976-07-04T12:00:00Z");
+        resultSetEx.setTemporalCache(TemporalCache.create());
+
+        final Instant first = resultSetEx.getCoercedInstant(anyColumnName).get();
+        OptionalAssertions.assertThat(resultSetEx.getCoercedInstant(anyColumnName)).isPresentAndSameAs(first);
+    }
+
+    @Test
+    public void cachedCoercedLocalDateReturnedByIndexFromDateColumn() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.DATE);
+        when(mockResultSet.getDate(anyInt())).thenReturn(Date.valueOf("1976-07-04"), Date.valueOf("1976-07-04"));
+        planned.setTemporalCache(TemporalCache.create());
+
+        final LocalDate first = planned.getCoercedLocalDate(anyColumnIndex).get();
+        OptionalAssertions.assertThat(planned.getCoercedLocalDate(anyColumnIndex)).isPresentAndSameAs(first);
+        verify(mockResultSet, times(2)).getDate(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void offsetDateTimeReadThroughDriverByIndex() throws SQLException {
+        final OffsetDateTime value = OffsetDateTime.of(1976, 7, 4, 8, 0, 0, 0, ZoneOffset.ofHours(-4));
+        when(mockResultSet.getObject(anyInt(), eq(OffsetDateTime.class))).thenReturn(value);
+
+        OptionalAssertions.assertThat(resultSetEx.getOptionalOffsetDateTime(anyColumnIndex)).isPresentAndSameAs(value);
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex), eq(OffsetDateTime.class));
+    }
+
+    @Test
+    public void offsetDateTimeReadFromTimestampWhenDriverCannotByName() throws SQLException {
+        final Timestamp timestamp = Timestamp.valueOf("1976-07-04 12:00:00");
+        when(mockResultSet.getObject(anyString(), eq(OffsetDateTime.class)))
+                .thenThrow(new SQLFeatureNotSupportedException());
+        when(mockResultSet.getTimestamp(anyString())).thenReturn(timestamp, (Timestamp) null);
+
+        OptionalAssertions.assertThat(resultSetEx.getOptionalOffsetDateTime(anyColumnName))
+                .isPresentAndEqualTo(timestamp.toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        OptionalAssertions.assertThat(resultSetEx.getOptionalOffsetDateTime(anyColumnName)).isEmpty();
+
+        // the driver is only asked once
+        verify(mockResultSet, times(1)).getObject(eq(anyColumnName), eq(OffsetDateTime.class));
+        verify(mockResultSet, times(2)).getTimestamp(eq(anyColumnName));
+    }
+
+    @Test
+    public void offsetDateTimeInZoneReturnedByIndex() throws SQLException {
+        final OffsetDateTime value = OffsetDateTime.of(1976, 7, 4, 12, 0, 0, 0, ZoneOffset.UTC);
+        when(mockResultSet.getObject(anyInt(), eq(OffsetDateTime.class))).thenReturn(value);
+        final ZoneId newYork = ZoneId.of("America/New_York");
+
+        OptionalAssertions.assertThat(resultSetEx.getOptionalOffsetDateTime(anyColumnIndex, newYork))
+                .isPresentAndEqualTo(OffsetDateTime.of(1976, 7, 4, 8, 0, 0, 0, ZoneOffset.ofHours(-4)));
+        OptionalAssertions.assertThat(resultSetEx.getOptionalZonedDateTime(anyColumnIndex, newYork))
+                .isPresentAndEqualTo(value.atZoneSameInstant(newYork));
+        OptionalAssertions.assertThat(resultSetEx.getOptionalZonedDateTime(anyColumnIndex))
+                .isPresentAndEqualTo(value.toZonedDateTime());
+    }
+
+    @Test
+    public void emptyZonedDateTimeReturnedByName() throws SQLException {
+        when(mockResultSet.getObject(anyString(), eq(OffsetDateTime.class))).thenReturn(null);
+
+        OptionalAssertions.assertThat(resultSetEx.getOptionalZonedDateTime(anyColumnName, ZoneOffset.UTC)).isEmpty();
+    }
+
+    @Test
+    public void presentCoercedOffsetDateTimeReturnedByIndex() throws SQLException {
+        when(mockResultSet.getObject(anyInt())).thenReturn("1976-07-04T12:00:00Z");
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedOffsetDateTime(anyColumnIndex))
+                .isPresentAndEqualTo(OffsetDateTime.of(1976, 7, 4, 12, 0, 0, 0, ZoneOffset.UTC));
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void presentCoercedZonedDateTimeReturnedByName() throws SQLException {
+        final OffsetDateTime value = OffsetDateTime.of(1976, 7, 4, 12, 0, 0, 0, ZoneOffset.UTC);
+        when(mockResultSet.getObject(anyString())).thenReturn(value);
+
+        OptionalAssertions.assertThat(resultSetEx.getCoercedZonedDateTime(anyColumnName))
+                .isPresentAndEqualTo(value.toZonedDateTime());
+
+        verify(mockResultSet, only()).getObject(eq(anyColumnName));
+    }
+
+    @Test
+    public void intArrayReturnedByIndex() throws SQLException {
+        final Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Integer[] { 1, 2 });
+        when(mockResultSet.getArray(anyInt())).thenReturn(array);
+
+        assertThat(resultSetEx.getIntArray(anyColumnIndex)).containsExactly(1, 2);
+
+        verify(mockResultSet, only()).getArray(eq(anyColumnIndex));
+        verify(array).free();
+    }
+
+    @Test
+    public void nullStringArrayReturnedByName() throws SQLException {
+        when(mockResultSet.getArray(anyString())).thenReturn(null);
+
+        assertThat(resultSetEx.getStringArray(anyColumnName)).isNull();
+        assertThat(resultSetEx.getStringArray(anyColumnName, new String[1])).isEqualTo(-1);
+
+        verify(mockResultSet, times(2)).getArray(eq(anyColumnName));
+    }
+
+    @Test
+    public void longArrayReadIntoBufferByName() throws SQLException {
+        final Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Object[] { 5L, "6" });
+        when(mockResultSet.getArray(anyString())).thenReturn(array);
+        final long[] buffer = new long[3];
+
+        assertThat(resultSetEx.getLongArray(anyColumnName, buffer)).isEqualTo(2);
+        assertThat(buffer).containsExactly(5L, 6L, 0L);
+
+        verify(array).free();
+    }
+
+    @Test
+    public void localDateReadNativelyFromJdbc42Driver() throws SQLException {
+        final LocalDate value = LocalDate.of(1976, 7, 4);
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.DATE);
+        when(mockResultSet.getObject(anyInt(), eq(LocalDate.class))).thenReturn(value);
+
+        assertThat(planned.getLocalDate(anyColumnIndex)).isSameAs(value);
+        OptionalAssertions.assertThat(planned.getOptionalLocalDate(anyColumnIndex)).isPresentAndSameAs(value);
+
+        verify(mockResultSet, times(2)).getObject(eq(anyColumnIndex), eq(LocalDate.class));
+        verify(mockResultSet, never()).getDate(anyInt());
+    }
+
+    @Test
+    public void localDateTimeReadLegacyFromJdbc41Driver() throws SQLException {
+        final LocalDateTime value = LocalDateTime.of(1976, 7, 4, 12, 0);
+        withJdbcVersion(4, 1);
+        when(mockResultSet.getTimestamp(anyString())).thenReturn(Timestamp.valueOf(value));
+
+        assertThat(resultSetEx.getLocalDateTime(anyColumnName)).isEqualTo(value);
+
+        verify(mockResultSet, never()).getObject(anyString(), eq(LocalDateTime.class));
+    }
+
+    @Test
+    public void localDateOfTimestampColumnReadLegacy() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.TIMESTAMP);
+        when(mockResultSet.getDate(anyInt())).thenReturn(Date.valueOf("1976-07-04"));
+
+        assertThat(planned.getLocalDate(anyColumnIndex)).isEqualTo(LocalDate.of(1976, 7, 4));
+
+        verify(mockResultSet, never()).getObject(anyInt(), eq(LocalDate.class));
+    }
+
+    @Test
+    public void unsupportedLocalTimeRememberedForResultSetClass() throws SQLException {
+        withJdbcVersion(4, 2);
+        when(mockResultSet.getObject(anyInt(), eq(LocalTime.class))).thenThrow(new SQLFeatureNotSupportedException());
+        when(mockResultSet.getTime(anyInt())).thenReturn(Time.valueOf("12:34:56"));
+
+        assertThat(withColumnType(Types.TIME).getLocalTime(anyColumnIndex)).isEqualTo(LocalTime.of(12, 34, 56));
+        OptionalAssertions.assertThat(withColumnType(Types.TIME).getOptionalLocalTime(anyColumnIndex))
+                .isPresentAndEqualTo(LocalTime.of(12, 34, 56));
+
+        verify(mockResultSet, times(1)).getObject(eq(anyColumnIndex), eq(LocalTime.class));
+        verify(mockResultSet, times(2)).getTime(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void columnTheDriverCannotReadNativelyReadLegacy() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.DATE);
+        when(mockResultSet.getObject(anyInt(), eq(LocalDate.class))).thenThrow(new SQLDataException("not a date"));
+        when(mockResultSet.getDate(anyInt())).thenReturn(Date.valueOf("1976-07-04"));
+
+        assertThat(planned.getLocalDate(anyColumnIndex)).isEqualTo(LocalDate.of(1976, 7, 4));
+        assertThat(planned.getLocalDate(anyColumnIndex)).isEqualTo(LocalDate.of(1976, 7, 4));
+
+        verify(mockResultSet, times(1)).getObject(eq(anyColumnIndex), eq(LocalDate.class));
+        verify(mockResultSet, times(2)).getDate(eq(anyColumnIndex));
+    }
+
+    @Test
+    public void timestamptzColumnPgJdbcRejectsReadLegacy() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.TIMESTAMP);
+        when(mockResultSet.getObject(anyInt(), eq(LocalDateTime.class)))
+                .thenThrow(new SQLException("Cannot convert the column of type TIMESTAMPTZ to requested type "
+                                                    + "java.time.LocalDateTime.", "42821"));
+        when(mockResultSet.getTimestamp(anyInt())).thenReturn(Timestamp.valueOf("1976-07-04 12:00:00"));
+
+        assertThat(planned.getLocalDateTime(anyColumnIndex)).isEqualTo(LocalDateTime.of(1976, 7, 4, 12, 0));
+        assertThat(planned.getLocalDateTime(anyColumnIndex)).isEqualTo(LocalDateTime.of(1976, 7, 4, 12, 0));
+
+        verify(mockResultSet, times(1)).getObject(eq(anyColumnIndex), eq(LocalDateTime.class));
+    }
+
+    @Test
+    public void columnMySqlRejectsReadLegacy() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.TIME);
+        when(mockResultSet.getObject(anyInt(), eq(LocalTime.class)))
+                .thenThrow(new SQLException("Conversion not supported for type java.time.LocalTime", "S1009"));
+        when(mockResultSet.getTime(anyInt())).thenReturn(Time.valueOf("12:34:56"));
+
+        OptionalAssertions.assertThat(planned.getOptionalLocalTime(anyColumnIndex))
+                .isPresentAndEqualTo(LocalTime.of(12, 34, 56));
+    }
+
+    @Test
+    public void nativeReadConnectionFailureRethrown() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.DATE);
+        final SQLException connectionLost = new SQLException("connection lost", "08006");
+        when(mockResultSet.getObject(anyInt(), eq(LocalDate.class))).thenThrow(connectionLost, new SQLDataException());
+        when(mockResultSet.getDate(anyInt())).thenReturn(Date.valueOf("1976-07-04"));
+
+        SQLException thrown = null;
+        try {
+            planned.getLocalDate(anyColumnIndex);
+        }
+        catch (SQLException ex) {
+            thrown = ex;
+        }
+        assertThat((Throwable) thrown).isSameAs(connectionLost);
+        verify(mockResultSet, never()).getDate(anyInt());
+
+        // still read natively, so the next failure falls back
+        assertThat(planned.getLocalDate(anyColumnIndex)).isEqualTo(LocalDate.of(1976, 7, 4));
+        verify(mockResultSet, times(2)).getObject(eq(anyColumnIndex), eq(LocalDate.class));
+    }
+
+    @Test
+    public void offsetDateTimeReadLegacyWhenTheColumnCannotBeConverted() throws SQLException {
+        withJdbcVersion(4, 2);
+        when(mockResultSet.getObject(anyInt(), eq(OffsetDateTime.class))).thenThrow(new SQLDataException());
+        when(mockResultSet.getTimestamp(anyInt())).thenReturn(Timestamp.valueOf("1976-07-04 12:00:00"));
+
+        OptionalAssertions.assertThat(resultSetEx.getOptionalOffsetDateTime(anyColumnIndex)).isPresent();
+        verify(mockResultSet).getTimestamp(anyColumnIndex);
+    }
+
+    @Test
+    public void nativeLocalDateTimeCanonicalizedByTemporalCache() throws SQLException {
+        withJdbcVersion(4, 2);
+        final ResultSetEx planned = withColumnType(Types.TIMESTAMP);
+        when(mockResultSet.getObject(anyInt(), eq(LocalDateTime.class)))
+                .thenReturn(LocalDateTime.of(1976, 7, 4, 12, 0), LocalDateTime.of(1976, 7, 4, 12, 0));
+        planned.setTemporalCache(TemporalCache.create());
+
+        assertThat(planned.getLocalDateTime(anyColumnIndex))
+                .isSameAs(planned.getLocalDateTime(anyColumnIndex));
+    }
+
+    @Test
+    public void clobReadAsStringByIndex() throws SQLException {
+        final Clob clob = mock(Clob.class);
+        when(clob.getCharacterStream()).thenReturn(new StringReader("some text"));
+        when(mockResultSet.getClob(anyInt())).thenReturn(clob);
+
+        assertThat(resultSetEx.getClobAsString(anyColumnIndex)).isEqualTo("some text");
+
+        verify(mockResultSet, only()).getClob(eq(anyColumnIndex));
+        verify(clob).free();
+    }
+
+    @Test
+    public void nullNClobReadAsStringByName() throws SQLException {
+        when(mockResultSet.getNClob(anyString())).thenReturn(null);
+
+        assertThat(resultSetEx.getNClobAsString(anyColumnName)).isNull();
+
+        verify(mockResultSet, only()).getNClob(eq(anyColumnName));
+    }
+
+    @Test
+    public void clobReadIntoBuilderByName() throws SQLException {
+        final Clob clob = mock(Clob.class);
+        when(clob.getCharacterStream()).thenReturn(new StringReader("text"));
+        when(mockResultSet.getClob(anyString())).thenReturn(clob);
+        final StringBuilder text = new StringBuilder();
+
+        assertThat(resultSetEx.readClobInto(anyColumnName, text)).isEqualTo(4);
+
+        assertThat(text.toString()).isEqualTo("text");
+        verify(clob).free();
+    }
+
+    @Test
+    public void nullClobReadIntoBufferByIndex() throws SQLException {
+        when(mockResultSet.getClob(anyInt())).thenReturn(null);
+
+        assertThat(resultSetEx.readClobInto(anyColumnIndex, CharBuffer.allocate(1))).isEqualTo(-1);
+    }
+
+    @Test
+    public void labelsReadByIndexOnceMetadataIsKnown() throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getColumnLabel(2)).thenReturn("name");
+        when(mockResultSet.getString(2)).thenReturn("value");
+        when(mockResultSet.getLong(1)).thenReturn(42L);
+        final ResultSetEx labelled = new ResultSetExImpl(mockResultSet);
+
+        assertThat(labelled.getString("NAME")).isEqualTo("value");
+        OptionalAssertions.assertThat(labelled.getOptionalLong("id")).isPresentAndEqualTo(42L);
+        assertThat(labelled.findColumn("Name")).isEqualTo(2);
+
+        verify(mockResultSet, times(1)).getMetaData();
+        verify(mockResultSet, never()).getString(anyString());
+        verify(mockResultSet, never()).getLong(anyString());
+        verify(mockResultSet, never()).findColumn(anyString());
+    }
+
+    @Test
+    public void unknownLabelLeftToDriver() throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(mockResultSet.getString("t.id")).thenReturn("qualified");
+        final ResultSetEx labelled = new ResultSetExImpl(mockResultSet);
+
+        assertThat(labelled.getString("t.id")).isEqualTo("qualified");
+    }
+
+    @Test
+    public void optionalLongOfNotNullColumnSkipsWasNull() throws SQLException {
+        final ResultSetEx planned =
+                withColumnType(Types.BIGINT, ResultSetMetaData.columnNoNulls, NotNullPolicy.TRUST_METADATA);
+        when(mockResultSet.getLong(anyInt())).thenReturn(0L);
+
+        OptionalAssertions.assertThat(planned.getOptionalLong(anyColumnIndex)).isPresentAndEqualTo(0L);
+        assertThat(planned.getIntOr(anyColumnIndex, -1)).isEqualTo(0);
+        OptionalAssertions.assertThat(planned.getCoercedLong(anyColumnIndex)).isPresentAndEqualTo(0L);
+
+        verify(mockResultSet, never()).wasNull();
+    }
+
+    @Test
+    public void optionalLongIgnoringNotNullReadsNoMetadata() throws SQLException {
+        final ResultSetEx unplanned = new ResultSetExImpl(mockResultSet);
+        when(mockResultSet.getLong(anyInt())).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        OptionalAssertions.assertThat(unplanned.getOptionalLong(anyColumnIndex)).isEmpty();
+
+        verify(mockResultSet, never()).getMetaData();
+    }
+
+    @Test
+    public void optionalLongOfNotNullColumnChecksWasNullUnlessTrusting() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.BIGINT, ResultSetMetaData.columnNoNulls);
+        when(mockResultSet.getLong(anyInt())).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        OptionalAssertions.assertThat(planned.getOptionalLong(anyColumnIndex)).isEmpty();
+
+        verify(mockResultSet).wasNull();
+    }
+
+    @Test
+    public void optionalLongOfNullableColumnChecksWasNull() throws SQLException {
+        final ResultSetEx planned = withColumnType(Types.BIGINT, ResultSetMetaData.columnNullableUnknown);
+        when(mockResultSet.getLong(anyInt())).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        OptionalAssertions.assertThat(planned.getOptionalLong(anyColumnIndex)).isEmpty();
+        assertThat(planned.getOptionalLongPrimitive(anyColumnIndex).isPresent()).isFalse();
+
+        verify(mockResultSet, times(2)).wasNull();
+    }
+
+    @Test(expected = SQLException.class)
+    public void notNullColumnReadAsNullFailsWhenChecking() throws SQLException {
+        final ResultSetEx planned =
+                withColumnType(Types.INTEGER, ResultSetMetaData.columnNoNulls, NotNullPolicy.VERIFY_METADATA);
+        when(mockResultSet.getInt(anyInt())).thenReturn(0);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        planned.getOptionalInt(anyColumnIndex);
+    }
+
+    @Test
+    public void forEachRowVisitsEveryRowThenCloses() throws SQLException {
+        final InMemoryResultSet rows = new InMemoryResultSet(
+                new String[] { "id" }, new Object[] { 1L }, new Object[] { null }, new Object[] { 3L });
+        final List<Long> seen = new ArrayList<>();
+
+        final int count = new ResultSetExImpl(rows).forEachRow(row -> {
+            seen.add(row.isNull(1) ? null : row.getLong(1));
+            return true;
+        });
+
+        assertThat(count).isEqualTo(3);
+        assertThat(seen).containsExactly(1L, null, 3L);
+        assertThat(rows.isClosed()).isTrue();
+    }
+
+    @Test
+    public void forEachRowSumsAsRowConsumerShows() throws SQLException {
+        final InMemoryResultSet rows = new InMemoryResultSet(
+                new String[] { "id", "amount" }, new Object[] { 1L, 5L }, new Object[] { 2L, null },
+                new Object[] { 3L, 7L });
+
+        final long[] total = { 0L };
+        new ResultSetExImpl(rows).forEachRow(row -> {
+            total[0] += row.getLong(2);
+            return true;
+        });
+
+        assertThat(total[0]).isEqualTo(12L);
+    }
+
+    @Test
+    public void forEachRowStopsWhenConsumerSays() throws SQLException {
+        final InMemoryResultSet rows = new InMemoryResultSet(
+                new String[] { "id" }, new Object[] { 1L }, new Object[] { 2L }, new Object[] { 3L });
+
+        final int count = new ResultSetExImpl(rows).forEachRow(row -> row.getLong(1) < 2L);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(rows.isClosed()).isTrue();
+    }
+
+    @Test
+    public void forEachRowPassesOnExceptionAndCloses() throws SQLException {
+        final InMemoryResultSet rows = new InMemoryResultSet(new String[] { "id" }, new Object[] { 1L });
+        final SQLException thrown = new SQLException("from the consumer");
+
+        SQLException caught = null;
+        try {
+            new ResultSetExImpl(rows).forEachRow(row -> {
+                throw thrown;
+            });
+        }
+        catch (SQLException ex) {
+            caught = ex;
+        }
+
+        assertThat((Throwable) caught).isSameAs(thrown);
+        assertThat(rows.isClosed()).isTrue();
+    }
+
+    @Test
+    public void forEachRowKeepsCloseFailureAsSuppressed() throws SQLException {
+        final SQLException failed = new SQLException("next");
+        final SQLException closeFailed = new SQLException("close");
+        when(mockResultSet.next()).thenThrow(failed);
+        doThrow(closeFailed).when(mockResultSet).close();
+
+        SQLException caught = null;
+        try {
+            resultSetEx.forEachRow(row -> true);
+        }
+        catch (SQLException ex) {
+            caught = ex;
+        }
+
+        assertThat((Throwable) caught).isSameAs(failed);
+        assertThat(caught.getSuppressed()).containsExactly(closeFailed);
+        verify(mockResultSet, times(1)).close();
+    }
+
     @Test
     public void nullInstantReturnedByIndex() throws SQLException {
         when(mockResultSet.getTimestamp(anyInt())).thenReturn(null);
@@ -1383,6 +2150,60 @@ public class ResultSetExImplTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void emptyOptionalIntPrimitiveReturnedByIndex() throws SQLException {
+        when(mockResultSet.getInt(anyInt())).thenReturn(0);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        assertThat(resultSetEx.getOptionalIntPrimitive(anyColumnIndex)).isEqualTo(OptionalInt.empty());
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getInt(eq(anyColumnIndex));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void presentOptionalIntPrimitiveReturnedByName() throws SQLException {
+        final int anyInt = RANDOM.nextInt();
+        when(mockResultSet.getInt(anyString())).thenReturn(anyInt);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        assertThat(resultSetEx.getOptionalIntPrimitive(anyColumnName)).isEqualTo(OptionalInt.of(anyInt));
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getInt(eq(anyColumnName));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void defaultIntOrReturnedByIndex() throws SQLException {
+        when(mockResultSet.getInt(anyInt())).thenReturn(0);
+        when(mockResultSet.wasNull()).thenReturn(IS_NULL);
+
+        assertThat(resultSetEx.getIntOr(anyColumnIndex, -1)).isEqualTo(-1);
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getInt(eq(anyColumnIndex));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void presentIntOrReturnedByName() throws SQLException {
+        final int anyInt = RANDOM.nextInt();
+        when(mockResultSet.getInt(anyString())).thenReturn(anyInt);
+        when(mockResultSet.wasNull()).thenReturn(IS_NOT_NULL);
+
+        assertThat(resultSetEx.getIntOr(anyColumnName, -1)).isEqualTo(anyInt);
+
+        final InOrder inOrder = inOrder(mockResultSet);
+        inOrder.verify(mockResultSet, times(1)).getInt(eq(anyColumnName));
+        inOrder.verify(mockResultSet, times(1)).wasNull();
+        inOrder.verifyNoMoreInteractions();
+    }
+
     @Test
     public void emptyOptionalLocalDateReturnedByIndex() throws SQLException {
         when(mockResultSet.getDate(anyInt())).thenReturn(null);
@@ -2316,6 +3137,38 @@ public class ResultSetExImplTest {
     }
 
     private static final boolean IS_NOT_NULL = false;
+    /** Makes {@link #mockResultSet} report a driver of the given JDBC version, and probes it. */
+    private void withJdbcVersion(final int major, final int minor) throws SQLException {
+        final Statement statement = mock(Statement.class);
+        final Connection connection = mock(Connection.class);
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(mockResultSet.getStatement()).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getJDBCMajorVersion()).thenReturn(major);
+        when(metaData.getJDBCMinorVersion()).thenReturn(minor);
+        JavaTimeSupport.probe(mockResultSet);
+    }
+
+    private ResultSetEx withColumnType(final int sqlType) throws SQLException {
+        return withColumnType(sqlType, ResultSetMetaData.columnNullable);
+    }
+
+    private ResultSetEx withColumnType(final int sqlType, final int nullable) throws SQLException {
+        return withColumnType(sqlType, nullable, NotNullPolicy.IGNORE_METADATA);
+    }
+
+    private ResultSetEx withColumnType(final int sqlType, final int nullable, final NotNullPolicy notNullPolicy)
+            throws SQLException {
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(anyColumnIndex);
+        when(metaData.getColumnType(anyInt())).thenReturn(sqlType);
+        when(metaData.isSigned(anyInt())).thenReturn(true);
+        when(metaData.isNullable(anyInt())).thenReturn(nullable);
+        when(mockResultSet.getMetaData()).thenReturn(metaData);
+        return new ResultSetExImpl(mockResultSet, notNullPolicy);
+    }
+
     private static final boolean IS_NULL = true;
     private static final Random RANDOM = new Random();
 
@@ -0,0 +1,213 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.justrudd.jdbcex.ResultSetShape.Getter;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResultSetShapeTest {
+
+    @Before
+    public void beforeEachTest() throws SQLException {
+        mockResultSet = mock(ResultSet.class);
+        mockMetaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(1);
+        when(mockMetaData.isSigned(anyInt())).thenReturn(true);
+    }
+
+    @Test
+    public void signedIntegerTypesReadAsInt() throws SQLException {
+        assertThat(getterFor(Types.TINYINT)).isEqualTo(Getter.INT);
+        assertThat(getterFor(Types.SMALLINT)).isEqualTo(Getter.INT);
+        assertThat(getterFor(Types.INTEGER)).isEqualTo(Getter.INT);
+        assertThat(getterFor(Types.BIGINT)).isEqualTo(Getter.LONG);
+    }
+
+    @Test
+    public void unsignedIntegerTypesAreWidened() throws SQLException {
+        when(mockMetaData.isSigned(anyInt())).thenReturn(false);
+
+        assertThat(getterFor(Types.INTEGER)).isEqualTo(Getter.LONG);
+        assertThat(getterFor(Types.BIGINT)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void integralDecimalsReadByPrecision() throws SQLException {
+        when(mockMetaData.getScale(anyInt())).thenReturn(0);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(9);
+        assertThat(getterFor(Types.NUMERIC)).isEqualTo(Getter.DECIMAL_INT);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(18);
+        assertThat(getterFor(Types.DECIMAL)).isEqualTo(Getter.DECIMAL_LONG);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(19);
+        assertThat(getterFor(Types.DECIMAL)).isEqualTo(Getter.OBJECT);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(0);
+        assertThat(getterFor(Types.NUMERIC)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void fractionalDecimalsReadAsObject() throws SQLException {
+        when(mockMetaData.getScale(anyInt())).thenReturn(2);
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(5);
+
+        assertThat(getterFor(Types.DECIMAL)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void onlySingleBitsReadAsBoolean() throws SQLException {
+        assertThat(getterFor(Types.BOOLEAN)).isEqualTo(Getter.BOOLEAN);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(1);
+        assertThat(getterFor(Types.BIT)).isEqualTo(Getter.BOOLEAN);
+
+        when(mockMetaData.getPrecision(anyInt())).thenReturn(8);
+        assertThat(getterFor(Types.BIT)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void otherTypesReadAsThemselves() throws SQLException {
+        assertThat(getterFor(Types.REAL)).isEqualTo(Getter.FLOAT);
+        assertThat(getterFor(Types.FLOAT)).isEqualTo(Getter.DOUBLE);
+        assertThat(getterFor(Types.DOUBLE)).isEqualTo(Getter.DOUBLE);
+        assertThat(getterFor(Types.DATE)).isEqualTo(Getter.DATE);
+        assertThat(getterFor(Types.TIME)).isEqualTo(Getter.TIME);
+        assertThat(getterFor(Types.TIMESTAMP)).isEqualTo(Getter.TIMESTAMP);
+        assertThat(getterFor(Types.VARCHAR)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void columnsOutOfRangeReadAsObject() throws SQLException {
+        when(mockMetaData.getColumnType(anyInt())).thenReturn(Types.INTEGER);
+        final ResultSetShape shape = ResultSetShape.of(mockResultSet);
+
+        assertThat(shape.getter(0)).isEqualTo(Getter.OBJECT);
+        assertThat(shape.getter(2)).isEqualTo(Getter.OBJECT);
+    }
+
+    @Test
+    public void unknownWhenMetaDataIsUnavailable() throws SQLException {
+        when(mockResultSet.getMetaData()).thenReturn(null);
+        assertThat(ResultSetShape.of(mockResultSet)).isSameAs(ResultSetShape.UNKNOWN);
+
+        when(mockResultSet.getMetaData()).thenThrow(new SQLException());
+        assertThat(ResultSetShape.of(mockResultSet)).isSameAs(ResultSetShape.UNKNOWN);
+    }
+
+    @Test
+    public void labelsFoundIgnoringCase() throws SQLException {
+        final ResultSetShape shape = withLabels("id", "Name", null);
+
+        assertThat(shape.columnIndex("id")).isEqualTo(1);
+        assertThat(shape.columnIndex("ID")).isEqualTo(1);
+        assertThat(shape.columnIndex("name")).isEqualTo(2);
+        assertThat(shape.columnIndex("missing")).isEqualTo(0);
+        assertThat(shape.columnIndex(null)).isEqualTo(0);
+    }
+
+    @Test
+    public void firstColumnWithALabelWins() throws SQLException {
+        final ResultSetShape shape = withLabels("ID", "x", "id", "X");
+
+        assertThat(shape.columnIndex("ID")).isEqualTo(1);
+        assertThat(shape.columnIndex("id")).isEqualTo(1);
+        assertThat(shape.columnIndex("X")).isEqualTo(2);
+    }
+
+    @Test
+    public void unknownShapeLeavesLabelsToTheDriver() {
+        assertThat(ResultSetShape.UNKNOWN.columnIndex("id")).isEqualTo(0);
+    }
+
+    @Test
+    public void notNullColumnsFromMetadata() throws SQLException {
+        when(mockMetaData.getColumnCount()).thenReturn(3);
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+        when(mockMetaData.isNullable(2)).thenReturn(ResultSetMetaData.columnNullable);
+        when(mockMetaData.isNullable(3)).thenReturn(ResultSetMetaData.columnNullableUnknown);
+
+        final ResultSetShape shape = ResultSetShape.of(mockResultSet, NotNullPolicy.TRUST_METADATA);
+
+        assertThat(shape.isNotNull(1)).isTrue();
+        assertThat(shape.isNotNull(2)).isFalse();
+        assertThat(shape.isNotNull(3)).isFalse();
+        assertThat(shape.isNotNull(0)).isFalse();
+        assertThat(shape.isNotNull(4)).isFalse();
+        assertThat(shape.trusts(1)).isTrue();
+        assertThat(shape.notNullPolicy()).isEqualTo(NotNullPolicy.TRUST_METADATA);
+    }
+
+    @Test
+    public void notNullColumnsVerifiedNotTrusted() throws SQLException {
+        when(mockMetaData.getColumnCount()).thenReturn(1);
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+
+        final ResultSetShape shape = ResultSetShape.of(mockResultSet, NotNullPolicy.VERIFY_METADATA);
+
+        assertThat(shape.isNotNull(1)).isTrue();
+        assertThat(shape.trusts(1)).isFalse();
+    }
+
+    @Test
+    public void notNullColumnsNotTrustedByDefault() throws SQLException {
+        when(mockMetaData.getColumnCount()).thenReturn(1);
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+
+        assertThat(ResultSetShape.of(mockResultSet).isNotNull(1)).isFalse();
+        verify(mockMetaData, never()).isNullable(1);
+    }
+
+    @Test
+    public void unreadableNullabilityKeepsTheShape() throws SQLException {
+        when(mockMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(mockMetaData.isNullable(1)).thenThrow(new SQLException("isNullable"));
+
+        final ResultSetShape shape = ResultSetShape.of(mockResultSet);
+
+        assertThat(shape.isNotNull(1)).isFalse();
+        assertThat(shape.getter(1)).isEqualTo(Getter.INT);
+    }
+
+    private ResultSetShape withLabels(final String... labels) throws SQLException {
+        when(mockMetaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(mockMetaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        return ResultSetShape.of(mockResultSet);
+    }
+
+    private Getter getterFor(final int sqlType) throws SQLException {
+        when(mockMetaData.getColumnType(anyInt())).thenReturn(sqlType);
+        return ResultSetShape.of(mockResultSet).getter(1);
+    }
+
+    private ResultSet mockResultSet;
+    private ResultSetMetaData mockMetaData;
+}
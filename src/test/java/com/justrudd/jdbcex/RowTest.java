@@ -0,0 +1,248 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RowTest {
+
+    @Before
+    public void beforeEachTest() throws SQLException {
+        mockResultSet = mock(ResultSet.class);
+        mockMetaData = mock(ResultSetMetaData.class);
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(3);
+        when(mockMetaData.isSigned(anyInt())).thenReturn(true);
+        when(mockMetaData.isNullable(anyInt())).thenReturn(ResultSetMetaData.columnNullable);
+        column(1, "ID", Types.BIGINT);
+        column(2, "QTY", Types.VARCHAR);
+        column(3, "DAY", Types.DATE);
+        resultSetEx = new ResultSetExImpl(mockResultSet);
+    }
+
+    @Test
+    public void viewIsReusedAcrossRows() throws SQLException {
+        final ResultSetEx resultSet = new ResultSetExImpl(new InMemoryResultSet(
+                new String[] { "id", "name" },
+                new Object[] { 1L, "one" },
+                new Object[] { 2L, null }));
+
+        final Row row = resultSet.row();
+
+        assertThat(resultSet.next()).isTrue();
+        assertThat(row.getLong("id")).isEqualTo(1L);
+        OptionalAssertions.assertThat(row.getOptionalString(2)).isPresentAndEqualTo("one");
+
+        assertThat(resultSet.next()).isTrue();
+        assertThat(resultSet.row()).isSameAs(row);
+        assertThat(row.getLong(1)).isEqualTo(2L);
+        assertThat(row.isNull("name")).isTrue();
+        OptionalAssertions.assertThat(row.getOptionalString("name")).isEmpty();
+    }
+
+    @Test
+    public void viewReadsLikeTheResultSet() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(42L);
+        when(mockResultSet.getObject(2)).thenReturn("12");
+
+        final Row row = resultSetEx.row();
+
+        assertThat(row.getLongOr("id", -1L)).isEqualTo(42L);
+        assertThat(row.getCoercedIntOr(2, -1)).isEqualTo(12);
+        OptionalAssertions.assertThat(row.getCoerced("QTY", BigDecimal.class)).isPresentAndEqualTo(new BigDecimal("12"));
+    }
+
+    @Test
+    public void isNullReadsNumbersWithoutBoxing() throws SQLException {
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        assertThat(resultSetEx.row().isNull(1)).isTrue();
+
+        verify(mockResultSet, never()).getObject(1);
+    }
+
+    @Test
+    public void isNullOfNotNullColumnReadsNothing() throws SQLException {
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+
+        assertThat(new ResultSetExImpl(mockResultSet, NotNullPolicy.TRUST_METADATA).row().isNull(1)).isFalse();
+
+        verify(mockResultSet, never()).getLong(1);
+        verify(mockResultSet, never()).wasNull();
+    }
+
+    @Test(expected = SQLException.class)
+    public void isNullOfNotNullColumnReadsWhenChecking() throws SQLException {
+        when(mockMetaData.isNullable(1)).thenReturn(ResultSetMetaData.columnNoNulls);
+        when(mockResultSet.getLong(1)).thenReturn(0L);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        new ResultSetExImpl(mockResultSet, NotNullPolicy.VERIFY_METADATA).row().isNull(1);
+    }
+
+    @Test
+    public void copyKeepsTheValuesOfItsRow() throws SQLException {
+        when(mockResultSet.getObject(1)).thenReturn(7L);
+        when(mockResultSet.getString(1)).thenReturn("7");
+        when(mockResultSet.getObject(2)).thenReturn("12");
+        when(mockResultSet.getObject(3)).thenReturn(Date.valueOf("1976-07-04"));
+        when(mockResultSet.getString(3)).thenReturn("07/04/1976");
+
+        final Row copy = resultSetEx.row().copy();
+        when(mockResultSet.getObject(anyInt())).thenReturn(null);
+        when(mockResultSet.getString(anyInt())).thenReturn(null);
+
+        assertThat(copy.copy()).isSameAs(copy);
+        assertThat(copy.getLong("id")).isEqualTo(7L);
+        assertThat(copy.getInt("qty")).isEqualTo(12);
+        assertThat(copy.getString(1)).isEqualTo("7");
+        assertThat(copy.getString(3)).isEqualTo("07/04/1976");
+        assertThat(copy.isNull(2)).isFalse();
+        OptionalAssertions.assertThat(copy.getOptionalLocalDate("day")).isPresentAndEqualTo(LocalDate.of(1976, 7, 4));
+        OptionalAssertions.assertThat(copy.getCoerced(2, BigDecimal.class)).isPresentAndEqualTo(new BigDecimal("12"));
+    }
+
+    @Test
+    public void copyReadsOutLobsArraysAndBinaryText() throws SQLException {
+        final byte[] bytes = { 0x0c, 0x0a };
+        final Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Long[] { 1L, 2L });
+        when(mockResultSet.getObject(1)).thenReturn(bytes);
+        when(mockResultSet.getString(1)).thenReturn("\\x0c0a");
+        when(mockResultSet.getObject(2)).thenReturn(new SerialClob("twelve".toCharArray()));
+        when(mockResultSet.getObject(3)).thenReturn(array);
+        when(mockResultSet.getString(3)).thenReturn("{1,2}");
+
+        final Row copy = resultSetEx.row().copy();
+
+        assertThat(copy.getObject(1)).isSameAs(bytes);
+        assertThat(copy.getString(1)).isEqualTo("\\x0c0a");
+        assertThat(copy.getObject(2)).isEqualTo("twelve");
+        assertThat(copy.getString(2)).isEqualTo("twelve");
+        assertThat((Object[]) copy.getObject(3)).containsExactly(1L, 2L);
+        assertThat(copy.getString(3)).isEqualTo("{1,2}");
+    }
+
+    @Test
+    public void copyReadsOutBlobs() throws SQLException {
+        when(mockResultSet.getObject(1)).thenReturn(new SerialBlob(new byte[] { 0x0c, 0x0a }));
+        when(mockResultSet.getString(1)).thenReturn("0c0a");
+
+        final Row copy = resultSetEx.row().copy();
+
+        assertThat((byte[]) copy.getObject(1)).containsExactly((byte) 0x0c, (byte) 0x0a);
+        assertThat(copy.getString(1)).isEqualTo("0c0a");
+    }
+
+    @Test
+    public void copyFreesBlobsAndArraysEvenIfReadingFails() throws SQLException {
+        final Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[] { 0x0c, 0x0a });
+        final Array array = mock(Array.class);
+        when(array.getArray()).thenThrow(new SQLException("gone"));
+        when(mockResultSet.getObject(1)).thenReturn(blob);
+        when(mockResultSet.getObject(3)).thenReturn(array);
+
+        SQLException thrown = null;
+        try {
+            resultSetEx.row().copy();
+        }
+        catch (final SQLException ex) {
+            thrown = ex;
+        }
+
+        assertThat((Throwable) thrown).hasMessage("gone");
+        verify(blob).free();
+        verify(array).free();
+    }
+
+    @Test
+    public void copyFailsTypedReadsAsTheDriverWould() throws SQLException {
+        when(mockResultSet.getObject(2)).thenReturn("abc");
+        when(mockResultSet.getString(2)).thenReturn("abc");
+
+        final Row copy = resultSetEx.row().copy();
+
+        SQLException thrown = null;
+        try {
+            copy.getIntOr(2, -1);
+        }
+        catch (final SQLException ex) {
+            thrown = ex;
+        }
+
+        assertThat((Throwable) thrown).isNotNull();
+        assertThat(copy.getCoercedIntOr(2, -1)).isEqualTo(-1);
+        assertThat(copy.getString(2)).isEqualTo("abc");
+    }
+
+    @Test
+    public void copyOfNullValues() throws SQLException {
+        final Row copy = resultSetEx.row().copy();
+
+        assertThat(copy.isNull("id")).isTrue();
+        assertThat(copy.getLong(1)).isEqualTo(0L);
+        assertThat(copy.getLongOr(1, -1L)).isEqualTo(-1L);
+        assertThat(copy.getBoolean(1)).isFalse();
+        assertThat(copy.getString(1)).isNull();
+        OptionalAssertions.assertThat(copy.getOptionalLong(1)).isEmpty();
+    }
+
+    @Test(expected = SQLException.class)
+    public void copyRejectsUnknownLabel() throws SQLException {
+        resultSetEx.row().copy().getObject("nope");
+    }
+
+    @Test(expected = SQLException.class)
+    public void copyRejectsIndexOutOfRange() throws SQLException {
+        resultSetEx.row().copy().getObject(4);
+    }
+
+    @Test(expected = SQLException.class)
+    public void rowOfUnknownShapeCannotBeCopied() throws SQLException {
+        new ResultSetExImpl(mockResultSet, ResultSetShape.UNKNOWN).row().copy();
+    }
+
+    private void column(final int columnIndex, final String label, final int sqlType) throws SQLException {
+        when(mockMetaData.getColumnLabel(columnIndex)).thenReturn(label);
+        when(mockMetaData.getColumnType(columnIndex)).thenReturn(sqlType);
+    }
+
+    private ResultSet mockResultSet;
+    private ResultSetMetaData mockMetaData;
+    private ResultSetEx resultSetEx;
+}
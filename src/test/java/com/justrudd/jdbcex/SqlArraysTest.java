@@ -0,0 +1,213 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SqlArraysTest {
+
+    @Before
+    public void setUp() {
+        mockArray = mock(Array.class);
+    }
+
+    @Test
+    public void nullArrayIsNull() throws SQLException {
+        assertThat(SqlArrays.toIntArray(null)).isNull();
+        assertThat(SqlArrays.toLongArray(null)).isNull();
+        assertThat(SqlArrays.toDoubleArray(null)).isNull();
+        assertThat(SqlArrays.toStringArray(null)).isNull();
+        assertThat(SqlArrays.readInts(null, new int[1])).isEqualTo(-1);
+        assertThat(SqlArrays.readLongs(null, new long[1])).isEqualTo(-1);
+        assertThat(SqlArrays.readDoubles(null, new double[1])).isEqualTo(-1);
+        assertThat(SqlArrays.readStrings(null, new String[1])).isEqualTo(-1);
+    }
+
+    @Test
+    public void arrayOfWantedTypeReturnedAsIs() throws SQLException {
+        final long[] values = { 1L, 2L, 3L };
+        when(mockArray.getArray()).thenReturn(values);
+
+        assertThat(SqlArrays.toLongArray(mockArray)).isSameAs(values);
+
+        verify(mockArray).free();
+    }
+
+    @Test
+    public void boxedElementsUnboxed() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Integer[] { 1, null, 3 });
+
+        assertThat(SqlArrays.toIntArray(mockArray)).containsExactly(1, 0, 3);
+
+        verify(mockArray).free();
+    }
+
+    @Test
+    public void mixedElementsCoerced() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Object[] { new BigDecimal("1.5"), "2.25", 3L });
+
+        assertThat(SqlArrays.toDoubleArray(mockArray)).containsExactly(1.5d, 2.25d, 3.0d);
+    }
+
+    @Test
+    public void zeroElementsCoerced() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Object[] { "0", 0L, BigDecimal.ZERO, 0.0d });
+
+        assertThat(SqlArrays.toLongArray(mockArray)).containsExactly(0L, 0L, 0L, 0L);
+    }
+
+    @Test(expected = SQLDataException.class)
+    public void uncoercibleElementRejected() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Object[] { "1", "abc" });
+
+        try {
+            SqlArrays.toIntArray(mockArray);
+        }
+        finally {
+            verify(mockArray).free();
+        }
+    }
+
+    @Test(expected = SQLDataException.class)
+    public void elementOfUnknownTypeRejectedWhenReadIntoBuffer() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Object[] { 1.5d, new Object() });
+
+        SqlArrays.readDoubles(mockArray, new double[2]);
+    }
+
+    @Test
+    public void primitiveElementsWidened() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new int[] { 1, 2 });
+
+        assertThat(SqlArrays.toLongArray(mockArray)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void otherPrimitiveElementsBoxedThenConverted() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new short[] { 1, 2 });
+
+        assertThat(SqlArrays.toIntArray(mockArray)).containsExactly(1, 2);
+        verify(mockArray).free();
+    }
+
+    @Test
+    public void elementsConvertedToStrings() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Object[] { "a", null, 3 });
+
+        assertThat(SqlArrays.toStringArray(mockArray)).containsExactly("a", null, "3");
+    }
+
+    @Test(expected = SQLException.class)
+    public void nonArrayRejected() throws SQLException {
+        when(mockArray.getArray()).thenReturn("not an array");
+
+        try {
+            SqlArrays.toIntArray(mockArray);
+        }
+        finally {
+            verify(mockArray).free();
+        }
+    }
+
+    @Test(expected = SQLException.class)
+    public void freedWhenReadingFails() throws SQLException {
+        when(mockArray.getArray()).thenThrow(new SQLException("boom"));
+
+        try {
+            SqlArrays.toStringArray(mockArray);
+        }
+        finally {
+            verify(mockArray).free();
+        }
+    }
+
+    @Test
+    public void unsupportedFreeIgnored() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new String[] { "a" });
+        doThrow(new SQLFeatureNotSupportedException()).when(mockArray).free();
+
+        assertThat(SqlArrays.toStringArray(mockArray)).containsExactly("a");
+    }
+
+    @Test
+    public void smallBufferFilledFromArray() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new Long[] { 1L, 2L, 3L });
+        final long[] buffer = new long[2];
+
+        assertThat(SqlArrays.readLongs(mockArray, buffer)).isEqualTo(2);
+        assertThat(buffer).containsExactly(1L, 2L);
+
+        verify(mockArray, never()).getResultSet();
+        verify(mockArray).free();
+    }
+
+    @Test
+    public void shortArrayPartlyFillsBuffer() throws SQLException {
+        when(mockArray.getArray()).thenReturn(new int[] { 7 });
+        final int[] buffer = { 0, 42 };
+
+        assertThat(SqlArrays.readInts(mockArray, buffer)).isEqualTo(1);
+        assertThat(buffer).containsExactly(7, 42);
+    }
+
+    @Test
+    public void largeBufferStreamedFromResultSet() throws SQLException {
+        final ResultSet rows = mock(ResultSet.class);
+        when(mockArray.getResultSet()).thenReturn(rows);
+        when(rows.next()).thenReturn(true, true, false);
+        when(rows.getDouble(2)).thenReturn(1.5d, 2.5d);
+        final double[] buffer = new double[SqlArrays.STREAMING_THRESHOLD + 1];
+
+        assertThat(SqlArrays.readDoubles(mockArray, buffer)).isEqualTo(2);
+        assertThat(buffer[0]).isEqualTo(1.5d);
+        assertThat(buffer[1]).isEqualTo(2.5d);
+
+        verify(mockArray, never()).getArray();
+        verify(rows).close();
+        verify(mockArray).free();
+    }
+
+    @Test
+    public void streamingStopsWhenBufferIsFull() throws SQLException {
+        final ResultSet rows = mock(ResultSet.class);
+        when(mockArray.getResultSet()).thenReturn(rows);
+        when(rows.next()).thenReturn(true);
+        when(rows.getString(2)).thenReturn("x");
+        final String[] buffer = new String[SqlArrays.STREAMING_THRESHOLD + 1];
+
+        assertThat(SqlArrays.readStrings(mockArray, buffer)).isEqualTo(buffer.length);
+        assertThat(buffer).containsOnly("x");
+
+        verify(rows).close();
+        verify(mockArray).free();
+    }
+
+    private Array mockArray;
+}
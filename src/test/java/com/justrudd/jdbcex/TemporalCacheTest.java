@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import org.junit.Test;
+
+public class TemporalCacheTest {
+
+    @Test
+    public void sameLocalDateReturnedForEqualDates() {
+        final LocalDate first = cache.localDate(Date.valueOf("1976-07-04"));
+        assertThat(first).isEqualTo(LocalDate.of(1976, 7, 4));
+        assertThat(cache.localDate(Date.valueOf("1976-07-04"))).isSameAs(first);
+    }
+
+    @Test
+    public void sameLocalDateReturnedForDatesOnTheSameDay() {
+        final Date midnight = Date.valueOf("1976-07-04");
+        final LocalDate first = cache.localDate(midnight);
+        assertThat(cache.localDate(new Date(midnight.getTime() + 1000))).isSameAs(first);
+        assertThat(cache.localDate(LocalDate.of(1976, 7, 4))).isSameAs(first);
+    }
+
+    @Test
+    public void sameLocalDateTimeReturnedForEqualTimestamps() {
+        final LocalDateTime first = cache.localDateTime(Timestamp.valueOf("1976-07-04 12:30:15"));
+        assertThat(first).isEqualTo(LocalDateTime.of(1976, 7, 4, 12, 30, 15));
+        assertThat(cache.localDateTime(Timestamp.valueOf("1976-07-04 12:30:15"))).isSameAs(first);
+        assertThat(cache.localDateTime(LocalDateTime.of(1976, 7, 4, 12, 30, 15))).isSameAs(first);
+    }
+
+    @Test
+    public void timestampsFinerThanTheGranularityNotCached() {
+        final Timestamp timestamp = Timestamp.valueOf("1976-07-04 12:30:15.5");
+        final LocalDateTime first = cache.localDateTime(timestamp);
+        assertThat(first).isEqualTo(timestamp.toLocalDateTime());
+        assertThat(cache.localDateTime(timestamp)).isNotSameAs(first);
+
+        final TemporalCache byMinute = TemporalCache.create(16, ChronoUnit.MINUTES);
+        final Timestamp onTheMinute = Timestamp.valueOf("1976-07-04 12:30:00");
+        assertThat(byMinute.instant(onTheMinute)).isSameAs(byMinute.instant(onTheMinute));
+        final Timestamp onTheSecond = Timestamp.valueOf("1976-07-04 12:30:15");
+        assertThat(byMinute.instant(onTheSecond)).isNotSameAs(byMinute.instant(onTheSecond));
+    }
+
+    @Test
+    public void sameInstantReturnedForEqualTimestamps() {
+        final Timestamp timestamp = Timestamp.from(Instant.parse("1976-07-04T12:30:15Z"));
+        final Instant first = cache.instant(timestamp);
+        assertThat(first).isEqualTo(Instant.parse("1976-07-04T12:30:15Z"));
+        assertThat(cache.instant(new Timestamp(timestamp.getTime()))).isSameAs(first);
+        assertThat(cache.instant(Instant.parse("1976-07-04T12:30:15Z"))).isSameAs(first);
+    }
+
+    @Test
+    public void nullsPassThrough() {
+        assertThat(cache.localDate((Date) null)).isNull();
+        assertThat(cache.localDate((LocalDate) null)).isNull();
+        assertThat(cache.localDateTime((Timestamp) null)).isNull();
+        assertThat(cache.localDateTime((LocalDateTime) null)).isNull();
+        assertThat(cache.instant((Timestamp) null)).isNull();
+        assertThat(cache.instant((Instant) null)).isNull();
+    }
+
+    @Test
+    public void extremeValuesPassThrough() {
+        assertThat(cache.instant(Instant.MAX)).isEqualTo(Instant.MAX);
+        assertThat(cache.localDateTime(LocalDateTime.MIN)).isEqualTo(LocalDateTime.MIN);
+    }
+
+    @Test
+    public void valuesMatchTheUncachedConversionsWhenEvicted() {
+        final TemporalCache tiny = TemporalCache.create(2, ChronoUnit.MILLIS);
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // a few hundred distinct instants, so entries are both hit and evicted
+            final Timestamp timestamp = new Timestamp(random.nextInt(300) * 86_400_000L - 5_000_000_000L);
+            if (random.nextBoolean()) {
+                timestamp.setNanos(timestamp.getNanos() + random.nextInt(3) * 1000);
+            }
+            final Date date = new Date(timestamp.getTime());
+            assertThat(tiny.localDate(date)).isEqualTo(date.toLocalDate());
+            assertThat(tiny.localDateTime(timestamp)).isEqualTo(timestamp.toLocalDateTime());
+            assertThat(tiny.instant(timestamp)).isEqualTo(timestamp.toInstant());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveSize() {
+        TemporalCache.create(0, ChronoUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSubMillisecondGranularity() {
+        TemporalCache.create(16, ChronoUnit.NANOS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsVariableGranularity() {
+        TemporalCache.create(16, ChronoUnit.MONTHS);
+    }
+
+    private final TemporalCache cache = TemporalCache.create();
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.Test;
+
+/*
+ * Every parser must agree with the java.time parse method it replaces: same value
+ * where the formatter succeeds, null where it throws.
+ */
+public class TemporalParsersTest {
+
+    @Test
+    public void localDateMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseLocalDate, LocalDate::parse);
+    }
+
+    @Test
+    public void localDateTimeMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseLocalDateTime, LocalDateTime::parse);
+    }
+
+    @Test
+    public void localTimeMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseLocalTime, LocalTime::parse);
+    }
+
+    @Test
+    public void instantMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseInstant, Instant::parse);
+    }
+
+    @Test
+    public void offsetDateTimeMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseOffsetDateTime, OffsetDateTime::parse);
+    }
+
+    @Test
+    public void zonedDateTimeMatchesJdk() {
+        assertMatchesJdk(TemporalParsers::parseZonedDateTime, ZonedDateTime::parse);
+    }
+
+    private static <T> void assertMatchesJdk(final Function<String, T> parser, final Function<String, T> jdk) {
+        for (final String s : inputs()) {
+            T expected;
+            try {
+                expected = jdk.apply(s);
+            }
+            catch (DateTimeParseException ex) {
+                expected = null;
+            }
+            assertThat(parser.apply(s)).as("parsing \"%s\"", s).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> inputs() {
+        final List<String> dates = Arrays.asList(
+                "1976-07-04", "0000-01-01", "9999-12-31", "2016-02-29", "2015-02-29", "2000-02-29",
+                "1900-02-29", "2015-04-31", "2015-13-01", "2015-00-01", "2015-01-00", "2015-1-01",
+                "2015/01/01", "+12015-01-01", "-0001-01-01", "12015-01-01", "2015-01-0a");
+        final List<String> times = Arrays.asList(
+                "12:00", "00:00:00", "23:59:59", "23:59:60", "24:00", "24:00:00", "12:60", "12:00:5",
+                "12:00:00.", "12:00:00.1", "12:00:00.123", "12:00:00.123456789", "12:00:00.1234567890",
+                "1:00", "12-00", "12:00:00,5", "12:00:0a");
+
+        final List<String> inputs = new ArrayList<>(Arrays.asList(
+                "", " ", "hello world", "T", "Z", "1976-07-04 12:00:00", "1976-07-04t12:00:00",
+                "1976-07-04T12:00:00z", "1976-07-04T12:00:00+01:00", "1976-07-04T",
+                "1976-07-04T12:00:00-04:00[America/New_York]", "1976-07-04T12:00:00Z[UTC]",
+                "1976-07-04T12:00:00+05:30:15", "1976-07-04T12:00:00+25:00", "1976-07-04T12:00:00[Europe/Paris]"));
+        inputs.addAll(dates);
+        inputs.addAll(times);
+        for (final String date : dates) {
+            for (final String time : times) {
+                inputs.add(date + "T" + time);
+                inputs.add(date + "T" + time + "Z");
+            }
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            final LocalDateTime dateTime = LocalDateTime.of(
+                    random.nextInt(10000), random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextBoolean() ? 0 : random.nextInt(1000000000));
+            inputs.add(dateTime.toString());
+            inputs.add(dateTime.toLocalDate().toString());
+            inputs.add(dateTime.toLocalTime().toString());
+            inputs.add(dateTime + "Z");
+        }
+        return inputs;
+    }
+}
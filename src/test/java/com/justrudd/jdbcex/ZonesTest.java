@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.justrudd.jdbcex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/*
+ * Every conversion must agree with the java.time method it replaces.
+ */
+public class ZonesTest {
+
+    @Test
+    public void offsetDateTimeMatchesJdk() {
+        for (final ZoneId zone : zones()) {
+            for (final Instant instant : instants()) {
+                assertThat(Zones.offsetDateTime(instant, zone)).as("%s in %s", instant, zone)
+                        .isEqualTo(OffsetDateTime.ofInstant(instant, zone));
+                final Timestamp timestamp = Timestamp.from(instant);
+                assertThat(Zones.offsetDateTime(timestamp, zone)).as("%s in %s", timestamp, zone)
+                        .isEqualTo(OffsetDateTime.ofInstant(timestamp.toInstant(), zone));
+            }
+        }
+    }
+
+    @Test
+    public void offsetDateTimeMovedToZoneMatchesJdk() {
+        for (final ZoneId zone : zones()) {
+            for (final Instant instant : instants()) {
+                final OffsetDateTime value = instant.atOffset(ZoneOffset.ofHours(3));
+                assertThat(Zones.offsetDateTime(value, zone)).as("%s in %s", value, zone)
+                        .isEqualTo(value.atZoneSameInstant(zone).toOffsetDateTime());
+            }
+        }
+    }
+
+    @Test
+    public void zonedDateTimeMatchesJdk() {
+        for (final ZoneId zone : zones()) {
+            for (final Instant instant : instants()) {
+                assertThat(Zones.zonedDateTime(instant, zone)).as("%s in %s", instant, zone)
+                        .isEqualTo(instant.atZone(zone));
+                final OffsetDateTime value = instant.atOffset(ZoneOffset.UTC);
+                assertThat(Zones.zonedDateTime(value, zone)).as("%s in %s", value, zone)
+                        .isEqualTo(value.atZoneSameInstant(zone));
+            }
+        }
+    }
+
+    @Test
+    public void nullTimestampIsNull() {
+        assertThat(Zones.offsetDateTime((Timestamp) null, ZoneOffset.UTC)).isNull();
+    }
+
+    @Test
+    public void rulesAreKept() {
+        final ZoneId zone = ZoneId.of("Europe/Paris");
+        assertThat(Zones.rules(zone)).isSameAs(Zones.rules(ZoneId.of("Europe/Paris")));
+    }
+
+    private static List<ZoneId> zones() {
+        final List<ZoneId> zones = new ArrayList<>();
+        zones.add(ZoneOffset.UTC);
+        zones.add(ZoneOffset.ofHoursMinutes(5, 30));
+        zones.add(ZoneId.of("UTC"));
+        zones.add(ZoneId.of("America/New_York"));
+        zones.add(ZoneId.of("Europe/London"));
+        zones.add(ZoneId.of("Australia/Lord_Howe"));
+        zones.add(ZoneId.of("Asia/Kathmandu"));
+        zones.add(ZoneId.systemDefault());
+        return zones;
+    }
+
+    private static List<Instant> instants() {
+        final List<Instant> instants = new ArrayList<>();
+        // either side of the 2016 transitions in New York and London
+        instants.add(Instant.parse("2016-03-13T06:59:59Z"));
+        instants.add(Instant.parse("2016-03-13T07:00:00Z"));
+        instants.add(Instant.parse("2016-10-30T00:59:59.999Z"));
+        instants.add(Instant.parse("2016-10-30T01:00:00Z"));
+        instants.add(Instant.parse("1969-12-31T23:59:59.5Z"));
+        instants.add(Instant.parse("1883-11-18T17:00:00Z"));
+        final Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            instants.add(Instant.ofEpochSecond(random.nextInt(), random.nextInt(1000000000)));
+        }
+        return instants;
+    }
+}
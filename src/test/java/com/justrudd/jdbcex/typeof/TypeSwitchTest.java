@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.justrudd.jdbcex.typeof;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+
+public class TypeSwitchTest {
+
+    @Test
+    public void firstMatchingCaseWins() {
+        assertThat(NUMBERS.apply(BigDecimal.ONE)).isEqualTo("BigDecimal");
+        assertThat(NUMBERS.apply(BigInteger.ONE)).isEqualTo("BigInteger");
+        assertThat(NUMBERS.apply(1L)).isEqualTo("Number");
+    }
+
+    @Test
+    public void laterCasesAreNotShadowedForUnrelatedTypes() {
+        assertThat(NUMBERS.apply("s")).isEqualTo("CharSequence");
+        assertThat(NUMBERS.apply(new StringBuilder("s"))).isEqualTo("CharSequence");
+    }
+
+    @Test
+    public void constantResultCase() {
+        assertThat(NUMBERS.apply(true)).isEqualTo("constant");
+    }
+
+    @Test
+    public void orElseAppliedWhenNoCaseMatches() {
+        assertThat(NUMBERS.apply(new Object())).isEqualTo("otherwise");
+    }
+
+    @Test
+    public void orElseAppliedToNull() {
+        assertThat(NUMBERS.apply(null)).isEqualTo("otherwise");
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void builtSwitchThrowsWhenNoCaseMatches() {
+        TypeSwitch.<Object, String>builder()
+                .is(Number.class, v -> "Number")
+                .build()
+                .apply("s");
+    }
+
+    @Test
+    public void handlesReportsWhetherACaseMatches() {
+        assertThat(NUMBERS.handles(Integer.class)).isTrue();
+        assertThat(NUMBERS.handles(String.class)).isTrue();
+        assertThat(NUMBERS.handles(Object.class)).isFalse();
+    }
+
+    @Test
+    public void resolvedCaseIsReusedForSameClass() {
+        assertThat(NUMBERS.apply(1)).isEqualTo("Number");
+        assertThat(NUMBERS.apply(2)).isEqualTo("Number");
+    }
+
+    @Test
+    public void resolveReturnsTheCaseApplyWouldUse() {
+        assertThat(NUMBERS.resolve(BigInteger.class).apply(BigInteger.TEN)).isEqualTo("BigInteger");
+        assertThat(NUMBERS.resolve(Long.class).apply(1L)).isEqualTo("Number");
+        assertThat(NUMBERS.resolve(Long.class)).isSameAs(NUMBERS.resolve(Integer.class));
+        assertThat(NUMBERS.resolve(Object.class).apply(new Object())).isEqualTo("otherwise");
+    }
+
+    private static final TypeSwitch<Object, String> NUMBERS =
+        TypeSwitch.<Object, String>builder()
+            .is(BigDecimal.class, v -> "BigDecimal")
+            .is(BigInteger.class, v -> "BigInteger")
+            .is(Number.class, v -> "Number")
+            .is(BigDecimal.class, v -> "unreachable")
+            .is(CharSequence.class, v -> "CharSequence")
+            .is(Boolean.class, "constant")
+            .orElse(v -> "otherwise");
+}